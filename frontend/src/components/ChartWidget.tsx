@@ -38,6 +38,11 @@ interface MouseMoveState {
 
 const supportedFromCodes = new Set(['USD', 'EUR', 'JPY', 'CNY', 'GBP']);
 const targetCurrencyCode = 'KRW';
+// 차트 폭 대비 충분한 포인트 수 (서버 다운샘플링 상한)
+const CHART_MAX_POINTS = 500;
+
+// 서버 공유 캐시로 조회하는 기간 프리셋 (최근 데이터 일자 기준 고정 구간)
+const PRESET_PERIODS = new Set(['1d', '1w', '1m', '3m', '1y', '5y']);
 
 const periodOptions = [
   { value: '1d', label: '1일' },
@@ -150,7 +155,14 @@ const ChartWidget: React.FC = () => {
     setError(null);
 
     try {
-      const response = await api.getExchangeHistory(fromCurrency, customRange.start, customRange.end);
+      const response = PRESET_PERIODS.has(selectedPeriod)
+        ? await api.getExchangeChartByPeriod(fromCurrency, selectedPeriod)
+        : await api.getExchangeHistory(
+          fromCurrency,
+          customRange.start,
+          customRange.end,
+          CHART_MAX_POINTS,
+        );
 
       const normalized: ExchangeRateChartResponse = {
         ...response,
@@ -220,7 +232,7 @@ const ChartWidget: React.FC = () => {
     } finally {
       setIsLoading(false);
     }
-  }, [applyFilters, computeStatistics, fromCurrency, customRange.start, customRange.end]);
+  }, [applyFilters, computeStatistics, fromCurrency, selectedPeriod, customRange.start, customRange.end]);
 
   useEffect(() => {
     void loadChartData();
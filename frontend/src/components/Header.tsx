@@ -18,10 +18,10 @@ const Header: React.FC = () => {
   useEffect(() => {
     const fetchLiveRates = async () => {
       try {
-        const currentRates = await api.getCurrentRates();
+        const dashboard = await api.getDashboard();
 
         // API 응답을 LiveRate 형식으로 변환
-        const formattedRates: LiveRate[] = Object.entries(currentRates).map(([, value]: [string, any]) => ({
+        const formattedRates: LiveRate[] = dashboard.rates.map((value) => ({
           currency: `${value.baseCurrency}/${value.targetCurrency}`,
           rate: formatNumber(value.rate),
           change: `${value.change >= 0 ? '+' : ''}${value.changePercent.toFixed(2)}%`,
@@ -49,9 +49,13 @@ const Header: React.FC = () => {
 
     fetchLiveRates();
 
-    // 30초마다 갱신
-    const interval = setInterval(fetchLiveRates, 30000);
-    return () => clearInterval(interval);
+    // 폴링 대신 서버 push 로 환율 갱신
+    const unsubscribe = api.subscribeRates(['USD', 'EUR', 'JPY'], (message) => {
+      setLiveRates(prev => prev.map(r =>
+        r.currency === `${message.currency}/KRW` ? { ...r, rate: formatNumber(message.rate) } : r
+      ));
+    });
+    return unsubscribe;
   }, []);
 
   return (
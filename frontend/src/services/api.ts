@@ -3,15 +3,25 @@ import type {
   ExchangeRate,
   ConversionResult,
   ExchangeRateChartResponse,
+  ExchangeDashboard,
 } from '../types';
 
 const API_BASE_URL = 'http://localhost:8080/api';
+const WS_BASE_URL = 'ws://localhost:8080/ws';
+
+// 실시간 환율 push 메시지
+export interface RateStreamMessage {
+  type: 'rate';
+  currency: string;
+  date: string;
+  rate: number;
+}
 
 export const api = {
-  // 현재 환율 조회
-  async getCurrentRates(): Promise<any> {
-    const response = await fetch(`${API_BASE_URL}/exchange-rates/current`);
-    if (!response.ok) throw new Error('Failed to fetch current rates');
+  // 전체 통화 대시보드 (현재 환율 + 최근 30일 sparkline, 서버에서 미리 계산된 응답)
+  async getDashboard(): Promise<ExchangeDashboard> {
+    const response = await fetch(`${API_BASE_URL}/exchange-rates/dashboard`);
+    if (!response.ok) throw new Error('Failed to fetch dashboard');
     const result = await response.json();
     return result.data;
   },
@@ -38,14 +48,55 @@ export const api = {
     return result.data;
   },
 
-  // 환율 차트 데이터
-  async getExchangeHistory(baseCurrency: string, startDate: string, endDate: string): Promise<ExchangeRateChartResponse> {
-    const response = await fetch(`${API_BASE_URL}/exchange-rates/chart/${baseCurrency}?startDate=${startDate}&endDate=${endDate}`);
+  // 환율 차트 데이터 (maxPoints 지정 시 서버에서 LTTB 다운샘플링)
+  async getExchangeHistory(
+    baseCurrency: string,
+    startDate: string,
+    endDate: string,
+    maxPoints?: number,
+  ): Promise<ExchangeRateChartResponse> {
+    const params = new URLSearchParams({ startDate, endDate });
+    if (maxPoints) params.set('maxPoints', String(maxPoints));
+    const response = await fetch(`${API_BASE_URL}/exchange-rates/chart/${baseCurrency}?${params}`);
     if (!response.ok) throw new Error('Failed to fetch exchange history');
     const result = await response.json();
     return result.data;
   },
 
+  // 기간 프리셋 환율 차트 (1d/1w/1m/3m/1y/5y, 서버 공유 캐시)
+  async getExchangeChartByPeriod(baseCurrency: string, period: string): Promise<ExchangeRateChartResponse> {
+    const response = await fetch(`${API_BASE_URL}/exchange-rates/chart/${baseCurrency}/period/${period}`);
+    if (!response.ok) throw new Error('Failed to fetch exchange chart');
+    const result = await response.json();
+    return result.data;
+  },
+
+  // 실시간 환율 구독 (WebSocket push, 연결이 끊기면 5초 후 재연결), 반환 함수로 구독 해제
+  subscribeRates(currencies: string[], onRate: (message: RateStreamMessage) => void): () => void {
+    let socket: WebSocket | null = null;
+    let closed = false;
+    let retryTimer: ReturnType<typeof setTimeout> | undefined;
+
+    const connect = () => {
+      socket = new WebSocket(`${WS_BASE_URL}/exchange-rates`);
+      socket.onopen = () => socket?.send(JSON.stringify({ type: 'subscribe', currencies }));
+      socket.onmessage = (event) => {
+        const message = JSON.parse(event.data);
+        if (message.type === 'rate') onRate(message);
+      };
+      socket.onclose = () => {
+        if (!closed) retryTimer = setTimeout(connect, 5000);
+      };
+    };
+
+    connect();
+    return () => {
+      closed = true;
+      clearTimeout(retryTimer);
+      socket?.close();
+    };
+  },
+
   // 지원 통화 목록
   async getCurrencies(): Promise<Currency[]> {
     const response = await fetch(`${API_BASE_URL}/exchange-rates/currencies`);
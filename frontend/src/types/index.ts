@@ -45,6 +45,22 @@ export interface ExchangeRateChartResponse {
   statistics: ChartStatistics;
 }
 
+export interface DashboardRate {
+  baseCurrency: string;
+  targetCurrency: string;
+  rate: number;
+  change: number;
+  changePercent: number;
+  rateDate: string;
+  sparkline: { date: string; rate: number }[];
+}
+
+export interface ExchangeDashboard {
+  version: number;
+  generatedAt: string;
+  rates: DashboardRate[];
+}
+
 export type TimePeriod = '1D' | '7D' | '1M' | '3M' | '1Y' | '5Y';
 
 export interface Alert {
@@ -0,0 +1,76 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.application.exchange.ExchangeRateConverter;
+import com.txnow.domain.exchange.exception.ExchangeRateNotFoundException;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 배치 변환 요청 1건 처리 비용 (요청 파싱 + 변환 + 응답 직렬화)
+ * 실행: ./gradlew jmh -Pjmh.includes=ExchangeBatchConvertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExchangeBatchConvertBenchmark {
+
+    private static final Currency[] CURRENCIES = {
+        Currency.USD, Currency.EUR, Currency.JPY, Currency.CNY, Currency.GBP, Currency.KRW
+    };
+
+    @Param({"10000", "100000"})
+    private int items;
+
+    private final ExchangeBatchConvertStreamer streamer = new ExchangeBatchConvertStreamer(new ObjectMapper(), 1_000_000);
+    private ExchangeRateSnapshot snapshot;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        LocalDate date = LocalDate.of(2024, 3, 15);
+        snapshot = ExchangeRateSnapshot.initial()
+            .withKrwRate(Currency.USD, new BigDecimal("1320.5000"), date)
+            .withKrwRate(Currency.EUR, new BigDecimal("1440.2500"), date)
+            .withKrwRate(Currency.JPY, new BigDecimal("8.9012"), date)
+            .withKrwRate(Currency.CNY, new BigDecimal("183.4500"), date)
+            .withKrwRate(Currency.GBP, new BigDecimal("1680.1000"), date);
+
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(items * 48).append('[');
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"from\":\"").append(CURRENCIES[random.nextInt(CURRENCIES.length)])
+                .append("\",\"to\":\"").append(CURRENCIES[random.nextInt(CURRENCIES.length)])
+                .append("\",\"amount\":").append(BigDecimal.valueOf(random.nextInt(10_000_000) + 1, 2))
+                .append('}');
+        }
+        body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void convertBatch() throws IOException {
+        ExchangeRateConverter converter = ExchangeRateConverter.of(snapshot, currency -> {
+            throw new ExchangeRateNotFoundException(currency);
+        });
+        streamer.convert(new ByteArrayInputStream(body), OutputStream.nullOutputStream(), converter);
+    }
+}
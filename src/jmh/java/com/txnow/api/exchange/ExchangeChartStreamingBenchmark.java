@@ -0,0 +1,123 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.txnow.api.exchange.dto.ExchangeResponse.ExchangeChartResponse;
+import com.txnow.api.support.ApiResponse;
+import com.txnow.application.exchange.ExchangeChartMapper;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 긴 구간 차트 응답: 전체 결과 생성 후 직렬화(buffered) vs 포인트 단위 스트리밍(streaming)
+ * - *FirstByte: 응답 스트림에 첫 바이트가 쓰이기까지의 시간 (TTFB 근사)
+ * - *Full: 전체 응답 작성 시간 (-prof gc 로 요청당 할당량 비교)
+ * 실행: ./gradlew jmh -Pjmh.includes=ExchangeChartStreamingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExchangeChartStreamingBenchmark {
+
+    /**
+     * 일별 포인트 수 (10년 / 30년)
+     */
+    @Param({"3650", "10950"})
+    private int points;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ExchangeChartMapper mapper = new ExchangeChartMapper();
+    private final ExchangeChartStreamer streamer = new ExchangeChartStreamer(objectMapper);
+    private List<DailyRate> dailyRates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        dailyRates = new ArrayList<>(points);
+
+        LocalDate date = LocalDate.of(1995, 1, 2);
+        long rate = 13_000_000L;
+        for (int i = 0; i < points; i++) {
+            rate += random.nextInt(200_001) - 100_000;
+            dailyRates.add(new DailyRate(date, BigDecimal.valueOf(rate, FixedPoint.RATE_SCALE)));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Benchmark
+    public boolean bufferedFirstByte() {
+        return writeBuffered(FirstByteOutputStream.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean streamingFirstByte() {
+        return writeStreaming(FirstByteOutputStream.INSTANCE);
+    }
+
+    @Benchmark
+    public boolean bufferedFull() {
+        return writeBuffered(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public boolean streamingFull() {
+        return writeStreaming(OutputStream.nullOutputStream());
+    }
+
+    private boolean writeBuffered(OutputStream output) {
+        try {
+            ExchangeChartResponse response = ExchangeChartResponse.from(
+                mapper.toChartResult(Currency.USD, Currency.KRW, "1995-01-02", "2024-12-31", dailyRates));
+            objectMapper.writeValue(output, ApiResponse.success(response));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean writeStreaming(OutputStream output) {
+        try {
+            streamer.write(output, sink -> mapper.streamChart(
+                Currency.USD, Currency.KRW, "1995-01-02", "2024-12-31", dailyRates.iterator(), sink));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 첫 쓰기에서 미리 생성한 예외로 중단하는 출력 스트림
+     */
+    private static final class FirstByteOutputStream extends OutputStream {
+
+        static final FirstByteOutputStream INSTANCE = new FirstByteOutputStream();
+        private static final IOException FIRST_BYTE = new IOException("first byte");
+
+        @Override
+        public void write(int b) throws IOException {
+            throw FIRST_BYTE;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            throw FIRST_BYTE;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.txnow.application.exchange;
+
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 차트 요청 1건당 매핑 비용 (시간 / 할당량)
+ * 실행: ./gradlew jmh -Pjmh.includes=ExchangeChartMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExchangeChartMapperBenchmark {
+
+    /**
+     * 일별 포인트 수 (1개월 / 1년 / 10년)
+     */
+    @Param({"22", "250", "2500"})
+    private int points;
+
+    private final ExchangeChartMapper mapper = new ExchangeChartMapper();
+    private List<DailyRate> dailyRates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        dailyRates = new ArrayList<>(points);
+
+        LocalDate date = LocalDate.of(2015, 1, 2);
+        long rate = 13_000_000L;
+        for (int i = 0; i < points; i++) {
+            rate += random.nextInt(200_001) - 100_000;
+            dailyRates.add(new DailyRate(date, BigDecimal.valueOf(rate, FixedPoint.RATE_SCALE)));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Benchmark
+    public Object toChartResult() {
+        return mapper.toChartResult(Currency.USD, Currency.KRW, "2015-01-02", "2024-12-31", dailyRates);
+    }
+}
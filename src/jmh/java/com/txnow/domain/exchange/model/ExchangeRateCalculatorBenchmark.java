@@ -0,0 +1,77 @@
+package com.txnow.domain.exchange.model;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * BigDecimal vs 고정소수점 변동률/변환 계산 비교
+ * 실행: ./gradlew jmh -Pjmh.includes=ExchangeRateCalculatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExchangeRateCalculatorBenchmark {
+
+    /**
+     * 차트 포인트 수 (1개월 / 1년 / 10년)
+     */
+    @Param({"22", "250", "2500"})
+    private int points;
+
+    private BigDecimal[] rates;
+    private long[] scaledRates;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rates = new BigDecimal[points];
+        scaledRates = new long[points];
+
+        long rate = 13_000_000L;
+        for (int i = 0; i < points; i++) {
+            rate += random.nextInt(200_001) - 100_000;
+            rates[i] = BigDecimal.valueOf(rate, FixedPoint.RATE_SCALE);
+            scaledRates[i] = rate;
+        }
+        amount = new BigDecimal("1234.56");
+    }
+
+    @Benchmark
+    public void changePercentageBigDecimal(Blackhole blackhole) {
+        for (int i = 1; i < points; i++) {
+            blackhole.consume(ExchangeRateCalculator.calculateChangePercentage(rates[i], rates[i - 1]));
+        }
+    }
+
+    @Benchmark
+    public void changePercentageFixedPoint(Blackhole blackhole) {
+        for (int i = 1; i < points; i++) {
+            blackhole.consume(ExchangeRateCalculator.calculateChangePercentage(scaledRates[i], scaledRates[i - 1]));
+        }
+    }
+
+    @Benchmark
+    public void convertedAmountBigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < points; i++) {
+            blackhole.consume(ExchangeRateCalculator.calculateConvertedAmount(amount, rates[i]));
+        }
+    }
+
+    @Benchmark
+    public void convertedAmountFixedPoint(Blackhole blackhole) {
+        for (int i = 0; i < points; i++) {
+            blackhole.consume(ExchangeRateCalculator.calculateConvertedAmount(123_456L, 2, scaledRates[i]));
+        }
+    }
+}
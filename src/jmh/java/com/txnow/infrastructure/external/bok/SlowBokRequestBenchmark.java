@@ -0,0 +1,108 @@
+package com.txnow.infrastructure.external.bok;
+
+import com.sun.net.httpserver.HttpServer;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.infrastructure.metrics.ProviderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * BOK API 응답 지연 시 요청 처리 처리량/p99 비교 (플랫폼 스레드 풀 vs 가상 스레드)
+ * - 요청 실행기: platform = Tomcat 기본 최대 스레드 수(200) 고정 풀, virtual = 요청마다 가상 스레드
+ * - 동시 클라이언트 400 명이 각각 BokApiClient.getCurrentExchangeRate 를 요청하고 응답을 기다린다.
+ * - BOK API 는 bokLatencyMillis 만큼 지연 후 응답하는 로컬 HTTP 서버로 대체
+ * 실행: ./gradlew jmh -Pjmh.includes=SlowBokRequestBenchmark (Throughput = 처리량, SampleTime = p99)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class SlowBokRequestBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    private static final byte[] BODY = """
+        {"StatisticSearch":{"list_total_count":1,"row":[{"TIME":"20240315","DATA_VALUE":"1320.5"}]}}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    @Param({"200"})
+    private int bokLatencyMillis;
+
+    private HttpServer bokServer;
+    private ExecutorService requestExecutor;
+    private BokApiClient bokApiClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        bokServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        bokServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        bokServer.createContext("/", exchange -> {
+            try {
+                Thread.sleep(bokLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(BODY);
+            }
+        });
+        bokServer.start();
+
+        requestExecutor = "virtual".equals(threading)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+
+        BokApiRateLimiter noopRateLimiter = new BokApiRateLimiter(null, null) {
+            @Override
+            public void acquirePermit() {
+            }
+        };
+        bokApiClient = new BokApiClient(
+            "http://127.0.0.1:" + bokServer.getAddress().getPort(),
+            "benchmark-key",
+            "731Y001",
+            Duration.ofSeconds(30),
+            noopRateLimiter,
+            new ProviderMetrics(new SimpleMeterRegistry())
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        bokServer.stop(0);
+    }
+
+    /**
+     * 요청 1건: 요청 실행기에서 BOK 조회 후 응답 대기
+     */
+    @Benchmark
+    public BigDecimal handleRequest() throws InterruptedException, ExecutionException {
+        return requestExecutor.submit(() -> bokApiClient.getCurrentExchangeRate(Currency.USD)).get();
+    }
+}
@@ -0,0 +1,91 @@
+package com.txnow.api.alert;
+
+import static com.txnow.api.alert.dto.RateAlertRequest.RateAlertCreateRequest;
+import static com.txnow.api.alert.dto.RateAlertResponse.RateAlertCreateResponse;
+import static com.txnow.api.alert.dto.RateAlertResponse.RateAlertListResponse;
+import static com.txnow.application.alert.dto.RateAlertCommand.RateAlertCreateCommand;
+import static com.txnow.application.alert.dto.RateAlertCommand.RateAlertDeleteCommand;
+
+import com.txnow.api.support.ApiResponse;
+import com.txnow.application.alert.RateAlertService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+@Tag(name = "환율 알림", description = "환율 기준값 도달 알림 API")
+public class RateAlertController {
+
+    static final String TOKEN_HEADER = "X-Alert-Token";
+
+    private final RateAlertService rateAlertService;
+
+    @Operation(summary = "환율 알림 등록", description = "환율이 기준값 이상(ABOVE)/이하(BELOW)가 되면 WebSocket 으로 1회 알림을 보냅니다. "
+        + "토큰 없이 등록하면 새 클라이언트 토큰을 발급합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "알림 등록 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping
+    public ApiResponse<RateAlertCreateResponse> createAlert(
+        @Parameter(description = "알림 클라이언트 토큰 (첫 등록 시 생략)")
+        @RequestHeader(name = TOKEN_HEADER, required = false) String token,
+        @Valid @RequestBody RateAlertCreateRequest request
+    ) {
+        RateAlertCreateCommand command = new RateAlertCreateCommand(
+            token,
+            request.currency(),
+            request.direction(),
+            request.thresholdRate()
+        );
+
+        RateAlertCreateResponse response = RateAlertCreateResponse.from(rateAlertService.createAlert(command));
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "환율 알림 목록 조회", description = "클라이언트가 등록한 알림(발송 완료 포함)을 최근 등록순으로 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "알림 목록 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping
+    public ApiResponse<RateAlertListResponse> getAlerts(
+        @Parameter(description = "알림 클라이언트 토큰")
+        @RequestHeader(name = TOKEN_HEADER, required = false) String token
+    ) {
+        RateAlertListResponse response = RateAlertListResponse.from(rateAlertService.getAlerts(token));
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "환율 알림 삭제")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "알림 삭제 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "알림 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @DeleteMapping("/{alertId}")
+    public ApiResponse<Void> deleteAlert(
+        @Parameter(description = "알림 ID", example = "42")
+        @PathVariable Long alertId,
+        @Parameter(description = "알림 클라이언트 토큰")
+        @RequestHeader(name = TOKEN_HEADER, required = false) String token
+    ) {
+        rateAlertService.deleteAlert(new RateAlertDeleteCommand(token, alertId));
+        return ApiResponse.success(null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.txnow.api.alert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.api.alert.dto.RateAlertResponse.RateAlertMessage;
+import com.txnow.api.exchange.ExchangeRateStreamHandler;
+import com.txnow.domain.alert.model.RateAlertNotification;
+import com.txnow.domain.alert.notifier.RateAlertNotifier;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * 환율 알림 → WebSocket 클라이언트 전달
+ * 클라이언트 세션이 어느 노드에 연결되어 있는지 모르므로 발송 묶음을 Redis 채널로 모든 노드에 전파하고,
+ * 각 노드는 자기 노드에 register 한 세션에만 전달한다. (Redis 발행 실패 시 이 노드 세션에만 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateAlertStreamNotifier implements RateAlertNotifier, MessageListener {
+
+    static final String CHANNEL = "rate-alert:notifications";
+
+    private static final TypeReference<List<RateAlertMessage>> MESSAGES_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ExchangeRateStreamHandler streamHandler;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void notify(List<RateAlertNotification> notifications) {
+        List<RateAlertMessage> messages = notifications.stream()
+            .map(RateAlertMessage::from)
+            .toList();
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(messages));
+        } catch (Exception e) {
+            log.warn("Failed to publish {} rate alerts to Redis, delivering locally: {}", messages.size(), e.getMessage());
+            deliver(messages);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), MESSAGES_TYPE));
+        } catch (Exception e) {
+            log.warn("Invalid rate alert message from Redis: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(List<RateAlertMessage> messages) {
+        for (RateAlertMessage message : messages) {
+            try {
+                streamHandler.sendToClient(message.clientId(), new TextMessage(objectMapper.writeValueAsString(message)));
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize rate alert {}: {}", message.alertId(), e.getMessage());
+            }
+        }
+    }
+}
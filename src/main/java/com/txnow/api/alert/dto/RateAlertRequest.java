@@ -0,0 +1,29 @@
+package com.txnow.api.alert.dto;
+
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.exchange.model.Currency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+@Schema(description = "환율 알림 API 요청 DTO")
+public record RateAlertRequest() {
+
+    @Schema(description = "환율 알림 등록 요청")
+    public record RateAlertCreateRequest(
+        @NotNull(message = "통화는 필수입니다")
+        @Schema(description = "통화 코드 (1단위당 KRW)", example = "USD")
+        Currency currency,
+
+        @NotNull(message = "알림 방향은 필수입니다")
+        @Schema(description = "알림 방향 (ABOVE: 기준값 이상, BELOW: 기준값 이하)", example = "ABOVE")
+        AlertDirection direction,
+
+        @NotNull(message = "기준 환율은 필수입니다")
+        @Positive(message = "기준 환율은 양수여야 합니다")
+        @Schema(description = "기준 환율 (KRW, 소수점 4자리까지)", example = "1350.00")
+        BigDecimal thresholdRate
+    ) {}
+}
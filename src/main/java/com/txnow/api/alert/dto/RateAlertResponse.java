@@ -0,0 +1,133 @@
+package com.txnow.api.alert.dto;
+
+import com.txnow.application.alert.dto.RateAlertResult.RateAlertCreateResult;
+import com.txnow.application.alert.dto.RateAlertResult.RateAlertInfoResult;
+import com.txnow.application.alert.dto.RateAlertResult.RateAlertListResult;
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlertNotification;
+import com.txnow.domain.exchange.model.Currency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "환율 알림 API 응답 DTO")
+public record RateAlertResponse() {
+
+    @Schema(description = "환율 알림 정보")
+    public record RateAlertInfoResponse(
+        @Schema(description = "알림 ID", example = "42")
+        Long id,
+
+        @Schema(description = "통화 코드", example = "USD")
+        Currency currency,
+
+        @Schema(description = "알림 방향", example = "ABOVE")
+        AlertDirection direction,
+
+        @Schema(description = "기준 환율 (KRW)", example = "1350.00")
+        BigDecimal thresholdRate,
+
+        @Schema(description = "발송 대기 여부", example = "true")
+        boolean active,
+
+        @Schema(description = "등록 시각", example = "2024-03-15T10:30:00")
+        LocalDateTime createdAt,
+
+        @Schema(description = "발송 시각 (대기 중이면 null)", example = "2024-03-18T11:30:05")
+        LocalDateTime triggeredAt,
+
+        @Schema(description = "발송 시점 환율 (대기 중이면 null)", example = "1352.1000")
+        BigDecimal triggeredRate
+    ) {
+        public static RateAlertInfoResponse from(RateAlertInfoResult result) {
+            return new RateAlertInfoResponse(
+                result.id(),
+                result.currency(),
+                result.direction(),
+                result.thresholdRate(),
+                result.active(),
+                result.createdAt(),
+                result.triggeredAt(),
+                result.triggeredRate()
+            );
+        }
+    }
+
+    @Schema(description = "환율 알림 등록 결과")
+    public record RateAlertCreateResponse(
+        @Schema(description = "알림 클라이언트 토큰 (X-Alert-Token 헤더와 WebSocket register 메시지에 사용)",
+            example = "q8Vb0m3cJ1yXl6e2Zf9wKxT4uHn7sRaPdQoGiE5LjBc")
+        String token,
+
+        @Schema(description = "등록한 알림")
+        RateAlertInfoResponse alert
+    ) {
+        public static RateAlertCreateResponse from(RateAlertCreateResult result) {
+            return new RateAlertCreateResponse(result.token(), RateAlertInfoResponse.from(result.alert()));
+        }
+    }
+
+    @Schema(description = "환율 알림 목록 (최근 등록순)")
+    public record RateAlertListResponse(
+        List<RateAlertInfoResponse> alerts
+    ) {
+        public static RateAlertListResponse from(RateAlertListResult result) {
+            return new RateAlertListResponse(result.alerts().stream()
+                .map(RateAlertInfoResponse::from)
+                .toList());
+        }
+    }
+
+    @Schema(description = "환율 알림 push 메시지 (WebSocket /ws/exchange-rates, register 한 클라이언트)")
+    public record RateAlertMessage(
+        @Schema(description = "메시지 유형", example = "alert")
+        @NotNull
+        String type,
+
+        @Schema(description = "알림 ID", example = "42")
+        long alertId,
+
+        @Schema(description = "알림 소유자 (클라이언트 토큰의 SHA-256 hex)")
+        @NotNull
+        String clientId,
+
+        @Schema(description = "통화 코드", example = "USD")
+        @NotNull
+        Currency currency,
+
+        @Schema(description = "알림 방향", example = "ABOVE")
+        @NotNull
+        AlertDirection direction,
+
+        @Schema(description = "기준 환율 (KRW)", example = "1350.00")
+        @NotNull
+        BigDecimal thresholdRate,
+
+        @Schema(description = "알림을 발생시킨 환율 (KRW)", example = "1352.1000")
+        @NotNull
+        BigDecimal rate,
+
+        @Schema(description = "환율 기준일", example = "2024-03-18")
+        @NotNull
+        LocalDate date
+    ) {
+        public static final String TYPE_ALERT = "alert";
+
+        public static RateAlertMessage from(RateAlertNotification notification) {
+            return new RateAlertMessage(
+                TYPE_ALERT,
+                notification.alertId(),
+                notification.clientId(),
+                notification.currency(),
+                notification.direction(),
+                notification.thresholdRate(),
+                notification.rate(),
+                notification.date()
+            );
+        }
+    }
+}
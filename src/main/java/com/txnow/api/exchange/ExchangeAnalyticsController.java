@@ -0,0 +1,45 @@
+package com.txnow.api.exchange;
+
+import static com.txnow.api.exchange.dto.ExchangeResponse.ExchangeCorrelationResponse;
+import static com.txnow.application.exchange.dto.ExchangeCommand.ExchangeCorrelationCommand;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeCorrelationResult;
+
+import com.txnow.api.support.ApiResponse;
+import com.txnow.application.exchange.ExchangeAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/exchange-rates/analytics")
+@RequiredArgsConstructor
+@Tag(name = "환율 분석", description = "통화 간 상관관계 분석 API")
+public class ExchangeAnalyticsController {
+
+    private final ExchangeAnalyticsService exchangeAnalyticsService;
+
+    @Operation(summary = "통화 간 상관 행렬 조회", description = "최근 구간 일별 로그 수익률 기준 상관계수/공분산/베타 행렬을 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "상관 행렬 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "환율 이력 부족"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/correlation")
+    public ApiResponse<ExchangeCorrelationResponse> getCorrelationMatrix(
+        @Parameter(description = "구간 (최근 일별 수익률 개수, 5~750)", example = "60")
+        @RequestParam(defaultValue = "60") Integer windowDays
+    ) {
+        ExchangeCorrelationCommand command = new ExchangeCorrelationCommand(windowDays);
+
+        ExchangeCorrelationResult result = exchangeAnalyticsService.getCorrelationMatrix(command);
+        ExchangeCorrelationResponse response = ExchangeCorrelationResponse.from(result);
+        return ApiResponse.success(response);
+    }
+}
@@ -0,0 +1,213 @@
+package com.txnow.api.exchange;
+
+import static com.txnow.application.exchange.dto.ExchangeCommand.ExchangeConvertCommand;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeConvertResult;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.application.exchange.ExchangeRateConverter;
+import com.txnow.domain.exchange.exception.ExchangeRateException;
+import com.txnow.domain.exchange.exception.ExchangeRateUnavailableException;
+import com.txnow.domain.exchange.model.Currency;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.math.BigDecimal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 환율 변환 스트리밍 처리
+ * 요청 배열을 항목 단위로 읽어 바로 변환 결과를 쓰므로 항목 수와 무관하게 메모리 사용량이 일정하다.
+ * 항목별 오류(예상하지 못한 조회 오류 포함)는 해당 항목 결과에 담고 나머지 항목은 계속 처리하여,
+ * 응답을 쓰기 시작한 뒤에도 JSON 이 중간에 잘리지 않는다.
+ *
+ * 요청: [{"from":"USD","to":"KRW","amount":100}, ...]
+ * 응답: {"data":{"rateVersion":V,"rateDate":D,"results":[{"index":0,"convertedAmount":..,"rate":..}, ...],"count":N,"failed":M},"success":true}
+ * 모든 항목은 같은 환율 스냅샷(rateVersion: 스냅샷 버전, rateDate: 스냅샷 최근 환율 기준일)으로 계산한다.
+ * 스냅샷에 없어 Provider 에서 조회한 환율로 계산한 항목은 "rateVersion":null 을 함께 쓴다.
+ * 배열 형식 오류로 중간에 중단되면 success=false 와 errorCode/errorMessage 를 마지막에 쓴다.
+ */
+@Slf4j
+@Component
+public class ExchangeBatchConvertStreamer {
+
+    private static final String INVALID_REQUEST = "INVALID_REQUEST";
+    private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+
+    private final JsonFactory jsonFactory;
+    private final int maxItems;
+
+    public ExchangeBatchConvertStreamer(
+        ObjectMapper objectMapper,
+        @Value("${exchange-rate.batch.max-items:200000}") int maxItems
+    ) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxItems = maxItems;
+    }
+
+    public void convert(InputStream input, OutputStream output, ExchangeRateConverter converter) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(input);
+             JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("data");
+            generator.writeNumberField("rateVersion", converter.rateVersion());
+            LocalDate rateDate = converter.rateDate();
+            if (rateDate == null) {
+                generator.writeNullField("rateDate");
+            } else {
+                generator.writeStringField("rateDate", rateDate.toString());
+            }
+            generator.writeArrayFieldStart("results");
+
+            int count = 0;
+            int failed = 0;
+            String errorMessage = null;
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("Request body must be a JSON array");
+                }
+
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new IllegalArgumentException("Unexpected end of request body");
+                    }
+                    if (count == maxItems) {
+                        throw new IllegalArgumentException("At most " + maxItems + " items are allowed");
+                    }
+                    ItemFields item = readItem(parser);
+                    if (!writeResult(generator, count, item, converter)) {
+                        failed++;
+                    }
+                    count++;
+                }
+            } catch (JsonProcessingException e) {
+                errorMessage = "Malformed request body at item " + count;
+            } catch (IllegalArgumentException e) {
+                errorMessage = e.getMessage();
+            }
+
+            generator.writeEndArray();
+            generator.writeNumberField("count", count);
+            generator.writeNumberField("failed", failed);
+            generator.writeEndObject();
+
+            generator.writeBooleanField("success", errorMessage == null);
+            if (errorMessage != null) {
+                log.warn("Batch conversion aborted after {} items: {}", count, errorMessage);
+                generator.writeStringField("errorCode", INVALID_REQUEST);
+                generator.writeStringField("errorMessage", errorMessage);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * @return 변환 성공 여부
+     */
+    private boolean writeResult(
+        JsonGenerator generator,
+        int index,
+        ItemFields item,
+        ExchangeRateConverter converter
+    ) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("index", index);
+        try {
+            ExchangeConvertResult result = converter.convert(toCommand(item));
+            generator.writeNumberField("convertedAmount", result.convertedAmount());
+            generator.writeNumberField("rate", result.rate());
+            if (result.rateVersion() == null) {
+                generator.writeNullField("rateVersion");
+            }
+            generator.writeEndObject();
+            return true;
+        } catch (IllegalArgumentException e) {
+            writeError(generator, INVALID_REQUEST, e.getMessage());
+        } catch (ExchangeRateUnavailableException e) {
+            writeError(generator, e.getErrorCode(),
+                "Exchange rate service is temporarily unavailable. Please try again later.");
+        } catch (ExchangeRateException e) {
+            writeError(generator, e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Batch conversion failed at item {}: {}", index, e.getMessage());
+            writeError(generator, INTERNAL_ERROR, "Internal server error");
+        }
+        return false;
+    }
+
+    private static void writeError(JsonGenerator generator, String errorCode, String errorMessage) throws IOException {
+        generator.writeStringField("errorCode", errorCode);
+        generator.writeStringField("errorMessage", errorMessage);
+        generator.writeEndObject();
+    }
+
+    /**
+     * 항목 1개를 끝까지 읽는다. 값 검증은 변환 시 수행하여 잘못된 항목도 다음 항목부터 계속 처리한다.
+     * 금액은 원문 숫자 그대로 BigDecimal 로 읽는다.
+     */
+    private static ItemFields readItem(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return new ItemFields(null, null, null, "Item must be a JSON object");
+        }
+
+        String from = null;
+        String to = null;
+        BigDecimal amount = null;
+        String error = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "from" -> from = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "to" -> to = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "amount" -> {
+                    if (value.isNumeric()) {
+                        amount = parser.getDecimalValue();
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        error = "Amount must be a number";
+                    }
+                }
+                default -> {
+                    // 알 수 없는 필드는 무시
+                }
+            }
+            parser.skipChildren();
+        }
+        return new ItemFields(from, to, amount, error);
+    }
+
+    private static ExchangeConvertCommand toCommand(ItemFields item) {
+        if (item.error() != null) {
+            throw new IllegalArgumentException(item.error());
+        }
+        return new ExchangeConvertCommand(toCurrency(item.from()), toCurrency(item.to()), item.amount());
+    }
+
+    private static Currency toCurrency(String code) {
+        if (code == null) {
+            return null;
+        }
+        try {
+            return Currency.valueOf(code);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported currency: " + code);
+        }
+    }
+
+    private record ItemFields(
+        String from,
+        String to,
+        BigDecimal amount,
+        String error
+    ) {}
+}
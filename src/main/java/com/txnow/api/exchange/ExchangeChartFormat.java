@@ -0,0 +1,73 @@
+package com.txnow.api.exchange;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 차트 응답 표현 (Accept 헤더로 선택)
+ * - JSON: 포인트 객체 배열 (기본)
+ * - COLUMNAR_JSON: 열(column) 단위 배열, 일자는 epoch day 기준값 + 차이값
+ * - COLUMNAR_CBOR: COLUMNAR_JSON 과 같은 구조의 CBOR (작은 정수는 1~2 byte 로 기록)
+ */
+public enum ExchangeChartFormat {
+
+    JSON(MediaType.APPLICATION_JSON, ""),
+    COLUMNAR_JSON(MediaType.parseMediaType(ExchangeChartFormat.COLUMNAR_JSON_VALUE), "-columnar"),
+    COLUMNAR_CBOR(MediaType.APPLICATION_CBOR, "-cbor");
+
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.fxnow.chart-columnar+json";
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    ExchangeChartFormat(MediaType mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.etagSuffix = etagSuffix;
+    }
+
+    /**
+     * Accept 헤더에서 품질(q) 순으로 처음 지원하는 표현, 없거나 잘못된 헤더면 JSON
+     */
+    public static ExchangeChartFormat negotiate(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+
+        for (MediaType requested : mediaTypes) {
+            if (requested.isWildcardType() || requested.isWildcardSubtype()) {
+                continue;
+            }
+            for (ExchangeChartFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(requested)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String etagSuffix() {
+        return etagSuffix;
+    }
+
+    public boolean isColumnar() {
+        return this != JSON;
+    }
+}
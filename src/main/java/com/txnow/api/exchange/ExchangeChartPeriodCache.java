@@ -0,0 +1,164 @@
+package com.txnow.api.exchange;
+
+import static com.txnow.application.exchange.dto.ExchangeCommand.ExchangeChartCommand;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartRangeResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeDataVersionResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.application.exchange.ExchangeRateService;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.ChartPeriod;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.infrastructure.cache.CacheKeyGenerator;
+import com.txnow.infrastructure.config.RedisConfig;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기간 프리셋 차트 공유 캐시 (Redis chartData{period} 캐시, 키: fxnow:chart:{통화}:{period})
+ * 통화/프리셋마다 항목 1개를 모든 사용자와 노드가 공유하고, 새 환율이 저장되면 해당 통화의 전체 프리셋을 다시 생성해 교체한다.
+ * 항목의 종료일 또는 구간 데이터 fingerprint 가 현재와 다르면(동기화/보정 직후 재생성 전) 조회 시 생성한다.
+ * Redis 오류 시에는 캐시 없이 조회한다.
+ */
+@Slf4j
+@Component
+public class ExchangeChartPeriodCache {
+
+    private final ExchangeRateService exchangeRateService;
+    private final CacheManager cacheManager;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+
+    private final Set<Currency> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    public ExchangeChartPeriodCache(
+        ExchangeRateService exchangeRateService,
+        CacheManager cacheManager,
+        CacheKeyGenerator cacheKeyGenerator,
+        ObjectMapper objectMapper,
+        @Qualifier("chartPeriodRefreshExecutor") Executor executor
+    ) {
+        this.exchangeRateService = exchangeRateService;
+        this.cacheManager = cacheManager;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    /**
+     * @param range 프리셋을 정규화한 조회 구간
+     */
+    public ExchangeChartResult get(Currency baseCurrency, ChartPeriod period, ExchangeChartRangeResult range) {
+        String key = cacheKeyGenerator.chartDataKey(baseCurrency.name(), period.code());
+        String fingerprint = findFingerprint(baseCurrency, range);
+        try {
+            byte[] cached = cacheOf(period).get(key, byte[].class);
+            if (cached != null) {
+                CachedPeriodChart entry = objectMapper.readValue(cached, CachedPeriodChart.class);
+                if (entry.endDate().equals(range.endDate()) && Objects.equals(entry.fingerprint(), fingerprint)) {
+                    log.debug("Cache HIT (Chart period): {}", key);
+                    return entry.chart();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read chart period cache {}: {}", key, e.getMessage());
+        }
+
+        return load(baseCurrency, period, range, fingerprint, key);
+    }
+
+    /**
+     * 새 환율 저장 시 해당 통화 프리셋 재생성 예약 (이미 예약된 통화는 한 번만 실행)
+     * 동기화 트랜잭션 안에서 발행된 경우 커밋 후 실행하여 저장한 환율을 포함해 생성한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        Currency currency = event.currency();
+        if (pendingRefreshes.add(currency)) {
+            executor.execute(() -> {
+                pendingRefreshes.remove(currency);
+                refresh(currency);
+            });
+        }
+    }
+
+    void refresh(Currency currency) {
+        for (ChartPeriod period : ChartPeriod.values()) {
+            try {
+                ExchangeChartRangeResult range = exchangeRateService.resolveChartPeriod(currency, period);
+                load(currency, period, range, findFingerprint(currency, range),
+                    cacheKeyGenerator.chartDataKey(currency.name(), period.code()));
+            } catch (Exception e) {
+                log.warn("Failed to rebuild {} chart for {}: {}", period.code(), currency, e.getMessage());
+            }
+        }
+        log.info("Rebuilt chart period caches for {}", currency);
+    }
+
+    /**
+     * @param fingerprint 조회 전에 확인한 구간 데이터 fingerprint (조회 중 보정되면 다음 조회에서 다시 생성)
+     */
+    private ExchangeChartResult load(
+        Currency baseCurrency,
+        ChartPeriod period,
+        ExchangeChartRangeResult range,
+        String fingerprint,
+        String key
+    ) {
+        ExchangeChartResult chart = exchangeRateService.getExchangeRateChart(new ExchangeChartCommand(
+            baseCurrency,
+            Currency.KRW,
+            range.startDate().toString(),
+            range.endDate().toString(),
+            null,
+            null
+        ));
+
+        try {
+            cacheOf(period).put(key, objectMapper.writeValueAsBytes(new CachedPeriodChart(range.endDate(), fingerprint, chart)));
+        } catch (Exception e) {
+            log.warn("Failed to write chart period cache {}: {}", key, e.getMessage());
+        }
+        return chart;
+    }
+
+    /**
+     * @return 인덱스가 구간을 적재하지 않았으면 null (종료일로만 비교)
+     */
+    private String findFingerprint(Currency currency, ExchangeChartRangeResult range) {
+        return exchangeRateService.findDataVersion(
+                List.of(currency), range.startDate().toString(), range.endDate().toString(), false)
+            .map(ExchangeDataVersionResult::fingerprint)
+            .orElse(null);
+    }
+
+    private Cache cacheOf(ChartPeriod period) {
+        Cache cache = cacheManager.getCache(RedisConfig.chartDataCacheName(period));
+        if (cache == null) {
+            throw new IllegalStateException("Chart period cache not configured: " + period.code());
+        }
+        return cache;
+    }
+
+    /**
+     * @param endDate 항목 생성 시 정규화 구간 종료일 (최근 데이터 일자)
+     * @param fingerprint 항목 생성 시 구간 데이터 fingerprint (인덱스 미적재 시 null)
+     */
+    record CachedPeriodChart(
+        LocalDate endDate,
+        String fingerprint,
+        ExchangeChartResult chart
+    ) {}
+}
@@ -0,0 +1,193 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 차트 응답 직렬화 결과(JSON/CBOR, 선택적으로 gzip) 캐시
+ * gzip 은 직렬화 크기가 server.compression.min-response-size 이상일 때만 적용한다.
+ * - 키: 요청 URI + 구간 데이터 fingerprint 로 만든 ETag (데이터 버전이 바뀌면 다른 키가 되어 자동 무효화, 표현별로 다름)
+ * - 값: off-heap direct buffer (힙/GC 부담 없이 보관, 크기 합계와 ttl-seconds 로 제한)
+ * 새 환율이 저장되면 해당 통화의 fingerprint 구간에 그 일자가 포함된 항목(이전 버전 키)을 바로 제거한다.
+ * 적중 시 조회/매핑/직렬화 없이 버퍼를 그대로 응답 스트림에 기록한다.
+ */
+@Slf4j
+@Component
+public class ExchangeChartResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final Cache<String, SerializedBody> cache;
+    private final long gzipMinBytes;
+
+    public ExchangeChartResponseCache(
+        ObjectMapper objectMapper,
+        @Value("${cache.chart-response.max-bytes:67108864}") long maxBytes,
+        @Value("${cache.chart-response.ttl-seconds:3600}") long ttlSeconds,
+        @Value("${server.compression.min-response-size:2KB}") DataSize gzipMinSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.gzipMinBytes = gzipMinSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, SerializedBody body) -> body.bytes().capacity())
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    public static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (values != null && values.hasMoreElements()) {
+            if (values.nextElement().toLowerCase().contains(GZIP)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시된 응답 본문을 기록, 없으면 loader 결과를 직렬화하여 저장 후 기록
+     * loader 는 Provider I/O 를 포함하므로 캐시 내부 lock 밖에서 실행한다.
+     * @param key 표현(형식, encoding)별 ETag
+     */
+    public void write(String key, boolean gzip, HttpServletResponse response, Supplier<?> loader) throws IOException {
+        write(key, ExchangeChartFormat.JSON, gzip, response, loader);
+    }
+
+    public void write(
+        String key,
+        ExchangeChartFormat format,
+        boolean gzip,
+        HttpServletResponse response,
+        Supplier<?> loader
+    ) throws IOException {
+        write(key, format, gzip, response, DataScope.NONE, loader, () -> {});
+    }
+
+    /**
+     * @param scope 본문 데이터 구간 (해당 구간 환율이 바뀌면 항목 제거)
+     * @param beforeWrite 본문이 준비된 뒤 기록 직전에 실행 (loader 실패 시에는 실행되지 않음)
+     */
+    public void write(
+        String key,
+        ExchangeChartFormat format,
+        boolean gzip,
+        HttpServletResponse response,
+        DataScope scope,
+        Supplier<?> loader,
+        Runnable beforeWrite
+    ) throws IOException {
+        SerializedBody body = cache.getIfPresent(key);
+        if (body == null) {
+            body = serialize(loader.get(), format, gzip, scope);
+            cache.put(key, body);
+        } else {
+            log.debug("Cache HIT (Chart response): {}", key);
+        }
+
+        beforeWrite.run();
+        response.setContentType(format.mediaType().toString());
+        if (body.gzip()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.bytes().capacity());
+
+        // 요청마다 독립된 position 으로 읽도록 duplicate 사용
+        ByteBuffer source = body.bytes().duplicate();
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * 새 환율 일자가 fingerprint 구간에 포함된 항목 제거 (새 버전은 다른 키이므로 이전 항목은 다시 조회되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            cache.asMap().values().removeIf(body -> body.scope().contains(event.currency(), event.date()));
+        } catch (Exception e) {
+            log.warn("Failed to evict chart responses for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    private SerializedBody serialize(
+        Object value,
+        ExchangeChartFormat format,
+        boolean acceptsGzip,
+        DataScope scope
+    ) throws IOException {
+        ObjectMapper mapper = format == ExchangeChartFormat.COLUMNAR_CBOR ? cborMapper : objectMapper;
+        byte[] serialized = mapper.writeValueAsBytes(value);
+        byte[] bytes = serialized;
+        boolean gzip = acceptsGzip && serialized.length >= gzipMinBytes;
+        if (gzip) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(serialized.length / 4 + 64);
+            try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+                output.write(serialized);
+            }
+            bytes = compressed.toByteArray();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return new SerializedBody(buffer.asReadOnlyBuffer(), gzip, scope);
+    }
+
+    /**
+     * 본문을 만든 데이터 구간 (ETag fingerprint 구간과 같음)
+     * @param startDate fingerprint 시작일 (시작일 이전 환율도 영향을 주면 LocalDate.MIN)
+     */
+    public record DataScope(
+        List<Currency> currencies,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        /**
+         * 환율 변경으로 제거하지 않는 항목 (TTL/크기로만 제거)
+         */
+        public static final DataScope NONE = new DataScope(List.of(), LocalDate.MAX, LocalDate.MIN);
+
+        boolean contains(Currency currency, LocalDate date) {
+            return currencies.contains(currency) && !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+
+    /**
+     * @param gzip 본문이 gzip 으로 압축되었는지 여부
+     */
+    private record SerializedBody(
+        ByteBuffer bytes,
+        boolean gzip,
+        DataScope scope
+    ) {}
+}
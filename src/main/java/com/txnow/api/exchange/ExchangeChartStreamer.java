@@ -0,0 +1,86 @@
+package com.txnow.api.exchange;
+
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartSummaryResult;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.application.exchange.ExchangeChartPointSink;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환율 차트 스트리밍 응답 (ExchangeChartResponse 와 같은 JSON 구조)
+ * 포인트를 계산되는 즉시 응답 스트림에 쓰고, 통계/현재 환율 필드는 chartData 뒤에 쓴다.
+ *
+ * 응답: {"success":true,"data":{"chartData":[{"date":..,"time":null,"rate":..,"dayChange":..}, ...],
+ *        "baseCurrency":..,"targetCurrency":..,"period":..,"currentRate":..,"change":..,"changePercent":..,
+ *        "lastUpdated":..,"statistics":{..},"indicators":[]}}
+ * 첫 버퍼가 내보내지기 전 예외는 그대로 전파되어 일반 오류 응답이 되고,
+ * 이후 예외는 응답이 이미 시작되었으므로 연결을 끊어 불완전한 JSON 으로 실패를 알린다.
+ */
+@Component
+public class ExchangeChartStreamer {
+
+    private static final DateTimeFormatter LAST_UPDATED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ObjectMapper objectMapper;
+
+    public ExchangeChartStreamer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param chart 포인트 출력 대상(sink)을 받아 차트를 조회하고 요약을 반환
+     */
+    public void write(OutputStream output, Function<ExchangeChartPointSink, ExchangeChartSummaryResult> chart)
+        throws IOException {
+        // 예외 시 닫지 않는다: close 는 버퍼를 내보내므로 오류 응답 앞에 부분 본문이 섞인다.
+        JsonGenerator generator = objectMapper.createGenerator(output, JsonEncoding.UTF8);
+        generator.writeStartObject();
+        generator.writeBooleanField("success", true);
+        generator.writeObjectFieldStart("data");
+        generator.writeArrayFieldStart("chartData");
+
+        ExchangeChartSummaryResult summary;
+        try {
+            summary = chart.apply((date, rate, dayChange) -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeStringField("date", date);
+                    generator.writeNullField("time");
+                    generator.writeNumberField("rate", rate);
+                    generator.writeNumberField("dayChange", dayChange);
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        generator.writeEndArray();
+        generator.writeStringField("baseCurrency", summary.baseCurrency().name());
+        generator.writeStringField("targetCurrency", summary.targetCurrency().name());
+        generator.writeStringField("period", summary.period());
+        generator.writeNumberField("currentRate", summary.currentRate().rate());
+        generator.writeNumberField("change", summary.currentRate().change());
+        generator.writeNumberField("changePercent", summary.currentRate().changePercent());
+        generator.writeStringField("lastUpdated", LAST_UPDATED_FORMAT.format(summary.lastUpdated()));
+        generator.writeObjectFieldStart("statistics");
+        generator.writeNumberField("high", summary.statistics().high());
+        generator.writeNumberField("low", summary.statistics().low());
+        generator.writeNumberField("average", summary.statistics().average());
+        generator.writeEndObject();
+        generator.writeArrayFieldStart("indicators");
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.close();
+    }
+}
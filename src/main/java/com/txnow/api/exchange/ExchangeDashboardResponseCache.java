@@ -0,0 +1,129 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.api.exchange.dto.ExchangeResponse.ExchangeDashboardResponse;
+import com.txnow.api.support.ApiResponse;
+import com.txnow.application.exchange.dashboard.ExchangeDashboardRegistry;
+import com.txnow.application.exchange.dashboard.ExchangeDashboardUpdatedEvent;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 대시보드 응답 직렬화 결과 (JSON, 선택적으로 gzip)
+ * 대시보드가 재계산될 때(ExchangeDashboardUpdatedEvent) 미리 직렬화해 두고, 요청은 참조 1회 읽기 후 바이트를 그대로 기록한다.
+ * ETag 는 대시보드 버전 + 생성 시각(재기동 구분) + encoding 이므로 변경이 없으면 304 로 응답한다.
+ */
+@Slf4j
+@Component
+public class ExchangeDashboardResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final ExchangeDashboardRegistry dashboardRegistry;
+    private final long gzipMinBytes;
+
+    private volatile SerializedDashboard serialized;
+
+    public ExchangeDashboardResponseCache(
+        ObjectMapper objectMapper,
+        ExchangeDashboardRegistry dashboardRegistry,
+        @Value("${server.compression.min-response-size:2KB}") DataSize gzipMinSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.dashboardRegistry = dashboardRegistry;
+        this.gzipMinBytes = gzipMinSize.toBytes();
+    }
+
+    @EventListener
+    public void onDashboardUpdated(ExchangeDashboardUpdatedEvent event) {
+        update(event.dashboard());
+    }
+
+    /**
+     * 대시보드 응답 기록 (아직 계산된 대시보드가 없으면 한 번 계산)
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        SerializedDashboard current = serialized;
+        if (current == null) {
+            dashboardRegistry.rebuild();
+            current = dashboardRegistry.current().map(this::update).orElseThrow();
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = current.gzip() != null && ExchangeChartResponseCache.acceptsGzip(request);
+        String etag = gzip ? current.etag() + "-gzip\"" : current.etag() + '"';
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        byte[] body = gzip ? current.gzip() : current.json();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 더 최신 버전인 경우에만 교체 (이벤트 순서가 뒤바뀌어도 이전 버전으로 돌아가지 않음)
+     */
+    private synchronized SerializedDashboard update(ExchangeDashboardResult dashboard) {
+        SerializedDashboard current = serialized;
+        if (current != null && current.version() >= dashboard.version()) {
+            return current;
+        }
+
+        SerializedDashboard updated = serialize(dashboard);
+        serialized = updated;
+        log.debug("Dashboard response v{} serialized: {} bytes", dashboard.version(), updated.json().length);
+        return updated;
+    }
+
+    private SerializedDashboard serialize(ExchangeDashboardResult dashboard) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(ExchangeDashboardResponse.from(dashboard)));
+            byte[] gzip = null;
+            if (json.length >= gzipMinBytes) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+                try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+                    output.write(json);
+                }
+                gzip = compressed.toByteArray();
+            }
+            String etag = "\"dashboard-" + dashboard.version() + '-'
+                + Long.toHexString(dashboard.generatedAt().toEpochSecond(ZoneOffset.UTC));
+            return new SerializedDashboard(dashboard.version(), etag, json, gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param etag 닫는 따옴표를 제외한 ETag (encoding 별 접미사를 붙여 사용)
+     * @param gzip 압축 본문 (min-response-size 미만이면 null)
+     */
+    private record SerializedDashboard(
+        long version,
+        String etag,
+        byte[] json,
+        byte[] gzip
+    ) {}
+}
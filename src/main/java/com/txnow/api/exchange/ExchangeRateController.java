@@ -1,22 +1,45 @@
 package com.txnow.api.exchange;
 
+import static com.txnow.api.exchange.dto.ExchangeResponse.ExchangeCandleResponse;
+import static com.txnow.api.exchange.dto.ExchangeResponse.ExchangeChartColumnarResponse;
 import static com.txnow.api.exchange.dto.ExchangeResponse.ExchangeChartResponse;
 import static com.txnow.api.exchange.dto.ExchangeResponse.ExchangeConvertResponse;
+import static com.txnow.api.exchange.dto.ExchangeResponse.ExchangeDashboardResponse;
+import static com.txnow.api.exchange.dto.ExchangeResponse.ExchangeMultiChartResponse;
+import static com.txnow.application.exchange.dto.ExchangeCommand.ExchangeCandleCommand;
 import static com.txnow.application.exchange.dto.ExchangeCommand.ExchangeChartCommand;
 import static com.txnow.application.exchange.dto.ExchangeCommand.ExchangeConvertCommand;
+import static com.txnow.application.exchange.dto.ExchangeCommand.ExchangeMultiChartCommand;
 import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeConvertResult;
 
 import com.txnow.api.exchange.dto.ExchangeRequest.ExchangeConvertRequest;
 import com.txnow.api.support.ApiResponse;
+import com.txnow.api.support.ConcurrencyLimitFilter;
+import com.txnow.application.exchange.ExchangeRateConverter;
 import com.txnow.application.exchange.ExchangeRateService;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeCandleResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartColumnsResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartRangeResult;
 import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeMultiChartResult;
+import com.txnow.domain.exchange.model.CandleInterval;
+import com.txnow.domain.exchange.model.ChartPeriod;
 import com.txnow.domain.exchange.model.Currency;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -32,16 +55,30 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExchangeRateController {
 
     private final ExchangeRateService exchangeRateService;
+    private final ExchangeBatchConvertStreamer batchConvertStreamer;
+    private final ExchangeRateHttpCaching httpCaching;
+    private final ExchangeChartStreamer chartStreamer;
+    private final ExchangeDashboardResponseCache dashboardResponseCache;
+    private final ExchangeChartPeriodCache chartPeriodCache;
 
 
-    @Operation(summary = "환율 차트 데이터 조회", description = "토스 인베스트 스타일 환율 차트 데이터를 조회합니다. (대상 통화는 KRW 고정)")
+    @Operation(summary = "환율 차트 데이터 조회", description = "토스 인베스트 스타일 환율 차트 데이터를 조회합니다. (대상 통화는 KRW 고정) "
+        + "Accept 가 application/vnd.fxnow.chart-columnar+json 또는 application/cbor 이면 열(column) 단위 압축 표현으로 응답합니다. (보조 지표 미지원) "
+        + "다운샘플링/보조 지표 없는 긴 구간(기본 730일 이상)은 포인트를 조회 즉시 스트리밍으로 응답합니다.")
     @ApiResponses(value = {
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "차트 데이터 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "차트 데이터 조회 성공", content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ExchangeChartResponse.class)),
+            @Content(mediaType = ExchangeChartFormat.COLUMNAR_JSON_VALUE, schema = @Schema(implementation = ExchangeChartColumnarResponse.class)),
+            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE, schema = @Schema(implementation = ExchangeChartColumnarResponse.class))
+        }),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since)"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    @GetMapping("/chart/{baseCurrency}")
-    public ApiResponse<ExchangeChartResponse> getExchangeRateChart(
+    @GetMapping(value = "/chart/{baseCurrency}", produces = {
+        MediaType.APPLICATION_JSON_VALUE, ExchangeChartFormat.COLUMNAR_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE
+    })
+    public ApiResponse<Object> getExchangeRateChart(
         @Parameter(description = "기준 통화 (1단위당 KRW)", example = "USD")
         @PathVariable Currency baseCurrency,
 
@@ -49,18 +86,148 @@ public class ExchangeRateController {
         @RequestParam String startDate,
 
         @Parameter(description = "종료일자 (yyyy-MM-dd)", example = "2024-01-31")
-        @RequestParam String endDate
-    ) {
+        @RequestParam String endDate,
+
+        @Parameter(description = "최대 포인트 수 (LTTB 다운샘플링, 최고/최저 포함, 10~5000)", example = "500")
+        @RequestParam(required = false) Integer maxPoints,
+
+        @Parameter(description = "보조 지표 (sma:기간, ema:기간, bollinger:기간[:배수], volatility:기간, 최대 5개)", example = "sma:20,bollinger:20:2")
+        @RequestParam(required = false) List<String> indicators,
+
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
         ExchangeChartCommand command = new ExchangeChartCommand(
             baseCurrency,
             Currency.KRW,
             startDate,
-            endDate
+            endDate,
+            maxPoints,
+            indicators
         );
 
-        ExchangeChartResult result = exchangeRateService.getExchangeRateChart(command);
-        ExchangeChartResponse response = ExchangeChartResponse.from(result);
-        return ApiResponse.success(response);
+        ExchangeChartFormat format = ExchangeChartFormat.negotiate(request);
+        if (format == ExchangeChartFormat.JSON && exchangeRateService.shouldStreamChart(command)) {
+            ConcurrencyLimitFilter.excludeFromSampling(request);
+            httpCaching.respondStreaming(request, response, List.of(baseCurrency), startDate, endDate, output ->
+                chartStreamer.write(output, sink -> exchangeRateService.streamExchangeRateChart(command, sink)));
+            return null;
+        }
+
+        boolean includePriorRates = indicators != null && !indicators.isEmpty();
+        return httpCaching.respond(request, response, format, List.of(baseCurrency), startDate, endDate, includePriorRates, () -> {
+            if (format.isColumnar()) {
+                ExchangeChartColumnsResult result = exchangeRateService.getExchangeRateChartColumns(command);
+                return ApiResponse.success(ExchangeChartColumnarResponse.from(result));
+            }
+            ExchangeChartResult result = exchangeRateService.getExchangeRateChart(command);
+            return ApiResponse.success(ExchangeChartResponse.from(result));
+        });
+    }
+
+    @Operation(summary = "여러 통화 비교 차트 조회", description = "여러 기준 통화의 환율 이력을 동시에 조회하여 공통 날짜 축으로 반환합니다. (대상 통화는 KRW 고정)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "비교 차트 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/chart/compare")
+    public ApiResponse<ExchangeMultiChartResponse> getMultiCurrencyChart(
+        @Parameter(description = "기준 통화 목록 (1단위당 KRW)", example = "USD,EUR,JPY")
+        @RequestParam List<Currency> baseCurrencies,
+
+        @Parameter(description = "시작일자 (yyyy-MM-dd)", example = "2024-01-01")
+        @RequestParam String startDate,
+
+        @Parameter(description = "종료일자 (yyyy-MM-dd)", example = "2024-03-31")
+        @RequestParam String endDate,
+
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        return httpCaching.respond(request, response, baseCurrencies, startDate, endDate, false, () -> {
+            ExchangeMultiChartCommand command = new ExchangeMultiChartCommand(
+                baseCurrencies,
+                Currency.KRW,
+                startDate,
+                endDate
+            );
+
+            ExchangeMultiChartResult result = exchangeRateService.getMultiCurrencyChart(command);
+            return ApiResponse.success(ExchangeMultiChartResponse.from(result));
+        });
+    }
+
+    @Operation(
+        summary = "기간 프리셋 환율 차트 조회",
+        description = "1d/1w/1m/3m/1y/5y 기간을 최근 데이터 일자 기준 고정 구간으로 조회합니다. (대상 통화는 KRW 고정) "
+            + "같은 프리셋 요청은 공유 캐시 항목 하나를 사용하며, 환율 동기화 직후 미리 다시 생성됩니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "차트 데이터 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 기간"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/chart/{baseCurrency}/period/{period}")
+    public ApiResponse<ExchangeChartResponse> getExchangeRatePeriodChart(
+        @Parameter(description = "기준 통화 (1단위당 KRW)", example = "USD")
+        @PathVariable Currency baseCurrency,
+
+        @Parameter(description = "기간 (1d, 1w, 1m, 3m, 1y, 5y)", example = "1m")
+        @PathVariable String period,
+
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        ChartPeriod chartPeriod = ChartPeriod.fromCode(period);
+        ExchangeChartRangeResult range = exchangeRateService.resolveChartPeriod(baseCurrency, chartPeriod);
+
+        String startDate = range.startDate().toString();
+        String endDate = range.endDate().toString();
+        return httpCaching.respond(request, response, List.of(baseCurrency), startDate, endDate, false, () -> {
+            ExchangeChartResult result = chartPeriodCache.get(baseCurrency, chartPeriod, range);
+            return ApiResponse.success(ExchangeChartResponse.from(result));
+        });
+    }
+
+    @Operation(summary = "환율 OHLC 캔들 조회", description = "일별 환율을 주/월/연 단위 시가·고가·저가·종가로 집계합니다. (대상 통화는 KRW 고정)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "캔들 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/chart/{baseCurrency}/candles")
+    public ApiResponse<ExchangeCandleResponse> getExchangeRateCandles(
+        @Parameter(description = "기준 통화 (1단위당 KRW)", example = "USD")
+        @PathVariable Currency baseCurrency,
+
+        @Parameter(description = "캔들 단위 (WEEK, MONTH, YEAR)", example = "MONTH")
+        @RequestParam CandleInterval interval,
+
+        @Parameter(description = "시작일자 (yyyy-MM-dd)", example = "2005-01-01")
+        @RequestParam String startDate,
+
+        @Parameter(description = "종료일자 (yyyy-MM-dd)", example = "2024-12-31")
+        @RequestParam String endDate,
+
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        return httpCaching.respond(request, response, List.of(baseCurrency), startDate, endDate, false, () -> {
+            ExchangeCandleCommand command = new ExchangeCandleCommand(
+                baseCurrency,
+                Currency.KRW,
+                interval,
+                startDate,
+                endDate
+            );
+
+            ExchangeCandleResult result = exchangeRateService.getExchangeRateCandles(command);
+            return ApiResponse.success(ExchangeCandleResponse.from(result));
+        });
     }
 
     @Operation(summary = "환율 변환 계산", description = "두 통화 간 금액 변환을 수행합니다.")
@@ -84,4 +251,48 @@ public class ExchangeRateController {
         ExchangeConvertResponse response = ExchangeConvertResponse.from(result);
         return ApiResponse.success(response);
     }
+
+    @Operation(
+        summary = "전체 통화 대시보드 조회",
+        description = "전체 통화의 현재 환율, 직전 일자 대비 변동, 최근 30일 sparkline 을 반환합니다. "
+            + "환율 동기화/변경 시 미리 계산·직렬화된 응답을 그대로 반환하며 ETag 로 조건부 요청을 지원합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "대시보드 조회 성공",
+            content = @Content(schema = @Schema(implementation = ExchangeDashboardResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getDashboard(
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        dashboardResponseCache.write(request, response);
+    }
+
+    @Operation(
+        summary = "배치 환율 변환 계산",
+        description = "(from, to, amount) 배열을 한 시점의 환율로 변환하여 항목 순서대로 스트리밍 응답합니다. "
+            + "항목별 오류는 해당 항목의 errorCode/errorMessage 로 반환합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "배치 변환 처리 (항목별 결과 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "변환 항목 배열",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = ExchangeConvertRequest.class)))
+    )
+    @PostMapping(value = "/convert/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void convertExchangeRateBatch(
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        ExchangeRateConverter converter = exchangeRateService.newConverter();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        batchConvertStreamer.convert(request.getInputStream(), response.getOutputStream(), converter);
+    }
 }
\ No newline at end of file
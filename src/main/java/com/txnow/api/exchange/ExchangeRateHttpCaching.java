@@ -0,0 +1,227 @@
+package com.txnow.api.exchange;
+
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeDataVersionResult;
+
+import com.txnow.api.support.ApiResponse;
+import com.txnow.application.exchange.ExchangeRateService;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.infrastructure.quota.ClientQuotaLimiter;
+import com.txnow.infrastructure.scheduler.ExchangeRateScheduler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 환율 조회 응답 HTTP 조건부 요청 처리 (ETag / Last-Modified / Cache-Control)
+ * - ETag: 요청 URI + 조회 구간 데이터 fingerprint (응답 본문 계산 없이 생성, 표현별로 다름)
+ * - Last-Modified: 통화 환율이 마지막으로 반영된 시각
+ * - Cache-Control: 종료일까지 수집된 구간은 closed-max-age, 그 외에는 다음 일일 동기화 완료 예상 시각까지
+ * 변경된 경우 본문은 ETag 단위 직렬화 캐시({@link ExchangeChartResponseCache})에서 바로 기록한다.
+ * 인덱스가 적재한 구간의 본문 이력도 같은 인덱스에서 읽으므로 ETag 와 본문 데이터가 어긋나지 않는다.
+ * 캐시 헤더는 304 또는 본문이 준비된 200 응답에만 기록하여 오류 응답이 공개 캐시에 저장되지 않게 한다.
+ * 인덱스가 구간을 적재하지 않은 경우에는 헤더 없이 그대로 조회한다.
+ * 실제 조회/직렬화가 일어나는 경우(캐시 미스, 스트리밍)에만 클라이언트 EXPENSIVE 쿼터를 차감한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateHttpCaching {
+
+    private static final CronExpression SYNC_SCHEDULE = CronExpression.parse(ExchangeRateScheduler.SYNC_CRON);
+
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeChartResponseCache responseCache;
+    private final ClientQuotaLimiter quotaLimiter;
+
+    @Value("${exchange-rate.http-cache.closed-max-age-seconds:86400}")
+    private long closedMaxAgeSeconds;
+
+    /**
+     * 동기화 시각 이후 수집 완료까지의 여유 시간
+     */
+    @Value("${exchange-rate.http-cache.sync-grace-seconds:600}")
+    private long syncGraceSeconds;
+
+    /**
+     * 요청의 If-None-Match / If-Modified-Since 검증, 변경된 경우 직렬화 캐시로 응답
+     * @return 검증 대상이 아니면 loader 결과 (일반 응답), 304 또는 본문을 기록했으면 null
+     */
+    public <T> ApiResponse<T> respond(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        List<Currency> currencies,
+        String startDate,
+        String endDate,
+        boolean includePriorRates,
+        Supplier<ApiResponse<T>> loader
+    ) throws IOException {
+        return respond(request, response, ExchangeChartFormat.JSON, currencies, startDate, endDate, includePriorRates, loader);
+    }
+
+    /**
+     * @param format Accept 로 선택한 응답 표현 (loader 는 해당 표현의 본문을 반환해야 함)
+     */
+    public <T> ApiResponse<T> respond(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        ExchangeChartFormat format,
+        List<Currency> currencies,
+        String startDate,
+        String endDate,
+        boolean includePriorRates,
+        Supplier<ApiResponse<T>> loader
+    ) throws IOException {
+        Optional<ExchangeDataVersionResult> version =
+            exchangeRateService.findDataVersion(currencies, startDate, endDate, includePriorRates);
+        if (version.isEmpty()) {
+            quotaLimiter.acquireExpensive(request);
+            return loader.get();
+        }
+
+        boolean gzip = ExchangeChartResponseCache.acceptsGzip(request);
+        String etag = etag(request, version.get(), format, gzip);
+        if (isNotModified(request, etag, version.get())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            writeCacheHeaders(response, etag, version.get());
+            return null;
+        }
+
+        LocalDate scopeStart = includePriorRates ? LocalDate.MIN : LocalDate.parse(startDate);
+        ExchangeChartResponseCache.DataScope scope =
+            new ExchangeChartResponseCache.DataScope(currencies, scopeStart, LocalDate.parse(endDate));
+        responseCache.write(etag, format, gzip, response, scope, () -> {
+            quotaLimiter.acquireExpensive(request);
+            return loader.get();
+        }, () -> writeCacheHeaders(response, etag, version.get()));
+        return null;
+    }
+
+    /**
+     * 조건부 요청 검증 후 본문을 직렬화 캐시 없이 응답 스트림에 바로 기록 (긴 구간 스트리밍 응답)
+     * 압축은 서블릿 컨테이너(server.compression)가 전송 중에 수행한다.
+     */
+    public void respondStreaming(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        List<Currency> currencies,
+        String startDate,
+        String endDate,
+        StreamingResponseBody body
+    ) throws IOException {
+        Optional<ExchangeDataVersionResult> version =
+            exchangeRateService.findDataVersion(currencies, startDate, endDate, false);
+        // 전송 중 압축(server.compression) 여부와 무관하게 같은 값이므로 weak ETag 사용
+        String etag = version.map(v -> "W/" + etag(request, v, ExchangeChartFormat.JSON, false)).orElse(null);
+        if (version.isPresent() && isNotModified(request, etag, version.get())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            writeCacheHeaders(response, etag, version.get());
+            return;
+        }
+
+        quotaLimiter.acquireExpensive(request);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        OutputStream output = response.getOutputStream();
+        if (version.isPresent()) {
+            output = deferHeaders(output, () -> writeCacheHeaders(response, etag, version.get()));
+        }
+        body.writeTo(output);
+    }
+
+    /**
+     * 응답을 변경하지 않고 If-None-Match / If-Modified-Since 만 검증
+     */
+    private static boolean isNotModified(HttpServletRequest request, String etag, ExchangeDataVersionResult version) {
+        return new ServletWebRequest(request).checkNotModified(etag, version.lastModified().toEpochMilli());
+    }
+
+    /**
+     * 캐시 헤더는 304 또는 본문을 기록하는 200 응답에만 설정 (조회 실패로 인한 오류 응답이 캐시되지 않도록)
+     */
+    private void writeCacheHeaders(HttpServletResponse response, String etag, ExchangeDataVersionResult version) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(version.closed()).getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, version.lastModified().toEpochMilli());
+    }
+
+    /**
+     * 첫 바이트를 기록하기 직전에 헤더 설정 (스트리밍 시작 전 조회가 실패하면 캐시 헤더 없이 오류 응답)
+     */
+    private static OutputStream deferHeaders(OutputStream output, Runnable headers) {
+        return new FilterOutputStream(output) {
+
+            private boolean ready;
+
+            @Override
+            public void write(int b) throws IOException {
+                ready();
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ready();
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                ready();
+                out.flush();
+            }
+
+            private void ready() {
+                if (!ready) {
+                    ready = true;
+                    headers.run();
+                }
+            }
+        };
+    }
+
+    private CacheControl cacheControl(boolean closed) {
+        if (closed) {
+            return CacheControl.maxAge(Duration.ofSeconds(closedMaxAgeSeconds)).cachePublic();
+        }
+
+        // 동기화 시각 직후(여유 시간 내)에는 이번 동기화 완료 예상 시각까지만 캐시
+        Duration grace = Duration.ofSeconds(syncGraceSeconds);
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime nextSync = SYNC_SCHEDULE.next(now.minus(grace));
+        Duration maxAge = nextSync == null ? Duration.ZERO : Duration.between(now, nextSync.plus(grace));
+        return CacheControl.maxAge(maxAge.isNegative() ? Duration.ZERO : maxAge).cachePublic();
+    }
+
+    /**
+     * 표현(형식, encoding)마다 다른 strong ETag
+     */
+    private static String etag(
+        HttpServletRequest request,
+        ExchangeDataVersionResult version,
+        ExchangeChartFormat format,
+        boolean gzip
+    ) {
+        String source = request.getRequestURI() + '?' + request.getQueryString() + '#' + version.fingerprint();
+        String hash = DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+        return '"' + hash + format.etagSuffix() + (gzip ? "-gzip" : "") + '"';
+    }
+}
@@ -0,0 +1,289 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.api.exchange.dto.ExchangeResponse.ExchangeRateStreamMessage;
+import com.txnow.application.exchange.ExchangeRateSnapshotRegistry;
+import com.txnow.domain.alert.model.AlertClientToken;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 실시간 환율 push WebSocket 핸들러 (/ws/exchange-rates)
+ *
+ * 요청: {"type":"subscribe","currencies":["USD","EUR"]} / {"type":"unsubscribe","currencies":["EUR"]}
+ *       {"type":"register","token":"..."} (환율 알림 수신 클라이언트 등록, 알림 등록 시 발급된 토큰)
+ * 응답: {"type":"rate","currency":"USD","date":"2024-03-15","rate":1320.5000} (구독 시 현재 환율, 이후 갱신마다)
+ *       {"type":"alert",...} (등록한 클라이언트의 환율 알림 발송 시)
+ *
+ * - 환율 갱신 1건은 한 번만 직렬화한 TextMessage 를 모든 구독 세션이 공유한다.
+ * - 세션마다 크기 제한 버퍼를 두고, 느린 클라이언트는 오래된 메시지부터 버린다. (drop-oldest)
+ * - 전송은 구독자를 묶음으로 나눠 가상 스레드에서 병렬로 수행하여 느린 소켓이 다른 세션을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class ExchangeRateStreamHandler extends TextWebSocketHandler {
+
+    private static final String SUBSCRIBE = "subscribe";
+    private static final String UNSUBSCRIBE = "unsubscribe";
+    private static final String REGISTER = "register";
+    private static final String CLIENT_ID_ATTRIBUTE = "clientId";
+
+    private final ObjectMapper objectMapper;
+    private final ExchangeRateSnapshotRegistry snapshotRegistry;
+    private final int maxSessions;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimitBytes;
+    private final int fanoutBatchSize;
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Currency, Set<WebSocketSession>> subscribers = new EnumMap<>(Currency.class);
+    private final Map<String, Set<WebSocketSession>> clients = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final ExecutorService fanoutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ExchangeRateStreamHandler(
+        ObjectMapper objectMapper,
+        ExchangeRateSnapshotRegistry snapshotRegistry,
+        @Value("${exchange-rate.stream.max-sessions:50000}") int maxSessions,
+        @Value("${exchange-rate.stream.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+        @Value("${exchange-rate.stream.buffer-size-limit-bytes:4096}") int bufferSizeLimitBytes,
+        @Value("${exchange-rate.stream.fanout-batch-size:500}") int fanoutBatchSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.snapshotRegistry = snapshotRegistry;
+        this.maxSessions = maxSessions;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+        this.fanoutBatchSize = fanoutBatchSize;
+        for (Currency currency : Currency.values()) {
+            subscribers.put(currency, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        if (sessionCount.incrementAndGet() > maxSessions) {
+            sessionCount.decrementAndGet();
+            log.warn("Rate stream session limit exceeded: {}", maxSessions);
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(
+            session, sendTimeLimitMillis, bufferSizeLimitBytes, OverflowStrategy.DROP);
+        decorated.getAttributes().put(Currency.class.getName(), ConcurrentHashMap.<Currency>newKeySet());
+        sessions.put(session.getId(), decorated);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        WebSocketSession decorated = sessions.get(session.getId());
+        if (decorated == null) {
+            return;
+        }
+
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(message.getPayload());
+        } catch (IOException e) {
+            send(decorated, errorMessage("Invalid message: " + e.getMessage()));
+            return;
+        }
+
+        String type = request.path("type").asText();
+        try {
+            if (SUBSCRIBE.equals(type)) {
+                subscribe(decorated, parseCurrencies(request.path("currencies")));
+            } else if (UNSUBSCRIBE.equals(type)) {
+                for (Currency currency : parseCurrencies(request.path("currencies"))) {
+                    subscribedCurrencies(decorated).remove(currency);
+                    subscribers.get(currency).remove(decorated);
+                }
+            } else if (REGISTER.equals(type)) {
+                register(decorated, AlertClientToken.clientIdOf(request.path("token").asText()));
+            } else {
+                send(decorated, errorMessage("Unknown message type: " + type));
+            }
+        } catch (IllegalArgumentException e) {
+            send(decorated, errorMessage("Invalid message: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Rate stream transport error: {} {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        WebSocketSession decorated = sessions.remove(session.getId());
+        if (decorated == null) {
+            return;
+        }
+        sessionCount.decrementAndGet();
+        for (Currency currency : subscribedCurrencies(decorated)) {
+            subscribers.get(currency).remove(decorated);
+        }
+        unregister(decorated);
+    }
+
+    /**
+     * 통화 구독 세션 전체에 같은 메시지 전송
+     * 구독자를 fanout-batch-size 단위로 나눠 병렬 전송하고, 전송 실패 세션은 구독에서 제거한다.
+     */
+    public void broadcast(Currency currency, TextMessage message) {
+        List<WebSocketSession> targets = new ArrayList<>(subscribers.get(currency));
+        for (int from = 0; from < targets.size(); from += fanoutBatchSize) {
+            List<WebSocketSession> batch = targets.subList(from, Math.min(from + fanoutBatchSize, targets.size()));
+            fanoutExecutor.execute(() -> {
+                for (WebSocketSession session : batch) {
+                    if (!send(session, message)) {
+                        subscribers.get(currency).remove(session);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 클라이언트로 등록한 이 노드의 세션에 메시지 전송
+     * @return 전송한 세션 수
+     */
+    public int sendToClient(String clientId, TextMessage message) {
+        Set<WebSocketSession> targets = clients.get(clientId);
+        if (targets == null) {
+            return 0;
+        }
+        int sent = 0;
+        for (WebSocketSession session : targets) {
+            if (send(session, message)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    public int sessionCount() {
+        return sessionCount.get();
+    }
+
+    public int subscriberCount(Currency currency) {
+        return subscribers.get(currency).size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanoutExecutor.shutdownNow();
+    }
+
+    private void subscribe(WebSocketSession session, Set<Currency> currencies) {
+        ExchangeRateSnapshot snapshot = snapshotRegistry.current();
+        for (Currency currency : currencies) {
+            subscribedCurrencies(session).add(currency);
+            subscribers.get(currency).add(session);
+
+            Optional<BigDecimal> rate = snapshot.rate(currency, Currency.KRW);
+            if (rate.isPresent() && snapshot.rateDate(currency).isPresent()) {
+                ExchangeRateStreamMessage current =
+                    ExchangeRateStreamMessage.rate(currency, snapshot.rateDate(currency).get(), rate.get());
+                try {
+                    send(session, new TextMessage(objectMapper.writeValueAsString(current)));
+                } catch (IOException e) {
+                    log.warn("Failed to serialize current rate for {}: {}", currency, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 세션을 clientId(토큰 해시) 수신 대상으로 등록 (세션당 1개, 다시 등록하면 교체)
+     * 토큰을 가진 클라이언트만 자기 알림을 받을 수 있도록 clientId 를 직접 받지 않는다.
+     */
+    private void register(WebSocketSession session, String clientId) {
+        unregister(session);
+        session.getAttributes().put(CLIENT_ID_ATTRIBUTE, clientId);
+        clients.compute(clientId, (key, registered) -> {
+            Set<WebSocketSession> targets = registered != null ? registered : ConcurrentHashMap.newKeySet();
+            targets.add(session);
+            return targets;
+        });
+    }
+
+    private void unregister(WebSocketSession session) {
+        Object clientId = session.getAttributes().remove(CLIENT_ID_ATTRIBUTE);
+        if (clientId == null) {
+            return;
+        }
+        clients.computeIfPresent((String) clientId, (key, registered) -> {
+            registered.remove(session);
+            return registered.isEmpty() ? null : registered;
+        });
+    }
+
+    private Set<Currency> parseCurrencies(JsonNode node) {
+        if (!node.isArray() || node.isEmpty()) {
+            throw new IllegalArgumentException("currencies is required");
+        }
+        Set<Currency> currencies = EnumSet.noneOf(Currency.class);
+        for (JsonNode value : node) {
+            Currency currency = Currency.valueOf(value.asText());
+            if (currency != Currency.KRW) {
+                currencies.add(currency);
+            }
+        }
+        return currencies;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Currency> subscribedCurrencies(WebSocketSession session) {
+        return (Set<Currency>) session.getAttributes().get(Currency.class.getName());
+    }
+
+    private TextMessage errorMessage(String message) {
+        return new TextMessage(objectMapper.createObjectNode()
+            .put("type", "error")
+            .put("message", message)
+            .toString());
+    }
+
+    /**
+     * @return 세션이 닫혔거나 전송 제한 시간을 넘겨 더 이상 보낼 수 없으면 false
+     */
+    private static boolean send(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 전송 제한 시간 초과 시 decorator 가 세션을 닫고 SessionLimitExceededException 을 던진다.
+            log.debug("Failed to push rate to session {}: {}", session.getId(), e.getMessage());
+            return false;
+        }
+    }
+}
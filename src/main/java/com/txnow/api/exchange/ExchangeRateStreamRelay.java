@@ -0,0 +1,109 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.api.exchange.dto.ExchangeResponse.ExchangeRateStreamMessage;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * 환율 갱신 → WebSocket 구독자 전달
+ * - 로컬 갱신(스케줄러/Provider 저장 이벤트)은 바로 전달하고 Redis 채널로 다른 노드에 전파한다.
+ * - Redis 로 받은 갱신은 메시지 문자열을 그대로 TextMessage 로 재사용한다. (직렬화 1회)
+ * 통화별 마지막 전달 환율과 같거나 이전 일자인 갱신은 버리므로
+ * 자기 노드 메시지 수신, 여러 노드의 동일 스케줄 실행으로 인한 중복 push 가 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateStreamRelay implements MessageListener {
+
+    static final String CHANNEL = "exchange-rate:stream";
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ExchangeRateStreamHandler streamHandler;
+
+    private final Map<Currency, DailyRate> lastPushed = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(
+                ExchangeRateStreamMessage.rate(event.currency(), event.date(), event.rate()));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize rate stream message for {}: {}", event.currency(), e.getMessage());
+            return;
+        }
+
+        try {
+            push(event.currency(), new DailyRate(event.date(), event.rate()), payload);
+        } catch (Exception e) {
+            log.warn("Failed to push rate stream message for {}: {}", event.currency(), e.getMessage());
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish rate stream message to Redis: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            ExchangeRateStreamMessage received = objectMapper.readValue(payload, ExchangeRateStreamMessage.class);
+            push(received.currency(), new DailyRate(received.date(), received.rate()), payload);
+        } catch (Exception e) {
+            log.warn("Invalid rate stream message from Redis: {}", e.getMessage());
+        }
+    }
+
+    private void push(Currency currency, DailyRate rate, String payload) {
+        if (markPushed(currency, rate)) {
+            streamHandler.broadcast(currency, new TextMessage(payload));
+        }
+    }
+
+    /**
+     * 마지막 전달 환율보다 새 일자이거나 같은 일자의 다른 환율이면 기록 후 true (CAS)
+     */
+    private boolean markPushed(Currency currency, DailyRate rate) {
+        while (true) {
+            DailyRate previous = lastPushed.get(currency);
+            if (previous != null && (rate.date().isBefore(previous.date())
+                || rate.date().equals(previous.date()) && rate.rate().compareTo(previous.rate()) == 0)) {
+                return false;
+            }
+            boolean updated = previous == null
+                ? lastPushed.putIfAbsent(currency, rate) == null
+                : lastPushed.replace(currency, previous, rate);
+            if (updated) {
+                return true;
+            }
+        }
+    }
+}
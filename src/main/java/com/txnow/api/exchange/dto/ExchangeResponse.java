@@ -3,11 +3,14 @@ package com.txnow.api.exchange.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.txnow.application.exchange.dto.ExchangeResult;
+import com.txnow.domain.exchange.model.CandleInterval;
 import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.FixedPoint;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,13 +28,21 @@ public record ExchangeResponse() {
         BigDecimal rate,
 
         @Schema(description = "환율 적용 시점", example = "2024-01-15T10:30:00")
-        LocalDateTime timestamp
+        LocalDateTime timestamp,
+
+        @Schema(description = "계산에 사용한 환율 스냅샷 버전 (스냅샷 밖 환율이면 null)", example = "42")
+        Long rateVersion,
+
+        @Schema(description = "계산에 사용한 환율 기준일 (스냅샷 밖 환율이면 null)", example = "2024-01-15")
+        LocalDate rateDate
     ) {
         public static ExchangeConvertResponse from(ExchangeResult.ExchangeConvertResult result) {
             return new ExchangeConvertResponse(
                 result.convertedAmount(),
                 result.rate(),
-                result.timestamp()
+                result.timestamp(),
+                result.rateVersion(),
+                result.rateDate()
             );
         }
     }
@@ -73,7 +84,11 @@ public record ExchangeResponse() {
 
         @Schema(description = "기간 통계")
         @NotNull
-        ExchangeChartStatistics statistics
+        ExchangeChartStatistics statistics,
+
+        @Schema(description = "보조 지표 (요청한 경우)")
+        @NotNull
+        List<ExchangeIndicatorData> indicators
     ) {
         public static ExchangeChartResponse from(ExchangeResult.ExchangeChartResult result) {
             List<ExchangeChartDataPoint> chartData = result.chartData().stream()
@@ -91,6 +106,20 @@ public record ExchangeResponse() {
                 result.statistics().average()
             );
 
+            List<ExchangeIndicatorData> indicators = result.indicators().stream()
+                .map(indicator -> new ExchangeIndicatorData(
+                    indicator.name(),
+                    indicator.points().stream()
+                        .map(point -> new ExchangeIndicatorPoint(
+                            point.date(),
+                            point.value(),
+                            point.upper(),
+                            point.lower()
+                        ))
+                        .collect(Collectors.toList())
+                ))
+                .collect(Collectors.toList());
+
             var currentRate = result.currentRate();
 
             return new ExchangeChartResponse(
@@ -102,7 +131,93 @@ public record ExchangeResponse() {
                 currentRate.changePercent(),
                 result.lastUpdated(),
                 chartData,
-                statistics
+                statistics,
+                indicators
+            );
+        }
+    }
+
+    @Schema(description = "열(column) 단위 환율 차트 응답 (Accept: application/vnd.fxnow.chart-columnar+json 또는 application/cbor)")
+    public record ExchangeChartColumnarResponse(
+        @Schema(description = "기준 통화", example = "USD")
+        @NotNull
+        Currency baseCurrency,
+
+        @Schema(description = "대상 통화", example = "KRW")
+        @NotNull
+        Currency targetCurrency,
+
+        @Schema(description = "조회 기간", example = "2024-01-01 ~ 2024-01-31")
+        @NotNull
+        String period,
+
+        @Schema(description = "현재 환율", example = "1400.20")
+        @NotNull
+        BigDecimal currentRate,
+
+        @Schema(description = "전일 대비 변동", example = "5.30")
+        @NotNull
+        BigDecimal change,
+
+        @Schema(description = "전일 대비 변동률(%)", example = "0.38")
+        @NotNull
+        BigDecimal changePercent,
+
+        @Schema(description = "마지막 업데이트 시간", example = "2024-03-15T10:30:00")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        @NotNull
+        LocalDateTime lastUpdated,
+
+        @Schema(description = "기간 통계")
+        @NotNull
+        ExchangeChartStatistics statistics,
+
+        @Schema(description = "첫 포인트 일자 (epoch day, 1970-01-01 = 0)", example = "19723")
+        long dateBase,
+
+        @Schema(description = "직전 포인트 대비 일수 차이 (첫 값은 0, 누적합 + dateBase = 포인트 일자)", example = "[0, 1, 1, 3]")
+        @NotNull
+        int[] dateDeltas,
+
+        @Schema(description = "환율 배열 값의 소수점 자리수", example = "4")
+        int rateScale,
+
+        @Schema(description = "포인트 환율 (정수, 실제 값 = rates[i] / 10^rateScale)", example = "[13995000, 13998000]")
+        @NotNull
+        long[] rates,
+
+        @Schema(description = "변동률 배열 값의 소수점 자리수", example = "2")
+        int dayChangeScale,
+
+        @Schema(description = "포인트 전일 대비 변동률(%) (정수, 실제 값 = dayChanges[i] / 10^dayChangeScale)", example = "[0, 15]")
+        @NotNull
+        long[] dayChanges
+    ) {
+        public static ExchangeChartColumnarResponse from(ExchangeResult.ExchangeChartColumnsResult result) {
+            int[] epochDays = result.epochDays();
+            int[] dateDeltas = new int[epochDays.length];
+            for (int i = 1; i < epochDays.length; i++) {
+                dateDeltas[i] = epochDays[i] - epochDays[i - 1];
+            }
+
+            var currentRate = result.currentRate();
+            var statistics = result.statistics();
+
+            return new ExchangeChartColumnarResponse(
+                result.baseCurrency(),
+                result.targetCurrency(),
+                result.period(),
+                currentRate.rate(),
+                currentRate.change(),
+                currentRate.changePercent(),
+                result.lastUpdated(),
+                new ExchangeChartStatistics(statistics.high(), statistics.low(), statistics.average()),
+                epochDays.length == 0 ? 0 : epochDays[0],
+                dateDeltas,
+                FixedPoint.RATE_SCALE,
+                result.scaledRates(),
+                FixedPoint.PERCENT_SCALE,
+                result.scaledDayChanges()
             );
         }
     }
@@ -139,4 +254,292 @@ public record ExchangeResponse() {
         @NotNull
         BigDecimal average
     ) {}
+
+    @Schema(description = "보조 지표 시계열")
+    public record ExchangeIndicatorData(
+        @Schema(description = "지표명", example = "SMA(20)")
+        @NotNull
+        String name,
+
+        @Schema(description = "지표 값 (차트 데이터 포인트 일자 기준)")
+        @NotNull
+        List<ExchangeIndicatorPoint> points
+    ) {}
+
+    @Schema(description = "보조 지표 값")
+    public record ExchangeIndicatorPoint(
+        @Schema(description = "날짜", example = "2024-03-15")
+        @NotNull
+        String date,
+
+        @Schema(description = "지표 값 (볼린저 밴드는 중심선, 변동성은 연율화 %)", example = "1392.8500")
+        @NotNull
+        BigDecimal value,
+
+        @Schema(description = "밴드 상단 (볼린저 밴드)", example = "1410.2000")
+        BigDecimal upper,
+
+        @Schema(description = "밴드 하단 (볼린저 밴드)", example = "1375.5000")
+        BigDecimal lower
+    ) {}
+
+    @Schema(description = "여러 통화 비교 차트 응답")
+    public record ExchangeMultiChartResponse(
+        @Schema(description = "대상 통화", example = "KRW")
+        @NotNull
+        Currency targetCurrency,
+
+        @Schema(description = "조회 기간", example = "2024-01-01 ~ 2024-03-31")
+        @NotNull
+        String period,
+
+        @Schema(description = "공통 날짜 축 (오름차순)")
+        @NotNull
+        List<String> dates,
+
+        @Schema(description = "통화별 환율 (dates 와 같은 길이, 데이터가 없는 일자는 null)")
+        @NotNull
+        List<ExchangeChartSeriesData> series
+    ) {
+        public static ExchangeMultiChartResponse from(ExchangeResult.ExchangeMultiChartResult result) {
+            List<ExchangeChartSeriesData> series = result.series().stream()
+                .map(data -> new ExchangeChartSeriesData(data.baseCurrency(), data.rates()))
+                .collect(Collectors.toList());
+
+            return new ExchangeMultiChartResponse(
+                result.targetCurrency(),
+                result.period(),
+                result.dates(),
+                series
+            );
+        }
+    }
+
+    @Schema(description = "통화별 환율 시계열")
+    public record ExchangeChartSeriesData(
+        @Schema(description = "기준 통화", example = "USD")
+        @NotNull
+        Currency baseCurrency,
+
+        @Schema(description = "일자별 환율 (공통 날짜 축 기준)")
+        @NotNull
+        List<BigDecimal> rates
+    ) {}
+
+    @Schema(description = "환율 OHLC 캔들 응답")
+    public record ExchangeCandleResponse(
+        @Schema(description = "기준 통화", example = "USD")
+        @NotNull
+        Currency baseCurrency,
+
+        @Schema(description = "대상 통화", example = "KRW")
+        @NotNull
+        Currency targetCurrency,
+
+        @Schema(description = "캔들 단위", example = "MONTH")
+        @NotNull
+        CandleInterval interval,
+
+        @Schema(description = "조회 기간", example = "2005-01-01 ~ 2024-12-31")
+        @NotNull
+        String period,
+
+        @Schema(description = "캔들 목록 (구간 시작일 오름차순)")
+        @NotNull
+        List<ExchangeCandleData> candles
+    ) {
+        public static ExchangeCandleResponse from(ExchangeResult.ExchangeCandleResult result) {
+            List<ExchangeCandleData> candles = result.candles().stream()
+                .map(candle -> new ExchangeCandleData(
+                    candle.periodStart(),
+                    candle.firstDate(),
+                    candle.lastDate(),
+                    candle.open(),
+                    candle.high(),
+                    candle.low(),
+                    candle.close()
+                ))
+                .collect(Collectors.toList());
+
+            return new ExchangeCandleResponse(
+                result.baseCurrency(),
+                result.targetCurrency(),
+                result.interval(),
+                result.period(),
+                candles
+            );
+        }
+    }
+
+    @Schema(description = "OHLC 캔들")
+    public record ExchangeCandleData(
+        @Schema(description = "구간 시작일", example = "2024-03-01")
+        @NotNull
+        String periodStart,
+
+        @Schema(description = "구간 내 첫 데이터 일자", example = "2024-03-04")
+        @NotNull
+        String firstDate,
+
+        @Schema(description = "구간 내 마지막 데이터 일자", example = "2024-03-29")
+        @NotNull
+        String lastDate,
+
+        @Schema(description = "시가 (첫 일자 환율)", example = "1331.50")
+        @NotNull
+        BigDecimal open,
+
+        @Schema(description = "고가", example = "1345.20")
+        @NotNull
+        BigDecimal high,
+
+        @Schema(description = "저가", example = "1318.40")
+        @NotNull
+        BigDecimal low,
+
+        @Schema(description = "종가 (마지막 일자 환율)", example = "1347.10")
+        @NotNull
+        BigDecimal close
+    ) {}
+
+    @Schema(description = "통화 간 상관 행렬 응답 (행/열 순서는 currencies 순서)")
+    public record ExchangeCorrelationResponse(
+        @Schema(description = "통화 목록", example = "[\"USD\", \"EUR\", \"JPY\"]")
+        @NotNull
+        List<Currency> currencies,
+
+        @Schema(description = "기준일 (마지막 수익률 일자)", example = "2024-03-15")
+        @NotNull
+        LocalDate asOf,
+
+        @Schema(description = "요청 구간 (일별 수익률 개수)", example = "60")
+        int windowDays,
+
+        @Schema(description = "계산에 사용한 수익률 개수", example = "60")
+        int observations,
+
+        @Schema(description = "상관계수 행렬")
+        @NotNull
+        double[][] correlation,
+
+        @Schema(description = "공분산 행렬 (일별 로그 수익률)")
+        @NotNull
+        double[][] covariance,
+
+        @Schema(description = "베타 행렬 (beta[i][j] = 열 통화 대비 행 통화 민감도)")
+        @NotNull
+        double[][] beta
+    ) {
+        public static ExchangeCorrelationResponse from(ExchangeResult.ExchangeCorrelationResult result) {
+            return new ExchangeCorrelationResponse(
+                result.currencies(),
+                result.asOf(),
+                result.windowDays(),
+                result.observations(),
+                result.correlation(),
+                result.covariance(),
+                result.beta()
+            );
+        }
+    }
+
+    @Schema(description = "전체 통화 대시보드 응답")
+    public record ExchangeDashboardResponse(
+        @Schema(description = "대시보드 버전 (재계산할 때마다 증가)", example = "42")
+        long version,
+
+        @Schema(description = "대시보드 생성 시각", example = "2024-03-15T11:30:05")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        @NotNull
+        LocalDateTime generatedAt,
+
+        @Schema(description = "통화별 현재 환율과 sparkline")
+        @NotNull
+        List<ExchangeDashboardRateData> rates
+    ) {
+        public static ExchangeDashboardResponse from(ExchangeResult.ExchangeDashboardResult result) {
+            List<ExchangeDashboardRateData> rates = result.rates().stream()
+                .map(rate -> new ExchangeDashboardRateData(
+                    rate.baseCurrency(),
+                    result.targetCurrency(),
+                    rate.rate(),
+                    rate.change(),
+                    rate.changePercent(),
+                    rate.rateDate(),
+                    rate.sparkline().stream()
+                        .map(point -> new ExchangeDashboardPointData(point.date(), point.rate()))
+                        .collect(Collectors.toList())
+                ))
+                .collect(Collectors.toList());
+
+            return new ExchangeDashboardResponse(result.version(), result.generatedAt(), rates);
+        }
+    }
+
+    @Schema(description = "대시보드 통화별 환율")
+    public record ExchangeDashboardRateData(
+        @Schema(description = "기준 통화", example = "USD")
+        @NotNull
+        Currency baseCurrency,
+
+        @Schema(description = "대상 통화", example = "KRW")
+        @NotNull
+        Currency targetCurrency,
+
+        @Schema(description = "현재 환율", example = "1320.5000")
+        @NotNull
+        BigDecimal rate,
+
+        @Schema(description = "직전 일자 대비 변동폭", example = "-2.5000")
+        @NotNull
+        BigDecimal change,
+
+        @Schema(description = "직전 일자 대비 변동률 (%)", example = "-0.19")
+        @NotNull
+        BigDecimal changePercent,
+
+        @Schema(description = "환율 기준일", example = "2024-03-15")
+        @NotNull
+        LocalDate rateDate,
+
+        @Schema(description = "최근 일별 환율 (날짜 오름차순, 마지막 포인트는 현재 환율)")
+        @NotNull
+        List<ExchangeDashboardPointData> sparkline
+    ) {}
+
+    @Schema(description = "sparkline 포인트")
+    public record ExchangeDashboardPointData(
+        @Schema(description = "날짜", example = "2024-03-14")
+        @NotNull
+        String date,
+
+        @Schema(description = "환율", example = "1323.0000")
+        @NotNull
+        BigDecimal rate
+    ) {}
+
+    @Schema(description = "실시간 환율 push 메시지 (WebSocket /ws/exchange-rates)")
+    public record ExchangeRateStreamMessage(
+        @Schema(description = "메시지 유형", example = "rate")
+        @NotNull
+        String type,
+
+        @Schema(description = "기준 통화 (1단위당 KRW)", example = "USD")
+        @NotNull
+        Currency currency,
+
+        @Schema(description = "환율 기준일", example = "2024-03-15")
+        @NotNull
+        LocalDate date,
+
+        @Schema(description = "환율 (KRW)", example = "1320.5000")
+        @NotNull
+        BigDecimal rate
+    ) {
+        public static final String TYPE_RATE = "rate";
+
+        public static ExchangeRateStreamMessage rate(Currency currency, LocalDate date, BigDecimal rate) {
+            return new ExchangeRateStreamMessage(TYPE_RATE, currency, date, rate);
+        }
+    }
 }
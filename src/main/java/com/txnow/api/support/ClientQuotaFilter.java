@@ -0,0 +1,98 @@
+package com.txnow.api.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.infrastructure.quota.ClientQuotaLimiter;
+import com.txnow.infrastructure.quota.QuotaDecision;
+import com.txnow.infrastructure.quota.QuotaTier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * API 요청 클라이언트 식별 및 STANDARD 쿼터 적용
+ * - 클라이언트: 등록된 X-API-Key 헤더(해시)가 있으면 API 키, 없거나 등록되지 않은 키면 원격 IP
+ * - 쿼터 초과 시 컨트롤러까지 가지 않고 429 + Retry-After 로 응답
+ * 식별한 클라이언트는 요청 속성으로 남겨 캐시 미스 시 EXPENSIVE 쿼터 차감에 사용한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class ClientQuotaFilter extends OncePerRequestFilter {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final ClientQuotaLimiter quotaLimiter;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 별도 쿼터를 받는 API 키 목록 (임의의 키로 요청마다 새 버킷을 만들어 쿼터를 우회하지 못하도록)
+     */
+    @Value("${quota.api-keys:}")
+    private Set<String> apiKeys;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/")
+            || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        String clientId = clientIdOf(request);
+        request.setAttribute(ClientQuotaLimiter.CLIENT_ATTRIBUTE, clientId);
+
+        QuotaDecision decision = quotaLimiter.tryAcquire(clientId, QuotaTier.STANDARD);
+        if (!decision.allowed()) {
+            log.debug("Request quota exceeded: client={}, uri={}", clientId, request.getRequestURI());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+                "QUOTA_EXCEEDED",
+                "Request quota exceeded. Retry after " + decision.retryAfterSeconds() + " seconds"
+            ));
+            return;
+        }
+
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * API 키는 원문 대신 해시 앞부분만 사용 (로그/Redis 키에 키 원문이 남지 않도록)
+     */
+    private String clientIdOf(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (StringUtils.hasText(apiKey) && apiKeys.contains(apiKey)) {
+            String hash = DigestUtils.md5DigestAsHex(apiKey.getBytes(StandardCharsets.UTF_8));
+            return "key-" + hash.substring(0, 16);
+        }
+        return "ip-" + request.getRemoteAddr();
+    }
+}
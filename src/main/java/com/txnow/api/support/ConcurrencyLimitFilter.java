@@ -0,0 +1,114 @@
+package com.txnow.api.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.infrastructure.limit.GradientConcurrencyLimit;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 엔드포인트 구분({@link EndpointClass})별 적응형 동시 처리 한도 및 부하 차단
+ * 한도만큼 처리 중이면 대기열 없이 즉시 503 으로 거절한다.
+ * CACHED 와 QUERY 는 한도를 따로 두어, upstream 지연으로 QUERY 요청이 쌓여도 CACHED 경로의 처리 슬롯은 유지된다.
+ * 처리 시간이 응답 크기에 비례하는 요청은 지연 시간 샘플에서 제외한다.
+ * (배치 변환은 고정 한도의 BULK, 스트리밍 차트는 {@link #excludeFromSampling})
+ * 클라이언트 쿼터({@link ClientQuotaFilter})를 통과한 요청에만 적용한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String UNSAMPLED_ATTRIBUTE = ConcurrencyLimitFilter.class.getName() + ".UNSAMPLED";
+
+    private final Map<EndpointClass, GradientConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(
+        ObjectMapper objectMapper,
+        @Value("${concurrency-limit.cached.initial:50}") int cachedInitial,
+        @Value("${concurrency-limit.cached.min:10}") int cachedMin,
+        @Value("${concurrency-limit.cached.max:200}") int cachedMax,
+        @Value("${concurrency-limit.query.initial:20}") int queryInitial,
+        @Value("${concurrency-limit.query.min:4}") int queryMin,
+        @Value("${concurrency-limit.query.max:100}") int queryMax,
+        @Value("${concurrency-limit.bulk.limit:8}") int bulkLimit
+    ) {
+        this.objectMapper = objectMapper;
+        limits.put(EndpointClass.CACHED, new GradientConcurrencyLimit(cachedInitial, cachedMin, cachedMax));
+        limits.put(EndpointClass.QUERY, new GradientConcurrencyLimit(queryInitial, queryMin, queryMax));
+        limits.put(EndpointClass.BULK, new GradientConcurrencyLimit(bulkLimit, bulkLimit, bulkLimit));
+    }
+
+    /**
+     * 처리 시간을 한도 갱신에 반영하지 않을 요청으로 표시 (스트리밍 응답)
+     * 수 초 걸리는 대용량 응답이 upstream 지연으로 해석되어 QUERY 한도를 줄이지 않도록 한다.
+     */
+    public static void excludeFromSampling(HttpServletRequest request) {
+        request.setAttribute(UNSAMPLED_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/")
+            || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        GradientConcurrencyLimit limit = limits.get(endpointClass);
+
+        if (!limit.tryAcquire()) {
+            log.debug("Request shed: class={}, limit={}, uri={}",
+                endpointClass.code(), limit.limit(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (endpointClass == EndpointClass.BULK || request.getAttribute(UNSAMPLED_ATTRIBUTE) != null) {
+                limit.releaseUnsampled();
+            } else {
+                limit.release(System.nanoTime() - startedAt, dropped);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+            "OVERLOADED",
+            "Server is busy. Please try again later."
+        ));
+    }
+}
@@ -0,0 +1,56 @@
+package com.txnow.api.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+/**
+ * 동시 처리 한도(bulkhead) 구분
+ * - CACHED: 사전 계산 결과만으로 응답하는 경로 (대시보드, 상관관계)
+ * - QUERY: DB/한국은행 API 조회가 일어날 수 있는 경로 (upstream 지연 시 한도가 줄어드는 대상)
+ * - BULK: 요청 크기에 비례해 오래 걸리는 스트리밍 경로 (배치 변환, 고정 한도)
+ * 변환과 기간 프리셋 차트는 스냅샷/기간 캐시 미스 시 Provider 로 조회하므로 QUERY 로 구분한다.
+ * (느린 upstream 이 CACHED 슬롯을 채우지 않도록)
+ */
+public enum EndpointClass {
+    CACHED,
+    QUERY,
+    BULK;
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final String[] CACHED_GETS = {
+        "/api/exchange-rates/dashboard",
+        "/api/exchange-rates/analytics/correlation"
+    };
+
+    private static final String[] BULK_POSTS = {
+        "/api/exchange-rates/convert/batch"
+    };
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (HttpMethod.POST.matches(request.getMethod())) {
+            for (String pattern : BULK_POSTS) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return BULK;
+                }
+            }
+        }
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return QUERY;
+        }
+
+        for (String pattern : CACHED_GETS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return CACHED;
+            }
+        }
+        return QUERY;
+    }
+
+    public String code() {
+        return name().toLowerCase();
+    }
+}
@@ -1,8 +1,14 @@
 package com.txnow.api.support;
 
+import com.txnow.domain.alert.exception.RateAlertNotFoundException;
 import com.txnow.domain.exchange.exception.ExchangeRateNotFoundException;
 import com.txnow.domain.exchange.exception.ExchangeRateUnavailableException;
+import com.txnow.domain.exchange.exception.InsufficientRateHistoryException;
+import com.txnow.infrastructure.quota.QuotaExceededException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -24,6 +30,22 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error(e.getMessage()));
     }
 
+    @ExceptionHandler(InsufficientRateHistoryException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInsufficientRateHistoryException(InsufficientRateHistoryException e) {
+        log.warn("Insufficient rate history: {}", e.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .body(ApiResponse.error(e.getMessage()));
+    }
+
+    @ExceptionHandler(RateAlertNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRateAlertNotFoundException(RateAlertNotFoundException e) {
+        log.warn("Rate alert not found: {}", e.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .body(ApiResponse.error(e.getMessage()));
+    }
+
     @ExceptionHandler(ExchangeRateUnavailableException.class)
     public ResponseEntity<ApiResponse<Object>> handleExchangeRateUnavailableException(ExchangeRateUnavailableException e) {
         log.error("Exchange rate service unavailable: {}", e.getMessage());
@@ -32,6 +54,20 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error("Exchange rate service is temporarily unavailable. Please try again later."));
     }
 
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<ApiResponse<Object>> handleQuotaExceededException(
+        QuotaExceededException e,
+        HttpServletResponse response
+    ) {
+        log.warn("Request quota exceeded: {}", e.getMessage());
+        // 캐시 응답용으로 먼저 설정된 헤더가 429 응답에 남지 않도록 교체
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        return ResponseEntity
+            .status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(ApiResponse.error("QUOTA_EXCEEDED", e.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiResponse<Object>> handleIllegalArgumentException(IllegalArgumentException e) {
         return ResponseEntity
@@ -0,0 +1,140 @@
+package com.txnow.api.support;
+
+import com.txnow.domain.support.RequestTiming;
+import com.txnow.domain.support.RequestTiming.Stage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 단위 계층별 처리 시간을 Server-Timing 응답 헤더와 timing 로그로 기록 (server-timing.enabled=true 일 때만)
+ * - 헤더: 본문 기록 직전(응답 commit 전)까지 측정된 값. 예: redis;dur=0.8, db;dur=12.4, mapper;dur=3.1, total;dur=17.0
+ * - 로그: 요청 완료 시점의 전체 값과 데이터를 반환한 계층 (served: redis/db/bok, Provider 조회가 없으면 memory)
+ * 스트리밍 응답은 기록 중 발생한 시간이 헤더에 포함되지 않으므로 로그를 기준으로 본다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final boolean enabled;
+
+    public ServerTimingFilter(@Value("${server-timing.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !request.getRequestURI().startsWith("/api/")
+            || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        TimingResponse timingResponse = new TimingResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            RequestTiming.end();
+            timingResponse.writeHeader();
+            log.info("Request timing: method={} uri={} status={} served={} {}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                timing.servedBy().map(Stage::code).orElse("memory"), format(timing, " ", "=", "ms"));
+        }
+    }
+
+    /**
+     * 기록된 단계만 "이름{separator}시간" 으로 연결 (마지막은 total)
+     */
+    static String format(RequestTiming timing, String delimiter, String separator, String suffix) {
+        StringBuilder builder = new StringBuilder(64);
+        for (Stage stage : STAGES) {
+            if (timing.count(stage) == 0) {
+                continue;
+            }
+            builder.append(stage.code()).append(separator).append(millis(timing.nanos(stage))).append(suffix)
+                .append(delimiter);
+        }
+        return builder.append("total").append(separator).append(millis(timing.elapsedNanos())).append(suffix)
+            .toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * 본문 기록 직전에 Server-Timing 헤더 추가 (commit 후에는 헤더를 바꿀 수 없음)
+     */
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean headerWritten;
+
+        private TimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        private void writeHeader() {
+            if (headerWritten || isCommitted()) {
+                return;
+            }
+            headerWritten = true;
+            setHeader(SERVER_TIMING_HEADER, format(timing, ", ", ";dur=", ""));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.txnow.application.alert;
+
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.alert.model.RateAlertNotification;
+import com.txnow.domain.alert.notifier.RateAlertNotifier;
+import com.txnow.domain.alert.repository.RateAlertIndex;
+import com.txnow.domain.alert.repository.RateAlertRepository;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 환율 갱신 시 기준값을 넘은 알림 발송
+ * - 통화/방향별 정렬 인덱스에서 새 환율로 넘어선 구간만 batch-size 단위로 꺼낸다. (전체 알림 순회 없음)
+ * - 꺼낸 묶음은 발송 실행기에서 비동기로 발송 처리(DB) 후 알림 채널로 전달하여 환율 수집을 지연시키지 않는다.
+ * - 최신 일자보다 이전 일자의 보정 갱신은 알림을 발생시키지 않는다.
+ */
+@Slf4j
+@Component
+public class RateAlertEngine {
+
+    private final RateAlertRepository rateAlertRepository;
+    private final RateAlertIndex rateAlertIndex;
+    private final RateAlertNotifier rateAlertNotifier;
+    private final RateRangeIndexRegistry rateRangeIndexRegistry;
+    private final Executor executor;
+    private final int batchSize;
+
+    public RateAlertEngine(
+        RateAlertRepository rateAlertRepository,
+        RateAlertIndex rateAlertIndex,
+        RateAlertNotifier rateAlertNotifier,
+        RateRangeIndexRegistry rateRangeIndexRegistry,
+        @Qualifier("rateAlertNotifyExecutor") Executor executor,
+        @Value("${rate-alert.batch-size:1000}") int batchSize
+    ) {
+        this.rateAlertRepository = rateAlertRepository;
+        this.rateAlertIndex = rateAlertIndex;
+        this.rateAlertNotifier = rateAlertNotifier;
+        this.rateRangeIndexRegistry = rateRangeIndexRegistry;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 기동 시 DB 활성 알림으로 인덱스 재구성 (id 순 keyset 페이지, 이미 있는 알림은 덮어쓴다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long afterId = 0;
+        int total = 0;
+        try {
+            List<RateAlert> page;
+            do {
+                page = rateAlertRepository.findActive(afterId, batchSize);
+                if (!page.isEmpty()) {
+                    rateAlertIndex.addAll(page);
+                    afterId = page.getLast().getId();
+                    total += page.size();
+                }
+            } while (page.size() == batchSize);
+            log.info("Rebuilt rate alert index: {} active alerts", total);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild rate alert index after {} alerts: {}", total, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        Currency currency = event.currency();
+        if (isCorrection(currency, event.date())) {
+            return;
+        }
+
+        for (AlertDirection direction : AlertDirection.values()) {
+            try {
+                List<Long> alertIds;
+                do {
+                    alertIds = rateAlertIndex.pollTriggered(currency, direction, event.rate(), batchSize);
+                    if (!alertIds.isEmpty()) {
+                        List<Long> batch = alertIds;
+                        try {
+                            executor.execute(() -> dispatch(batch, event.rate(), event.date()));
+                        } catch (RejectedExecutionException e) {
+                            // 발송 실행기가 가득 찬 경우 꺼낸 알림을 되돌리고 다음 환율 갱신 때 다시 평가
+                            log.warn("Rate alert dispatch rejected, restoring {} alerts for {} {}", batch.size(), currency, direction);
+                            restore(batch);
+                            break;
+                        }
+                    }
+                } while (alertIds.size() == batchSize);
+            } catch (Exception e) {
+                log.warn("Failed to evaluate rate alerts for {} {}: {}", currency, direction, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 발송 처리 후 알림 채널로 전달
+     * 인덱스에서 꺼낸 뒤 삭제된 알림, 다른 경로로 이미 발송된 알림은 제외한다.
+     * 발송 처리 전에 실패하면 꺼낸 알림을 인덱스에 되돌린다.
+     */
+    void dispatch(List<Long> alertIds, BigDecimal rate, LocalDate date) {
+        List<RateAlert> alerts = null;
+        List<RateAlertNotification> notifications;
+        try {
+            alerts = rateAlertRepository.findAllById(alertIds).stream()
+                .filter(RateAlert::isActive)
+                .toList();
+            if (alerts.isEmpty()) {
+                return;
+            }
+
+            notifications = alerts.stream()
+                .map(alert -> RateAlertNotification.of(alert, rate, date))
+                .toList();
+            rateAlertRepository.markTriggered(
+                notifications.stream().map(RateAlertNotification::alertId).toList(), rate, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("Failed to mark {} rate alerts triggered, restoring to index: {}", alertIds.size(), e.getMessage());
+            if (alerts == null) {
+                restore(alertIds);
+            } else {
+                restoreAlerts(alerts);
+            }
+            return;
+        }
+
+        try {
+            rateAlertNotifier.notify(notifications);
+            log.debug("Dispatched {} rate alerts at {} {}", notifications.size(), date, rate);
+        } catch (Exception e) {
+            log.error("Failed to notify {} rate alerts: {}", notifications.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 꺼냈지만 발송 처리하지 못한 알림 중 아직 활성인 알림을 인덱스에 되돌림
+     * 되돌리지 못한 알림은 다음 기동 시 인덱스 재구성에서 복구된다.
+     */
+    private void restore(List<Long> alertIds) {
+        try {
+            restoreAlerts(rateAlertRepository.findAllById(alertIds).stream()
+                .filter(RateAlert::isActive)
+                .toList());
+        } catch (Exception e) {
+            log.error("Failed to restore rate alerts {} to index: {}", alertIds, e.getMessage());
+        }
+    }
+
+    private void restoreAlerts(List<RateAlert> alerts) {
+        try {
+            rateAlertIndex.addAll(alerts);
+        } catch (Exception e) {
+            log.error("Failed to restore rate alerts {} to index: {}", alerts.stream().map(RateAlert::getId).toList(), e.getMessage());
+        }
+    }
+
+    private boolean isCorrection(Currency currency, LocalDate date) {
+        return rateRangeIndexRegistry.find(currency)
+            .flatMap(RateRangeIndex::lastDate)
+            .map(date::isBefore)
+            .orElse(false);
+    }
+}
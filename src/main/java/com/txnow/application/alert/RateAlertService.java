@@ -0,0 +1,100 @@
+package com.txnow.application.alert;
+
+import static com.txnow.application.alert.dto.RateAlertCommand.RateAlertCreateCommand;
+import static com.txnow.application.alert.dto.RateAlertCommand.RateAlertDeleteCommand;
+import static com.txnow.application.alert.dto.RateAlertResult.RateAlertCreateResult;
+import static com.txnow.application.alert.dto.RateAlertResult.RateAlertInfoResult;
+import static com.txnow.application.alert.dto.RateAlertResult.RateAlertListResult;
+
+import com.txnow.domain.alert.exception.RateAlertNotFoundException;
+import com.txnow.domain.alert.model.AlertClientToken;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.alert.repository.RateAlertIndex;
+import com.txnow.domain.alert.repository.RateAlertRepository;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+/**
+ * 환율 알림 등록/조회/삭제
+ * 등록된 알림은 기준값 인덱스에 추가되어 다음 환율 갱신부터 검사된다. ({@link RateAlertEngine})
+ * 알림 소유자는 서버가 발급한 클라이언트 토큰으로만 식별한다. ({@link AlertClientToken})
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateAlertService {
+
+    private final RateAlertRepository rateAlertRepository;
+    private final RateAlertIndex rateAlertIndex;
+
+    @Value("${rate-alert.max-per-client:100}")
+    private int maxAlertsPerClient;
+
+    /**
+     * 토큰 없이 등록하면 새 토큰을 발급하고, 토큰을 주면 그 토큰의 알림으로 추가한다.
+     * 서버가 발급한 토큰만 받기 위해, 알림이 하나도 없는 토큰은 거부한다.
+     */
+    public RateAlertCreateResult createAlert(RateAlertCreateCommand command) {
+        Assert.notNull(command.currency(), "Currency is required");
+        Assert.isTrue(command.currency() != Currency.KRW && command.currency().isSupportedCurrency(),
+            "Unsupported currency: " + command.currency());
+        Assert.notNull(command.direction(), "Direction is required");
+        Assert.notNull(command.thresholdRate(), "Threshold rate is required");
+        Assert.isTrue(command.thresholdRate().signum() > 0, "Threshold rate must be positive");
+        Assert.isTrue(command.thresholdRate().stripTrailingZeros().scale() <= FixedPoint.RATE_SCALE,
+            "Threshold rate must have at most " + FixedPoint.RATE_SCALE + " decimal places");
+
+        String token = command.token() != null ? command.token() : AlertClientToken.issue();
+        String clientId = AlertClientToken.clientIdOf(token);
+        List<RateAlert> existing = rateAlertRepository.findByClientId(clientId);
+        Assert.isTrue(command.token() == null || !existing.isEmpty(), "Unknown alert token");
+
+        long activeCount = existing.stream()
+            .filter(RateAlert::isActive)
+            .count();
+        Assert.isTrue(activeCount < maxAlertsPerClient,
+            "At most " + maxAlertsPerClient + " active alerts are allowed per client");
+
+        RateAlert saved = rateAlertRepository.save(RateAlert.builder()
+            .clientId(clientId)
+            .currency(command.currency())
+            .direction(command.direction())
+            .thresholdRate(command.thresholdRate())
+            .createdAt(LocalDateTime.now())
+            .build());
+        rateAlertIndex.add(saved);
+
+        log.debug("Rate alert created: {} {} {} {}", saved.getId(), saved.getCurrency(),
+            saved.getDirection(), saved.getThresholdRate());
+        return new RateAlertCreateResult(token, RateAlertInfoResult.from(saved));
+    }
+
+    public RateAlertListResult getAlerts(String token) {
+        List<RateAlertInfoResult> alerts = rateAlertRepository.findByClientId(AlertClientToken.clientIdOf(token)).stream()
+            .map(RateAlertInfoResult::from)
+            .toList();
+        return new RateAlertListResult(alerts);
+    }
+
+    /**
+     * @throws RateAlertNotFoundException 알림이 없거나 다른 클라이언트의 알림인 경우
+     */
+    public void deleteAlert(RateAlertDeleteCommand command) {
+        Assert.notNull(command.alertId(), "Alert id is required");
+        String clientId = AlertClientToken.clientIdOf(command.token());
+
+        RateAlert alert = rateAlertRepository.findById(command.alertId())
+            .filter(found -> found.getClientId().equals(clientId))
+            .orElseThrow(() -> new RateAlertNotFoundException(command.alertId()));
+
+        rateAlertIndex.remove(alert);
+        rateAlertRepository.deleteById(alert.getId());
+    }
+}
@@ -0,0 +1,24 @@
+package com.txnow.application.alert.dto;
+
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.exchange.model.Currency;
+
+import java.math.BigDecimal;
+
+public record RateAlertCommand() {
+
+    /**
+     * @param token 알림 클라이언트 토큰 (null 이면 새로 발급)
+     */
+    public record RateAlertCreateCommand(
+        String token,
+        Currency currency,
+        AlertDirection direction,
+        BigDecimal thresholdRate
+    ) {}
+
+    public record RateAlertDeleteCommand(
+        String token,
+        Long alertId
+    ) {}
+}
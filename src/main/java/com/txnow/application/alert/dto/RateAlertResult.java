@@ -0,0 +1,51 @@
+package com.txnow.application.alert.dto;
+
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.exchange.model.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record RateAlertResult() {
+
+    /**
+     * @param triggeredAt 알림 발송 시각 (null 이면 대기 중)
+     */
+    public record RateAlertInfoResult(
+        Long id,
+        Currency currency,
+        AlertDirection direction,
+        BigDecimal thresholdRate,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime triggeredAt,
+        BigDecimal triggeredRate
+    ) {
+        public static RateAlertInfoResult from(RateAlert alert) {
+            return new RateAlertInfoResult(
+                alert.getId(),
+                alert.getCurrency(),
+                alert.getDirection(),
+                alert.getThresholdRate(),
+                alert.isActive(),
+                alert.getCreatedAt(),
+                alert.getTriggeredAt(),
+                alert.getTriggeredRate()
+            );
+        }
+    }
+
+    /**
+     * @param token 알림 클라이언트 토큰 (이후 조회/삭제/WebSocket register 에 사용)
+     */
+    public record RateAlertCreateResult(
+        String token,
+        RateAlertInfoResult alert
+    ) {}
+
+    public record RateAlertListResult(
+        List<RateAlertInfoResult> alerts
+    ) {}
+}
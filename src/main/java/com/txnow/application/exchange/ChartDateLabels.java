@@ -0,0 +1,37 @@
+package com.txnow.application.exchange;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 차트 날짜 문자열 캐시 (yyyy-MM-dd)
+ * epoch day 기준 배열에 한 번 생성한 문자열을 재사용한다.
+ * String 은 불변 객체이므로 동시 초기화 경합이 있어도 안전하다.
+ */
+final class ChartDateLabels {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(1990, 1, 1).toEpochDay();
+    private static final long LAST_EPOCH_DAY = LocalDate.of(2099, 12, 31).toEpochDay();
+
+    private static final String[] LABELS = new String[(int) (LAST_EPOCH_DAY - FIRST_EPOCH_DAY + 1)];
+
+    private ChartDateLabels() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    static String format(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < FIRST_EPOCH_DAY || epochDay > LAST_EPOCH_DAY) {
+            return date.format(DATE_FORMATTER);
+        }
+
+        int index = (int) (epochDay - FIRST_EPOCH_DAY);
+        String label = LABELS[index];
+        if (label == null) {
+            label = date.format(DATE_FORMATTER);
+            LABELS[index] = label;
+        }
+        return label;
+    }
+}
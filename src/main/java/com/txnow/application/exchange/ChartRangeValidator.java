@@ -0,0 +1,56 @@
+package com.txnow.application.exchange;
+
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartRangeResult;
+import com.txnow.domain.exchange.model.Currency;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import org.springframework.util.Assert;
+
+/**
+ * 차트/비교 차트/캔들 조회 구간 공통 검증 (대상 통화 KRW, yyyy-MM-dd, 시작일 ≤ 종료일)
+ * 조회 API 마다 규칙과 오류 메시지가 달라지지 않도록 한 곳에서만 검증한다.
+ */
+final class ChartRangeValidator {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private ChartRangeValidator() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return 파싱한 조회 구간
+     * @throws IllegalArgumentException 대상 통화가 KRW 가 아니거나 구간이 잘못된 경우
+     * @throws DateTimeParseException 날짜 형식이 yyyy-MM-dd 가 아닌 경우
+     */
+    static ExchangeChartRangeResult validate(Currency targetCurrency, String startDateStr, String endDateStr) {
+        Assert.notNull(targetCurrency, "Target currency is required");
+        Assert.isTrue(targetCurrency == Currency.KRW, "Target currency must be KRW");
+        Assert.hasText(startDateStr, "Start date is required");
+        Assert.hasText(endDateStr, "End date is required");
+
+        LocalDate startDate = LocalDate.parse(startDateStr, DATE_FORMATTER);
+        LocalDate endDate = LocalDate.parse(endDateStr, DATE_FORMATTER);
+
+        Assert.isTrue(!startDate.isAfter(endDate), "Start date must be before or equal to end date");
+        return new ExchangeChartRangeResult(startDate, endDate);
+    }
+
+    /**
+     * 검증 없이 구간만 파싱 (캐시 키/스트리밍 여부 판단용)
+     * @return 날짜가 없거나 형식이 잘못된 경우 empty
+     */
+    static Optional<ExchangeChartRangeResult> parse(String startDateStr, String endDateStr) {
+        if (startDateStr == null || endDateStr == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new ExchangeChartRangeResult(
+                LocalDate.parse(startDateStr, DATE_FORMATTER), LocalDate.parse(endDateStr, DATE_FORMATTER)));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
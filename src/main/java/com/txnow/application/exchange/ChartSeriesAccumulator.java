@@ -0,0 +1,186 @@
+package com.txnow.application.exchange;
+
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeChartDataPoint;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeChartStatistics;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeCurrentRate;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.ExchangeRateCalculator;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 일별 환율 시계열 단일 순회 집계기
+ * 차트 포인트, 최고/최저, 합계, 현재 변동을 한 번의 순회로 함께 계산한다.
+ * 다운샘플링 시에도 통계와 일별 변동률은 전체 시계열 기준으로 계산한다.
+ * 계산은 고정소수점(long)으로 수행하고 최고/최저/현재 환율은 원본 BigDecimal 을 그대로 사용한다.
+ * 열(column) 모드에서는 포인트 객체 대신 일자/환율/변동률을 primitive 배열에 바로 기록한다.
+ * 스트리밍 모드에서는 포인트를 보관하지 않고 바로 출력 대상(sink)에 전달한다.
+ */
+final class ChartSeriesAccumulator {
+
+    private final List<ExchangeChartDataPoint> points;
+
+    private final ExchangeChartPointSink sink;
+    private final boolean columnar;
+    private int[] epochDays;
+    private long[] scaledRates;
+    private long[] scaledDayChanges;
+    private int size;
+
+    private DailyRate high;
+    private DailyRate low;
+    private long highScaled;
+    private long lowScaled;
+    private long sum;
+    private int count;
+
+    private DailyRate last;
+    private DailyRate previous;
+    private long lastScaled;
+    private long lastChangePercent;
+
+    ChartSeriesAccumulator(int expectedSize) {
+        this(expectedSize, false, null);
+    }
+
+    private ChartSeriesAccumulator(int expectedSize, boolean columnar, ExchangeChartPointSink sink) {
+        this.sink = sink;
+        this.columnar = columnar;
+        this.points = columnar || sink != null ? List.of() : new ArrayList<>(expectedSize);
+        if (columnar) {
+            int capacity = Math.max(1, expectedSize);
+            this.epochDays = new int[capacity];
+            this.scaledRates = new long[capacity];
+            this.scaledDayChanges = new long[capacity];
+        }
+    }
+
+    static ChartSeriesAccumulator columnar(int expectedSize) {
+        return new ChartSeriesAccumulator(expectedSize, true, null);
+    }
+
+    static ChartSeriesAccumulator streaming(ExchangeChartPointSink sink) {
+        return new ChartSeriesAccumulator(0, false, sink);
+    }
+
+    void add(DailyRate dailyRate) {
+        add(dailyRate, true);
+    }
+
+    /**
+     * @param includePoint false 면 통계/변동률에만 반영하고 차트 포인트는 생성하지 않음 (다운샘플링)
+     */
+    void add(DailyRate dailyRate, boolean includePoint) {
+        long scaledRate = FixedPoint.toScaledRate(dailyRate.rate());
+        long scaledDayChange = 0;
+        boolean first = last == null;
+
+        if (first) {
+            high = dailyRate;
+            low = dailyRate;
+            highScaled = scaledRate;
+            lowScaled = scaledRate;
+        } else {
+            lastChangePercent = ExchangeRateCalculator.calculateChangePercentage(scaledRate, lastScaled);
+            scaledDayChange = lastChangePercent;
+
+            // 동일 값이면 먼저 나온 데이터 유지
+            if (scaledRate > highScaled) {
+                high = dailyRate;
+                highScaled = scaledRate;
+            }
+            if (scaledRate < lowScaled) {
+                low = dailyRate;
+                lowScaled = scaledRate;
+            }
+        }
+
+        sum += scaledRate;
+        count++;
+        previous = last;
+        last = dailyRate;
+        lastScaled = scaledRate;
+
+        if (!includePoint) {
+            return;
+        }
+
+        if (columnar) {
+            appendColumns(Math.toIntExact(dailyRate.date().toEpochDay()), scaledRate, scaledDayChange);
+            return;
+        }
+
+        BigDecimal dayChange = first ? BigDecimal.ZERO : FixedPoint.toBigDecimal(scaledDayChange, FixedPoint.PERCENT_SCALE);
+        if (sink != null) {
+            sink.accept(ChartDateLabels.format(dailyRate.date()), dailyRate.rate(), dayChange);
+            size++;
+            return;
+        }
+
+        points.add(new ExchangeChartDataPoint(
+            ChartDateLabels.format(dailyRate.date()),
+            null,
+            dailyRate.rate(),
+            dayChange
+        ));
+    }
+
+    private void appendColumns(int epochDay, long scaledRate, long scaledDayChange) {
+        if (size == epochDays.length) {
+            int capacity = size * 2;
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            scaledRates = Arrays.copyOf(scaledRates, capacity);
+            scaledDayChanges = Arrays.copyOf(scaledDayChanges, capacity);
+        }
+        epochDays[size] = epochDay;
+        scaledRates[size] = scaledRate;
+        scaledDayChanges[size] = scaledDayChange;
+        size++;
+    }
+
+    List<ExchangeChartDataPoint> points() {
+        return points;
+    }
+
+    /**
+     * 출력한 포인트 수 (열/스트리밍 모드)
+     */
+    int size() {
+        return size;
+    }
+
+    int[] epochDays() {
+        return Arrays.copyOf(epochDays, size);
+    }
+
+    long[] scaledRates() {
+        return Arrays.copyOf(scaledRates, size);
+    }
+
+    long[] scaledDayChanges() {
+        return Arrays.copyOf(scaledDayChanges, size);
+    }
+
+    ExchangeChartStatistics statistics() {
+        BigDecimal average = FixedPoint.toBigDecimal(
+            ExchangeRateCalculator.calculateAverage(sum, count),
+            FixedPoint.RATE_SCALE
+        );
+        return new ExchangeChartStatistics(high.rate(), low.rate(), average);
+    }
+
+    ExchangeCurrentRate currentRate() {
+        if (previous == null) {
+            return new ExchangeCurrentRate(last.rate(), BigDecimal.ZERO, BigDecimal.ZERO);
+        }
+
+        return new ExchangeCurrentRate(
+            last.rate(),
+            last.rate().subtract(previous.rate()),
+            FixedPoint.toBigDecimal(lastChangePercent, FixedPoint.PERCENT_SCALE)
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.txnow.application.exchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 다운샘플링 차트 로컬 캐시
+ * (통화, 기간, maxPoints, 구간 데이터 버전) 단위로 캐싱하여 기간 길이와 무관하게 응답 크기/직렬화 비용을 일정하게 유지
+ * 데이터 버전(인덱스 fingerprint)이 키에 포함되므로 보정 이전에 만들어진 항목은 보정 이후 요청에 사용되지 않는다.
+ */
+@Slf4j
+@Component
+public class DownsampledChartCache {
+
+    private final Cache<DownsampledChartKey, ExchangeChartResult> cache;
+
+    public DownsampledChartCache(
+        @Value("${cache.downsampled-chart.max-size:1000}") long maxSize,
+        @Value("${cache.downsampled-chart.ttl-seconds:3600}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 결과를 저장
+     * loader 는 Provider I/O 를 포함하므로 캐시 내부 lock 밖에서 실행한다.
+     * @param dataVersion 구간 데이터 fingerprint (인덱스가 구간을 적재하지 않았으면 empty)
+     */
+    public ExchangeChartResult get(
+        Currency currency,
+        LocalDate startDate,
+        LocalDate endDate,
+        int maxPoints,
+        OptionalLong dataVersion,
+        Supplier<ExchangeChartResult> loader
+    ) {
+        DownsampledChartKey key = new DownsampledChartKey(currency, startDate, endDate, maxPoints, dataVersion);
+        ExchangeChartResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("Cache HIT (Downsampled chart): {}", key);
+            return cached;
+        }
+
+        ExchangeChartResult result = loader.get();
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * 새 환율 일자를 포함하는 기간의 캐시 제거 (이전 버전 항목 정리, 인덱스 미적재 구간 무효화)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            cache.asMap().keySet().removeIf(key ->
+                key.currency() == event.currency() && !key.endDate().isBefore(event.date()));
+        } catch (Exception e) {
+            log.warn("Failed to evict downsampled charts for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    private record DownsampledChartKey(
+        Currency currency,
+        LocalDate startDate,
+        LocalDate endDate,
+        int maxPoints,
+        OptionalLong dataVersion
+    ) {}
+}
@@ -0,0 +1,52 @@
+package com.txnow.application.exchange;
+
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeCorrelationResult;
+
+import com.txnow.application.exchange.analytics.CorrelationMatrix;
+import com.txnow.application.exchange.analytics.CorrelationMatrixRegistry;
+import com.txnow.application.exchange.dto.ExchangeCommand;
+import com.txnow.domain.exchange.exception.InsufficientRateHistoryException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+/**
+ * 환율 분석 (통화 간 상관/공분산/베타)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExchangeAnalyticsService {
+
+    private static final int MIN_WINDOW_DAYS = 5;
+    private static final int MAX_WINDOW_DAYS = 750;
+
+    private final CorrelationMatrixRegistry correlationMatrixRegistry;
+
+    /**
+     * 최근 windowDays 개 일별 로그 수익률 기준 통화 간 상관 행렬 조회
+     * 모든 통화에 환율이 있는 일자만 사용한다.
+     */
+    public ExchangeCorrelationResult getCorrelationMatrix(ExchangeCommand.ExchangeCorrelationCommand command) {
+        Integer windowDays = command.windowDays();
+
+        Assert.notNull(windowDays, "Window days is required");
+        Assert.isTrue(windowDays >= MIN_WINDOW_DAYS && windowDays <= MAX_WINDOW_DAYS,
+            "Window days must be between " + MIN_WINDOW_DAYS + " and " + MAX_WINDOW_DAYS);
+
+        CorrelationMatrix matrix = correlationMatrixRegistry.find(windowDays)
+            .filter(found -> found.asOf() != null)
+            .orElseThrow(() -> new InsufficientRateHistoryException(windowDays));
+
+        return new ExchangeCorrelationResult(
+            matrix.currencies(),
+            matrix.asOf(),
+            matrix.windowDays(),
+            matrix.observations(),
+            matrix.correlation(),
+            matrix.covariance(),
+            matrix.beta()
+        );
+    }
+}
@@ -1,116 +1,323 @@
 package com.txnow.application.exchange;
 
+import com.txnow.application.exchange.candle.Candle;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeCandleResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeCandleResult.ExchangeCandle;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartColumnsResult;
 import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
-import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeCurrentRate;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartSummaryResult;
 import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeChartDataPoint;
 import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeChartStatistics;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeIndicatorPoint;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeIndicatorSeries;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeMultiChartResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeMultiChartResult.ExchangeChartSeries;
+import com.txnow.application.exchange.indicator.IndicatorPoint;
+import com.txnow.application.exchange.indicator.IndicatorSpec;
+import com.txnow.domain.exchange.model.CandleInterval;
 import com.txnow.domain.exchange.model.Currency;
-import com.txnow.domain.exchange.model.ExchangeRateCalculator;
 import com.txnow.domain.exchange.model.DailyRate;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ExchangeChartMapper {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final int AVERAGE_SCALE = 4;
-
     public ExchangeChartResult toChartResult(
         Currency baseCurrency,
         Currency targetCurrency,
         String startDate,
         String endDate,
         List<DailyRate> dailyRates
+    ) {
+        return toChartResult(baseCurrency, targetCurrency, startDate, endDate, dailyRates, null);
+    }
+
+    /**
+     * @param statistics 인덱스에서 조회한 구간 통계 (null 이면 시계열에서 계산)
+     */
+    public ExchangeChartResult toChartResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        String startDate,
+        String endDate,
+        List<DailyRate> dailyRates,
+        ExchangeChartStatistics statistics
+    ) {
+        if (dailyRates.isEmpty()) {
+            throw new IllegalArgumentException("Daily rates cannot be empty");
+        }
+
+        ChartSeriesAccumulator accumulator = new ChartSeriesAccumulator(dailyRates.size());
+        for (DailyRate dailyRate : dailyRates) {
+            accumulator.add(dailyRate);
+        }
+
+        return toChartResult(baseCurrency, targetCurrency, startDate, endDate, accumulator, statistics);
+    }
+
+    /**
+     * LTTB 다운샘플링 차트 (최고/최저 포인트 보존)
+     * 통계, 현재 환율, 포인트별 전일 대비 변동률은 전체 시계열 기준으로 계산
+     * @param maxPoints 최대 포인트 수
+     * @param statistics 인덱스에서 조회한 구간 통계 (null 이면 시계열에서 계산)
+     */
+    public ExchangeChartResult toDownsampledChartResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        String startDate,
+        String endDate,
+        List<DailyRate> dailyRates,
+        ExchangeChartStatistics statistics,
+        int maxPoints
+    ) {
+        if (dailyRates.isEmpty()) {
+            throw new IllegalArgumentException("Daily rates cannot be empty");
+        }
+        if (maxPoints < LttbDownsampler.MIN_MAX_POINTS) {
+            throw new IllegalArgumentException("Max points must be at least " + LttbDownsampler.MIN_MAX_POINTS);
+        }
+
+        int[] selected = LttbDownsampler.select(dailyRates, maxPoints);
+        ChartSeriesAccumulator accumulator = new ChartSeriesAccumulator(selected.length);
+        int next = 0;
+        for (int i = 0; i < dailyRates.size(); i++) {
+            boolean includePoint = next < selected.length && selected[next] == i;
+            if (includePoint) {
+                next++;
+            }
+            accumulator.add(dailyRates.get(i), includePoint);
+        }
+
+        return toChartResult(baseCurrency, targetCurrency, startDate, endDate, accumulator, statistics);
+    }
+
+    /**
+     * 열(column) 단위 차트: 포인트 객체를 만들지 않고 일자/환율/변동률 배열로 집계
+     * @param statistics 인덱스에서 조회한 구간 통계 (null 이면 시계열에서 계산)
+     * @param maxPoints 최대 포인트 수 (null 이면 다운샘플링하지 않음)
+     */
+    public ExchangeChartColumnsResult toChartColumnsResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        String startDate,
+        String endDate,
+        List<DailyRate> dailyRates,
+        ExchangeChartStatistics statistics,
+        Integer maxPoints
     ) {
         if (dailyRates.isEmpty()) {
             throw new IllegalArgumentException("Daily rates cannot be empty");
         }
 
-        List<BigDecimal> rates = dailyRates.stream()
-            .map(DailyRate::rate)
-            .toList();
+        int[] selected = maxPoints == null ? null : LttbDownsampler.select(dailyRates, maxPoints);
+        ChartSeriesAccumulator accumulator =
+            ChartSeriesAccumulator.columnar(selected == null ? dailyRates.size() : selected.length);
+        int next = 0;
+        for (int i = 0; i < dailyRates.size(); i++) {
+            boolean includePoint = selected == null || next < selected.length && selected[next] == i;
+            if (selected != null && includePoint) {
+                next++;
+            }
+            accumulator.add(dailyRates.get(i), includePoint);
+        }
 
-        List<ExchangeChartDataPoint> chartData = buildChartDataPoints(dailyRates);
-        ExchangeChartStatistics statistics = calculateStatistics(rates);
-        ExchangeCurrentRate currentRate = calculateCurrentRate(rates);
+        return new ExchangeChartColumnsResult(
+            baseCurrency,
+            targetCurrency,
+            startDate + " ~ " + endDate,
+            accumulator.currentRate(),
+            LocalDateTime.now(),
+            statistics != null ? statistics : accumulator.statistics(),
+            accumulator.epochDays(),
+            accumulator.scaledRates(),
+            accumulator.scaledDayChanges()
+        );
+    }
 
+    /**
+     * 스트리밍 차트: 일별 환율을 읽는 즉시 포인트를 sink 로 출력하고 통계/현재 환율만 보관
+     * @param dailyRates 날짜 오름차순 일별 환율 (1개 이상)
+     */
+    public ExchangeChartSummaryResult streamChart(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        String startDate,
+        String endDate,
+        Iterator<DailyRate> dailyRates,
+        ExchangeChartPointSink sink
+    ) {
+        if (!dailyRates.hasNext()) {
+            throw new IllegalArgumentException("Daily rates cannot be empty");
+        }
+
+        ChartSeriesAccumulator accumulator = ChartSeriesAccumulator.streaming(sink);
+        while (dailyRates.hasNext()) {
+            accumulator.add(dailyRates.next());
+        }
+
+        return new ExchangeChartSummaryResult(
+            baseCurrency,
+            targetCurrency,
+            startDate + " ~ " + endDate,
+            accumulator.currentRate(),
+            LocalDateTime.now(),
+            accumulator.statistics(),
+            accumulator.size()
+        );
+    }
+
+    private ExchangeChartResult toChartResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        String startDate,
+        String endDate,
+        ChartSeriesAccumulator accumulator,
+        ExchangeChartStatistics statistics
+    ) {
         String periodLabel = startDate + " ~ " + endDate;
 
         return new ExchangeChartResult(
             baseCurrency,
             targetCurrency,
             periodLabel,
-            currentRate,
+            accumulator.currentRate(),
             LocalDateTime.now(),
-            chartData,
-            statistics
+            accumulator.points(),
+            statistics != null ? statistics : accumulator.statistics(),
+            List.of()
         );
     }
 
-    private List<ExchangeChartDataPoint> buildChartDataPoints(List<DailyRate> dailyRates) {
-        List<ExchangeChartDataPoint> chartData = new ArrayList<>();
+    /**
+     * 차트 결과에 보조 지표 추가 (차트 데이터 포인트와 같은 일자의 값만 포함)
+     * @param indicators 지표별 일자 오름차순 값
+     */
+    public ExchangeChartResult withIndicators(
+        ExchangeChartResult result,
+        Map<IndicatorSpec, List<IndicatorPoint>> indicators
+    ) {
+        List<ExchangeChartDataPoint> chartData = result.chartData();
+        List<ExchangeIndicatorSeries> indicatorSeries = new ArrayList<>(indicators.size());
 
-        for (int i = 0; i < dailyRates.size(); i++) {
-            DailyRate current = dailyRates.get(i);
-            BigDecimal dayChange = (i > 0)
-                ? ExchangeRateCalculator.calculateChangePercentage(
-                    current.rate(),
-                    dailyRates.get(i - 1).rate()
-                  )
-                : BigDecimal.ZERO;
-
-            chartData.add(new ExchangeChartDataPoint(
-                current.date().format(DATE_FORMATTER),
-                null,
-                current.rate(),
-                dayChange
-            ));
-        }
+        indicators.forEach((spec, points) -> {
+            List<ExchangeIndicatorPoint> aligned = new ArrayList<>(Math.min(points.size(), chartData.size()));
+            int next = 0;
+            for (IndicatorPoint point : points) {
+                String date = ChartDateLabels.format(point.date());
+                while (next < chartData.size() && chartData.get(next).date().compareTo(date) < 0) {
+                    next++;
+                }
+                if (next == chartData.size()) {
+                    break;
+                }
+                if (chartData.get(next).date().equals(date)) {
+                    aligned.add(new ExchangeIndicatorPoint(date, point.value(), point.upper(), point.lower()));
+                }
+            }
+            indicatorSeries.add(new ExchangeIndicatorSeries(spec.label(), aligned));
+        });
 
-        return chartData;
+        return new ExchangeChartResult(
+            result.baseCurrency(),
+            result.targetCurrency(),
+            result.period(),
+            result.currentRate(),
+            result.lastUpdated(),
+            chartData,
+            result.statistics(),
+            indicatorSeries
+        );
     }
 
-    private ExchangeChartStatistics calculateStatistics(List<BigDecimal> rates) {
-        if (rates.isEmpty()) {
-            return new ExchangeChartStatistics(
-                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
-            );
+    public ExchangeCandleResult toCandleResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        CandleInterval interval,
+        String startDate,
+        String endDate,
+        List<Candle> candles
+    ) {
+        List<ExchangeCandle> exchangeCandles = new ArrayList<>(candles.size());
+        for (Candle candle : candles) {
+            exchangeCandles.add(new ExchangeCandle(
+                ChartDateLabels.format(candle.periodStart()),
+                ChartDateLabels.format(candle.firstDate()),
+                ChartDateLabels.format(candle.lastDate()),
+                candle.open(),
+                candle.high(),
+                candle.low(),
+                candle.close()
+            ));
         }
 
-        BigDecimal high = rates.stream().max(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-        BigDecimal low = rates.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-        BigDecimal sum = rates.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal average = sum.divide(
-            BigDecimal.valueOf(rates.size()),
-            AVERAGE_SCALE,
-            RoundingMode.HALF_UP
+        return new ExchangeCandleResult(
+            baseCurrency,
+            targetCurrency,
+            interval,
+            startDate + " ~ " + endDate,
+            exchangeCandles
         );
-
-        return new ExchangeChartStatistics(high, low, average);
     }
 
-    private ExchangeCurrentRate calculateCurrentRate(List<BigDecimal> rates) {
-        if (rates.size() == 1) {
-            return new ExchangeCurrentRate(
-                rates.getLast(),
-                BigDecimal.ZERO,
-                BigDecimal.ZERO
-            );
+    /**
+     * 통화별 일별 환율을 공통 날짜 축으로 정렬 (k-way merge)
+     * @param histories 통화별 날짜 오름차순 일별 환율
+     */
+    public ExchangeMultiChartResult toMultiChartResult(
+        Currency targetCurrency,
+        String startDate,
+        String endDate,
+        Map<Currency, List<DailyRate>> histories
+    ) {
+        List<List<DailyRate>> seriesRates = new ArrayList<>(histories.values());
+        int seriesCount = seriesRates.size();
+        int[] positions = new int[seriesCount];
+
+        List<String> dates = new ArrayList<>();
+        List<List<BigDecimal>> alignedRates = new ArrayList<>(seriesCount);
+        for (int i = 0; i < seriesCount; i++) {
+            alignedRates.add(new ArrayList<>());
         }
 
-        BigDecimal current = rates.getLast();
-        BigDecimal previous = rates.get(rates.size() - 2);
-        BigDecimal change = current.subtract(previous);
-        BigDecimal changePercent = ExchangeRateCalculator
-            .calculateChangePercentage(current, previous)
-            .setScale(2, RoundingMode.HALF_UP);
+        while (true) {
+            LocalDate next = null;
+            for (int i = 0; i < seriesCount; i++) {
+                if (positions[i] < seriesRates.get(i).size()) {
+                    LocalDate date = seriesRates.get(i).get(positions[i]).date();
+                    if (next == null || date.isBefore(next)) {
+                        next = date;
+                    }
+                }
+            }
+            if (next == null) {
+                break;
+            }
+
+            dates.add(ChartDateLabels.format(next));
+            for (int i = 0; i < seriesCount; i++) {
+                List<DailyRate> rates = seriesRates.get(i);
+                if (positions[i] < rates.size() && rates.get(positions[i]).date().equals(next)) {
+                    alignedRates.get(i).add(rates.get(positions[i]).rate());
+                    positions[i]++;
+                } else {
+                    alignedRates.get(i).add(null);
+                }
+            }
+        }
+
+        List<ExchangeChartSeries> series = new ArrayList<>(seriesCount);
+        int index = 0;
+        for (Currency currency : histories.keySet()) {
+            series.add(new ExchangeChartSeries(currency, alignedRates.get(index++)));
+        }
 
-        return new ExchangeCurrentRate(current, change, changePercent);
+        return new ExchangeMultiChartResult(targetCurrency, startDate + " ~ " + endDate, dates, series);
     }
 }
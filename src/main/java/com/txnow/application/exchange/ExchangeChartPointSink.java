@@ -0,0 +1,17 @@
+package com.txnow.application.exchange;
+
+import java.math.BigDecimal;
+
+/**
+ * 스트리밍 차트 포인트 출력 대상
+ * 포인트는 날짜 오름차순으로 계산되는 즉시 전달된다.
+ */
+@FunctionalInterface
+public interface ExchangeChartPointSink {
+
+    /**
+     * @param date 날짜 (yyyy-MM-dd)
+     * @param dayChange 전일 대비 변동률 (%, 첫 포인트는 0)
+     */
+    void accept(String date, BigDecimal rate, BigDecimal dayChange);
+}
@@ -0,0 +1,148 @@
+package com.txnow.application.exchange;
+
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeConvertResult;
+
+import com.txnow.application.exchange.dto.ExchangeCommand.ExchangeConvertCommand;
+import com.txnow.domain.exchange.model.CrossRateMatrix;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.ExchangeRateCalculator;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.util.Assert;
+
+/**
+ * 한 시점에 캡처한 환율 스냅샷으로 변환하는 계산기
+ * 배치 변환의 모든 항목이 같은 환율로 계산되도록 요청 단위로 생성한다.
+ * 스냅샷에 없는 통화는 최초 1회만 Provider 에서 조회하여 이후 항목에 재사용한다. (조회 실패도 재사용, 스레드 안전하지 않음)
+ */
+public final class ExchangeRateConverter {
+
+    private final ExchangeRateSnapshot snapshot;
+    private final Function<Currency, BigDecimal> krwRateLoader;
+    private final Map<Currency, BigDecimal> loadedKrwRates = new EnumMap<>(Currency.class);
+    private final Map<Currency, RuntimeException> failedKrwRates = new EnumMap<>(Currency.class);
+    private final LocalDateTime timestamp = LocalDateTime.now();
+
+    private ExchangeRateConverter(ExchangeRateSnapshot snapshot, Function<Currency, BigDecimal> krwRateLoader) {
+        this.snapshot = snapshot;
+        this.krwRateLoader = krwRateLoader;
+    }
+
+    /**
+     * @param snapshot 변환에 사용할 환율 스냅샷
+     * @param krwRateLoader 스냅샷에 없는 통화의 KRW 환율 조회 (Provider)
+     */
+    public static ExchangeRateConverter of(ExchangeRateSnapshot snapshot, Function<Currency, BigDecimal> krwRateLoader) {
+        return new ExchangeRateConverter(snapshot, krwRateLoader);
+    }
+
+    /**
+     * 변환에 사용하는 스냅샷 버전 (같은 버전은 같은 환율, 일중 보정도 새 버전)
+     */
+    public long rateVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * 스냅샷 통화 중 가장 최근 환율 기준일 (노드 간 비교용)
+     * @return 스냅샷에 환율이 없으면 null
+     */
+    public LocalDate rateDate() {
+        return Arrays.stream(Currency.values())
+            .map(snapshot::rateDate)
+            .flatMap(Optional::stream)
+            .max(Comparator.naturalOrder())
+            .orElse(null);
+    }
+
+    /**
+     * @throws IllegalArgumentException 요청 값이 잘못된 경우
+     */
+    public ExchangeConvertResult convert(ExchangeConvertCommand command) {
+        Currency fromCurrency = command.from();
+        Currency toCurrency = command.to();
+        BigDecimal amount = command.amount();
+
+        Assert.notNull(fromCurrency, "From currency is required");
+        Assert.notNull(toCurrency, "To currency is required");
+        Assert.notNull(amount, "Amount is required");
+        Assert.isTrue(amount.compareTo(BigDecimal.ZERO) > 0, "Amount must be positive");
+
+        // 동일 통화 처리
+        if (fromCurrency.equals(toCurrency)) {
+            return new ExchangeConvertResult(amount, BigDecimal.ONE, timestamp, rateVersion(), rateDate());
+        }
+
+        Optional<BigDecimal> snapshotRate = snapshot.rate(fromCurrency, toCurrency);
+        BigDecimal exchangeRate = snapshotRate.orElseGet(() -> loadCrossRate(fromCurrency, toCurrency));
+        Long rateVersion = snapshotRate.isPresent() ? snapshot.version() : null;
+        LocalDate rateDate = snapshotRate.isPresent() ? rateDate(fromCurrency, toCurrency) : null;
+
+        BigDecimal convertedAmount = ExchangeRateCalculator.calculateConvertedAmount(amount, fromCurrency, exchangeRate);
+
+        return new ExchangeConvertResult(convertedAmount, exchangeRate, timestamp, rateVersion, rateDate);
+    }
+
+    /**
+     * 실제 사용한 두 통화 환율 중 더 최근 기준일
+     */
+    private LocalDate rateDate(Currency fromCurrency, Currency toCurrency) {
+        return Stream.of(fromCurrency, toCurrency)
+            .map(snapshot::rateDate)
+            .flatMap(Optional::stream)
+            .max(Comparator.naturalOrder())
+            .orElse(null);
+    }
+
+    /**
+     * 스냅샷에 환율이 없는 경우 Provider KRW 환율로 교차 환율 계산
+     */
+    private BigDecimal loadCrossRate(Currency fromCurrency, Currency toCurrency) {
+        BigDecimal fromRate = krwRate(fromCurrency);
+        if (toCurrency == Currency.KRW) {
+            return fromRate;
+        }
+        return fromRate.divide(krwRate(toCurrency), CrossRateMatrix.CROSS_RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal krwRate(Currency currency) {
+        if (currency == Currency.KRW) {
+            return BigDecimal.ONE;
+        }
+        return snapshot.rate(currency, Currency.KRW)
+            .orElseGet(() -> loadKrwRate(currency));
+    }
+
+    /**
+     * 실패한 통화는 같은 예외를 다시 던져 배치 안에서 Provider 를 반복 호출하지 않는다.
+     */
+    private BigDecimal loadKrwRate(Currency currency) {
+        BigDecimal rate = loadedKrwRates.get(currency);
+        if (rate != null) {
+            return rate;
+        }
+        RuntimeException failure = failedKrwRates.get(currency);
+        if (failure != null) {
+            throw failure;
+        }
+
+        try {
+            rate = krwRateLoader.apply(currency);
+        } catch (RuntimeException e) {
+            failedKrwRates.put(currency, e);
+            throw e;
+        }
+        loadedKrwRates.put(currency, rate);
+        return rate;
+    }
+}
@@ -0,0 +1,86 @@
+package com.txnow.application.exchange;
+
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 차트 응답용 환율 이력 조회
+ * 구간 질의 인덱스가 조회 구간을 적재했으면 인덱스에서 읽어, 응답 본문이 ETag(인덱스 fingerprint)와 같은 데이터로 만들어지게 한다.
+ * 그 외에는 Provider 로 조회하며, 여러 통화는 전체 지연 시간이 가장 느린 통화 1개 수준이 되도록 병렬 실행한다.
+ */
+@Component
+public class ExchangeRateHistoryFetcher {
+
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final RateRangeIndexRegistry rateRangeIndexRegistry;
+    private final Executor executor;
+
+    public ExchangeRateHistoryFetcher(
+        ExchangeRateProvider exchangeRateProvider,
+        RateRangeIndexRegistry rateRangeIndexRegistry,
+        @Qualifier("exchangeRateFetchExecutor") Executor executor
+    ) {
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.rateRangeIndexRegistry = rateRangeIndexRegistry;
+        this.executor = executor;
+    }
+
+    /**
+     * @return 일별 환율 (인덱스가 구간을 적재했고 데이터가 있으면 인덱스, 아니면 Provider)
+     */
+    public List<DailyRate> fetch(Currency currency, LocalDate startDate, LocalDate endDate) {
+        return findIndexed(currency, startDate, endDate)
+            .orElseGet(() -> exchangeRateProvider.getExchangeRateHistory(currency, startDate, endDate));
+    }
+
+    /**
+     * @return 통화별 일별 환율 (요청 통화 순서 유지)
+     * @throws RuntimeException 한 통화라도 실패하면 해당 예외 (ExchangeRateNotFoundException 등)
+     */
+    public Map<Currency, List<DailyRate>> fetchAll(List<Currency> currencies, LocalDate startDate, LocalDate endDate) {
+        List<CompletableFuture<List<DailyRate>>> futures = new ArrayList<>(currencies.size());
+        for (Currency currency : currencies) {
+            futures.add(findIndexed(currency, startDate, endDate)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> CompletableFuture.supplyAsync(
+                    () -> exchangeRateProvider.getExchangeRateHistory(currency, startDate, endDate), executor)));
+        }
+
+        Map<Currency, List<DailyRate>> histories = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < currencies.size(); i++) {
+                histories.put(currencies.get(i), futures.get(i).join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return histories;
+    }
+
+    /**
+     * 구간 데이터가 없으면 empty (Provider 의 외부 API 대체 조회/예외 처리를 따르도록)
+     */
+    private Optional<List<DailyRate>> findIndexed(Currency currency, LocalDate startDate, LocalDate endDate) {
+        return rateRangeIndexRegistry.find(currency)
+            .filter(index -> index.covers(startDate))
+            .map(index -> index.dailyRates(startDate, endDate))
+            .filter(dailyRates -> !dailyRates.isEmpty());
+    }
+}
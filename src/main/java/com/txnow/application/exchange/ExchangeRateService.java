@@ -1,20 +1,45 @@
 package com.txnow.application.exchange;
 
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeCandleResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartColumnsResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartRangeResult;
 import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartSummaryResult;
 import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeConvertResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeDataVersionResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeMultiChartResult;
 
+import com.txnow.application.exchange.candle.Candle;
+import com.txnow.application.exchange.candle.CandleSeries;
+import com.txnow.application.exchange.candle.CandleSeriesRegistry;
 import com.txnow.application.exchange.dto.ExchangeCommand;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeChartStatistics;
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.application.exchange.indicator.IndicatorPoint;
+import com.txnow.application.exchange.indicator.IndicatorSeries;
+import com.txnow.application.exchange.indicator.IndicatorSeriesRegistry;
+import com.txnow.application.exchange.indicator.IndicatorSpec;
+import com.txnow.domain.exchange.model.CandleInterval;
+import com.txnow.domain.exchange.model.ChartPeriod;
 import com.txnow.domain.exchange.model.Currency;
 import com.txnow.domain.exchange.model.DailyRate;
-import com.txnow.domain.exchange.model.ExchangeRateCalculator;
 import com.txnow.domain.exchange.provider.ExchangeRateProvider;
-import java.math.BigDecimal;
+import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
+import com.txnow.domain.support.RequestTiming;
+import com.txnow.domain.support.RequestTiming.Stage;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
@@ -23,8 +48,25 @@ import org.springframework.util.Assert;
 @RequiredArgsConstructor
 public class ExchangeRateService {
 
+    private static final int MIN_MAX_POINTS = 10;
+    private static final int MAX_MAX_POINTS = 5000;
+    private static final int MAX_INDICATORS = 5;
+
     private final ExchangeRateProvider exchangeRateProvider;
     private final ExchangeChartMapper chartMapper;
+    private final RateRangeIndexRegistry rateRangeIndexRegistry;
+    private final DownsampledChartCache downsampledChartCache;
+    private final CandleSeriesRegistry candleSeriesRegistry;
+    private final IndicatorSeriesRegistry indicatorSeriesRegistry;
+    private final ExchangeRateSnapshotRegistry exchangeRateSnapshotRegistry;
+    private final ExchangeRateHistoryFetcher historyFetcher;
+    private final ExchangeRateHistoryRepository historyRepository;
+
+    /**
+     * 이 일수 이상의 원본(다운샘플링/지표 없음) 차트는 스트리밍으로 응답
+     */
+    @Value("${exchange-rate.chart.stream-min-days:730}")
+    private long streamMinDays;
 
     /**
      * 환율 차트 데이터 조회
@@ -35,53 +77,334 @@ public class ExchangeRateService {
         String startDateStr = command.startDate();
         String endDateStr = command.endDate();
 
+        ExchangeChartRangeResult range = validateChartCommand(command);
+        LocalDate startDate = range.startDate();
+        LocalDate endDate = range.endDate();
+
+        List<IndicatorSpec> indicatorSpecs = parseIndicators(command.indicators());
+
+        Integer maxPoints = command.maxPoints();
+        ExchangeChartResult result;
+        if (maxPoints == null) {
+            List<DailyRate> rates = historyFetcher.fetch(baseCurrency, startDate, endDate);
+            ExchangeChartStatistics statistics = findIndexedStatistics(baseCurrency, startDate, endDate, rates);
+
+            result = RequestTiming.time(Stage.MAPPER, () ->
+                chartMapper.toChartResult(baseCurrency, targetCurrency, startDateStr, endDateStr, rates, statistics));
+        } else {
+            OptionalLong dataVersion = findFingerprint(baseCurrency, startDate, endDate);
+            result = downsampledChartCache.get(baseCurrency, startDate, endDate, maxPoints, dataVersion, () -> {
+                List<DailyRate> rates = historyFetcher.fetch(baseCurrency, startDate, endDate);
+                ExchangeChartStatistics statistics = findIndexedStatistics(baseCurrency, startDate, endDate, rates);
+
+                return RequestTiming.time(Stage.MAPPER, () -> chartMapper.toDownsampledChartResult(
+                    baseCurrency, targetCurrency, startDateStr, endDateStr, rates, statistics, maxPoints));
+            });
+        }
+
+        if (indicatorSpecs.isEmpty()) {
+            return result;
+        }
+        Map<IndicatorSpec, List<IndicatorPoint>> indicators =
+            findIndicators(baseCurrency, startDate, endDate, indicatorSpecs);
+        ExchangeChartResult chart = result;
+        return RequestTiming.time(Stage.MAPPER, () -> chartMapper.withIndicators(chart, indicators));
+    }
+
+    /**
+     * 기간 프리셋을 통화의 최근 데이터 일자 기준 고정 구간으로 변환 (인덱스가 없으면 오늘 기준)
+     * 새 일자가 수집될 때만 구간이 바뀌므로 같은 프리셋 요청은 동기화 사이에 같은 구간을 공유한다.
+     */
+    public ExchangeChartRangeResult resolveChartPeriod(Currency baseCurrency, ChartPeriod period) {
         Assert.notNull(baseCurrency, "Base currency is required");
-        Assert.notNull(targetCurrency, "Target currency is required");
-        Assert.isTrue(targetCurrency == Currency.KRW, "Target currency must be KRW");
-        Assert.hasText(startDateStr, "Start date is required");
-        Assert.hasText(endDateStr, "End date is required");
+        Assert.notNull(period, "Chart period is required");
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate startDate = LocalDate.parse(startDateStr, formatter);
-        LocalDate endDate = LocalDate.parse(endDateStr, formatter);
+        LocalDate endDate = rateRangeIndexRegistry.find(baseCurrency)
+            .flatMap(RateRangeIndex::lastDate)
+            .orElseGet(LocalDate::now);
+        return new ExchangeChartRangeResult(period.startDate(endDate), endDate);
+    }
 
-        Assert.isTrue(!startDate.isAfter(endDate), "Start date must be before or equal to end date");
+    /**
+     * 열(column) 단위 환율 차트 조회 (압축 표현용)
+     * 포인트 객체 대신 일자/환율/변동률 배열을 반환하며, 보조 지표는 지원하지 않는다.
+     */
+    public ExchangeChartColumnsResult getExchangeRateChartColumns(ExchangeCommand.ExchangeChartCommand command) {
+        Currency baseCurrency = command.baseCurrency();
+        Currency targetCurrency = command.targetCurrency();
+        String startDateStr = command.startDate();
+        String endDateStr = command.endDate();
+
+        Assert.isTrue(command.indicators() == null || command.indicators().isEmpty(),
+            "Indicators are not supported in columnar format");
+        ExchangeChartRangeResult range = validateChartCommand(command);
+        LocalDate startDate = range.startDate();
+        LocalDate endDate = range.endDate();
+        Integer maxPoints = command.maxPoints();
 
-        List<DailyRate> rates = exchangeRateProvider.getExchangeRateHistory(baseCurrency, startDate, endDate);
+        List<DailyRate> rates = historyFetcher.fetch(baseCurrency, startDate, endDate);
+        ExchangeChartStatistics statistics = findIndexedStatistics(baseCurrency, startDate, endDate, rates);
 
-        return chartMapper.toChartResult(baseCurrency, targetCurrency, startDateStr, endDateStr, rates);
+        return RequestTiming.time(Stage.MAPPER, () -> chartMapper.toChartColumnsResult(
+            baseCurrency, targetCurrency, startDateStr, endDateStr, rates, statistics, maxPoints));
     }
 
     /**
-     * 환율 변환 계산을 수행합니다.
+     * 차트를 스트리밍으로 응답할지 여부 (다운샘플링/보조 지표 없이 stream-min-days 이상 구간)
+     * 요청 값이 잘못된 경우 false (일반 조회에서 검증 오류 응답)
      */
-    public ExchangeConvertResult convertExchangeRate(ExchangeCommand.ExchangeConvertCommand command) {
-        Currency fromCurrency = command.from();
-        Currency toCurrency = command.to();
-        BigDecimal amount = command.amount();
-
-        Assert.notNull(fromCurrency, "From currency is required");
-        Assert.notNull(toCurrency, "To currency is required");
-        Assert.notNull(amount, "Amount is required");
-        Assert.isTrue(amount.compareTo(BigDecimal.ZERO) > 0, "Amount must be positive");
-
-        // 동일 통화 처리
-        if (fromCurrency.equals(toCurrency)) {
-            return new ExchangeConvertResult(
-                command.amount(),
-                BigDecimal.ONE,
-                LocalDateTime.now()
-            );
+    public boolean shouldStreamChart(ExchangeCommand.ExchangeChartCommand command) {
+        if (command.maxPoints() != null || (command.indicators() != null && !command.indicators().isEmpty())) {
+            return false;
+        }
+        return ChartRangeValidator.parse(command.startDate(), command.endDate())
+            .map(range -> ChronoUnit.DAYS.between(range.startDate(), range.endDate()) + 1 >= streamMinDays)
+            .orElse(false);
+    }
+
+    /**
+     * 환율 차트 스트리밍 조회
+     * DB 이력을 묶음 단위로 읽으면서 일별 포인트를 계산 즉시 sink 로 출력하므로 구간 길이와 무관하게 메모리 사용량이 일정하다.
+     * 통계/현재 환율은 출력이 끝난 뒤 요약 결과로 반환한다. (다운샘플링, 보조 지표 미지원)
+     * DB 에 구간 데이터가 없으면 Provider 조회 결과를 같은 방식으로 출력한다.
+     */
+    public ExchangeChartSummaryResult streamExchangeRateChart(
+        ExchangeCommand.ExchangeChartCommand command,
+        ExchangeChartPointSink sink
+    ) {
+        Currency baseCurrency = command.baseCurrency();
+        Currency targetCurrency = command.targetCurrency();
+        String startDateStr = command.startDate();
+        String endDateStr = command.endDate();
+
+        Assert.isNull(command.maxPoints(), "Max points is not supported in streaming mode");
+        Assert.isTrue(command.indicators() == null || command.indicators().isEmpty(),
+            "Indicators are not supported in streaming mode");
+        ExchangeChartRangeResult range = validateChartCommand(command);
+        LocalDate startDate = range.startDate();
+        LocalDate endDate = range.endDate();
+
+        ExchangeChartSummaryResult summary = historyRepository.streamByCurrencyAndTimestampBetween(
+            baseCurrency, startDate.atStartOfDay(), endDate.atTime(23, 59, 59), histories -> {
+                Iterator<DailyRate> dailyRates = DailyRate.fromSortedHistories(histories.iterator());
+                if (!dailyRates.hasNext()) {
+                    return null;
+                }
+                return RequestTiming.time(Stage.MAPPER, () -> chartMapper.streamChart(
+                    baseCurrency, targetCurrency, startDateStr, endDateStr, dailyRates, sink));
+            });
+        if (summary != null) {
+            return summary;
+        }
+
+        List<DailyRate> rates = historyFetcher.fetch(baseCurrency, startDate, endDate);
+        return RequestTiming.time(Stage.MAPPER, () ->
+            chartMapper.streamChart(baseCurrency, targetCurrency, startDateStr, endDateStr, rates.iterator(), sink));
+    }
+
+    /**
+     * 차트 요청 공통 검증 (통화, 조회 구간, 최대 포인트 수)
+     * @return 파싱한 조회 구간
+     */
+    private static ExchangeChartRangeResult validateChartCommand(ExchangeCommand.ExchangeChartCommand command) {
+        Assert.notNull(command.baseCurrency(), "Base currency is required");
+        ExchangeChartRangeResult range = ChartRangeValidator.validate(
+            command.targetCurrency(), command.startDate(), command.endDate());
+
+        Integer maxPoints = command.maxPoints();
+        if (maxPoints != null) {
+            Assert.isTrue(maxPoints >= MIN_MAX_POINTS && maxPoints <= MAX_MAX_POINTS,
+                "Max points must be between " + MIN_MAX_POINTS + " and " + MAX_MAX_POINTS);
+        }
+        return range;
+    }
+
+    private List<IndicatorSpec> parseIndicators(List<String> indicators) {
+        if (indicators == null || indicators.isEmpty()) {
+            return List.of();
+        }
+        Assert.isTrue(indicators.size() <= MAX_INDICATORS, "At most " + MAX_INDICATORS + " indicators are allowed");
+
+        return indicators.stream()
+            .map(IndicatorSpec::parse)
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * 지표 값 조회: 캐시된 지표 시계열(구간 이전 환율로 워밍업됨)에서 구간만 잘라 사용
+     * 인덱스 적재 범위 밖의 기간은 조회 구간 시계열로 계산한다.
+     */
+    private Map<IndicatorSpec, List<IndicatorPoint>> findIndicators(
+        Currency currency,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<IndicatorSpec> specs
+    ) {
+        Map<IndicatorSpec, List<IndicatorPoint>> indicators = new LinkedHashMap<>();
+        List<DailyRate> rates = null;
+        for (IndicatorSpec spec : specs) {
+            Optional<List<IndicatorPoint>> points = indicatorSeriesRegistry.findPoints(currency, spec, startDate, endDate);
+            if (points.isPresent()) {
+                indicators.put(spec, points.get());
+                continue;
+            }
+
+            if (rates == null) {
+                rates = historyFetcher.fetch(currency, startDate, endDate);
+            }
+            indicators.put(spec, IndicatorSeries.of(spec, rates).slice(startDate, endDate));
         }
+        return indicators;
+    }
+
+    /**
+     * 여러 통화 비교 차트 조회
+     * 통화별 이력을 동시에 조회하여 공통 날짜 축으로 정렬한다.
+     */
+    public ExchangeMultiChartResult getMultiCurrencyChart(ExchangeCommand.ExchangeMultiChartCommand command) {
+        List<Currency> baseCurrencies = command.baseCurrencies();
+        Currency targetCurrency = command.targetCurrency();
+        String startDateStr = command.startDate();
+        String endDateStr = command.endDate();
+
+        Assert.notEmpty(baseCurrencies, "Base currencies are required");
+        Assert.noNullElements(baseCurrencies, "Base currencies cannot contain null");
+        ExchangeChartRangeResult range = ChartRangeValidator.validate(targetCurrency, startDateStr, endDateStr);
+
+        List<Currency> currencies = baseCurrencies.stream().distinct().toList();
+        Assert.isTrue(currencies.stream().allMatch(Currency::isSupportedCurrency),
+            "Base currencies must be supported currencies");
+
+        Map<Currency, List<DailyRate>> histories = historyFetcher.fetchAll(currencies, range.startDate(), range.endDate());
+        return RequestTiming.time(Stage.MAPPER, () ->
+            chartMapper.toMultiChartResult(targetCurrency, startDateStr, endDateStr, histories));
+    }
 
-        BigDecimal exchangeRate = exchangeRateProvider.getCurrentExchangeRate(command.from());
+    /**
+     * 환율 OHLC 캔들 조회 (주/월/연 단위)
+     * 증분 갱신되는 캔들 시계열에서 조회하므로 기간 길이와 무관하게 캔들 수에만 비례한다.
+     * 인덱스 적재 범위 밖의 기간은 Provider 시계열로 집계한다.
+     */
+    public ExchangeCandleResult getExchangeRateCandles(ExchangeCommand.ExchangeCandleCommand command) {
+        Currency baseCurrency = command.baseCurrency();
+        Currency targetCurrency = command.targetCurrency();
+        CandleInterval interval = command.interval();
+        String startDateStr = command.startDate();
+        String endDateStr = command.endDate();
 
-        BigDecimal convertedAmount = ExchangeRateCalculator.calculateConvertedAmount(command.amount(), exchangeRate);
+        Assert.notNull(baseCurrency, "Base currency is required");
+        Assert.notNull(interval, "Interval is required");
+        ExchangeChartRangeResult range = ChartRangeValidator.validate(targetCurrency, startDateStr, endDateStr);
+        LocalDate startDate = range.startDate();
+        LocalDate endDate = range.endDate();
 
-        return new ExchangeConvertResult(
-            convertedAmount,
-            exchangeRate,
-            LocalDateTime.now()
-        );
+        List<Candle> candles = candleSeriesRegistry.findCandles(baseCurrency, interval, startDate, endDate)
+            .orElseGet(() -> {
+                List<DailyRate> rates = historyFetcher.fetch(baseCurrency, startDate, endDate);
+                if (rates.isEmpty()) {
+                    return List.of();
+                }
+                RateRangeIndex index = RateRangeIndex.of(rates);
+                return CandleSeries.build(index, interval).slice(index, startDate, endDate);
+            });
+
+        return RequestTiming.time(Stage.MAPPER, () ->
+            chartMapper.toCandleResult(baseCurrency, targetCurrency, interval, startDateStr, endDateStr, candles));
+    }
+
+    /**
+     * 구간 통계를 인덱스에서 O(log n)으로 조회
+     * 인덱스와 조회된 시계열의 일자 수/시작일/종료일이 다르면 null (시계열에서 계산)
+     */
+    private ExchangeChartStatistics findIndexedStatistics(
+        Currency currency,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<DailyRate> rates
+    ) {
+        if (rates.isEmpty()) {
+            return null;
+        }
+
+        return rateRangeIndexRegistry.findStatistics(currency, startDate, endDate)
+            .filter(statistics -> statistics.count() == rates.size()
+                && statistics.firstDate().equals(rates.getFirst().date())
+                && statistics.lastDate().equals(rates.getLast().date()))
+            .map(statistics -> new ExchangeChartStatistics(
+                statistics.high(),
+                statistics.low(),
+                statistics.average()
+            ))
+            .orElse(null);
+    }
+
+    /**
+     * 구간 데이터 fingerprint (인덱스가 구간을 적재하지 않았으면 empty)
+     */
+    private OptionalLong findFingerprint(Currency currency, LocalDate startDate, LocalDate endDate) {
+        return rateRangeIndexRegistry.find(currency)
+            .filter(index -> index.covers(startDate))
+            .map(index -> OptionalLong.of(index.fingerprint(startDate, endDate)))
+            .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * 조회 구간 데이터 버전 (인덱스 fingerprint 기반, O(통화 수 × log n))
+     * @param includePriorRates 시작일 이전 환율도 응답에 영향을 주는지 여부 (보조 지표 워밍업)
+     * @return 인덱스가 구간을 적재하지 않았거나 요청 값이 잘못된 경우 empty (검증 없이 조회)
+     */
+    public Optional<ExchangeDataVersionResult> findDataVersion(
+        List<Currency> currencies,
+        String startDateStr,
+        String endDateStr,
+        boolean includePriorRates
+    ) {
+        Optional<ExchangeChartRangeResult> range = ChartRangeValidator.parse(startDateStr, endDateStr);
+        if (currencies == null || currencies.isEmpty() || range.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDate startDate = range.get().startDate();
+        LocalDate endDate = range.get().endDate();
+
+        StringBuilder fingerprint = new StringBuilder();
+        Instant lastModified = Instant.EPOCH;
+        boolean closed = true;
+        for (Currency currency : currencies) {
+            Optional<RateRangeIndex> found = rateRangeIndexRegistry.find(currency);
+            Optional<Instant> modifiedAt = rateRangeIndexRegistry.findModifiedAt(currency);
+            if (found.isEmpty() || modifiedAt.isEmpty() || !found.get().covers(startDate)) {
+                return Optional.empty();
+            }
+
+            RateRangeIndex index = found.get();
+            LocalDate fingerprintStart = includePriorRates ? index.firstDate().orElse(startDate) : startDate;
+            fingerprint.append(currency.name())
+                .append(':')
+                .append(Long.toHexString(index.fingerprint(fingerprintStart, endDate)))
+                .append(';');
+
+            if (modifiedAt.get().isAfter(lastModified)) {
+                lastModified = modifiedAt.get();
+            }
+            closed &= index.lastDate().map(lastDate -> !endDate.isAfter(lastDate)).orElse(false);
+        }
+
+        return Optional.of(new ExchangeDataVersionResult(fingerprint.toString(), lastModified, closed));
+    }
+
+    /**
+     * 환율 변환 계산을 수행합니다.
+     * 현재 환율 스냅샷의 교차 환율로 계산하고, 스냅샷에 없는 통화는 Provider 환율로 KRW 기준 삼각 환산합니다.
+     */
+    public ExchangeConvertResult convertExchangeRate(ExchangeCommand.ExchangeConvertCommand command) {
+        return newConverter().convert(command);
+    }
+
+    /**
+     * 현재 환율 스냅샷을 캡처한 변환기 (배치 변환 시 요청 단위로 생성)
+     */
+    public ExchangeRateConverter newConverter() {
+        return ExchangeRateConverter.of(exchangeRateSnapshotRegistry.current(), exchangeRateProvider::getCurrentExchangeRate);
     }
-}
\ No newline at end of file
+}
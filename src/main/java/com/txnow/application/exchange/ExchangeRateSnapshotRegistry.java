@@ -0,0 +1,107 @@
+package com.txnow.application.exchange;
+
+import com.txnow.domain.exchange.event.ExchangeRateSnapshotPublishedEvent;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 현재 환율 스냅샷 저장소
+ * 스케줄러/Provider 가 새 환율을 저장하면(ExchangeRateUpdatedEvent) 다음 버전 스냅샷을 만들어 원자적으로 교체한다.
+ * 조회는 volatile 읽기 1회로 끝나며(wait-free), 한 번 얻은 스냅샷은 이후 갱신과 무관하게 일관된 환율을 제공한다.
+ * 새 버전 공개 시 잠금 밖에서 ExchangeRateSnapshotPublishedEvent 를 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateSnapshotRegistry {
+
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<ExchangeRateSnapshot> snapshot = new AtomicReference<>(ExchangeRateSnapshot.initial());
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public ExchangeRateSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Provider 현재 환율로 스냅샷 갱신 (기동 시, 주기적)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${exchange-rate.snapshot.refresh-interval-ms:600000}",
+        initialDelayString = "${exchange-rate.snapshot.refresh-interval-ms:600000}"
+    )
+    public void refresh() {
+        LocalDate today = LocalDate.now();
+
+        for (Currency currency : Currency.values()) {
+            if (!currency.isSupportedCurrency()) {
+                continue;
+            }
+
+            try {
+                BigDecimal rate = exchangeRateProvider.getCurrentExchangeRate(currency);
+                publish(currency, rate, today);
+            } catch (Exception e) {
+                log.warn("Failed to refresh exchange rate snapshot for {}: {}", currency, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 새 환율 저장 시 스냅샷 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            publish(event.currency(), event.rate(), event.date());
+        } catch (Exception e) {
+            log.warn("Failed to update rate snapshot for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기존 기준일 이전 환율이거나 환율이 같으면 버전을 올리지 않는다.
+     */
+    private void publish(Currency currency, BigDecimal rate, LocalDate rateDate) {
+        ExchangeRateSnapshot published;
+        writeLock.lock();
+        try {
+            ExchangeRateSnapshot current = snapshot.get();
+            boolean stale = current.rateDate(currency)
+                .map(rateDate::isBefore)
+                .orElse(false);
+            boolean unchanged = current.rate(currency, Currency.KRW)
+                .map(existing -> existing.compareTo(rate) == 0)
+                .orElse(false);
+            if (stale || unchanged) {
+                return;
+            }
+
+            published = current.withKrwRate(currency, rate, rateDate);
+            snapshot.set(published);
+            log.debug("Exchange rate snapshot v{} published: {} = {} ({})", published.version(), currency, rate, rateDate);
+        } finally {
+            writeLock.unlock();
+        }
+
+        eventPublisher.publishEvent(new ExchangeRateSnapshotPublishedEvent(published));
+    }
+}
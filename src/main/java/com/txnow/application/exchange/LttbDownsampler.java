@@ -0,0 +1,122 @@
+package com.txnow.application.exchange;
+
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링
+ * 첫/마지막 포인트는 항상 포함하고, 나머지 버킷에서는 이전 선택 포인트와 다음 버킷 평균이 만드는
+ * 삼각형 넓이가 가장 큰 포인트를 선택한다. x 축은 epoch day 로 두어 휴일 공백을 반영한다.
+ * 기간 최고/최저 포인트는 LTTB 결과와 별도로 항상 포함한다.
+ */
+final class LttbDownsampler {
+
+    /**
+     * 최고/최저 포인트 예약분
+     */
+    private static final int EXTREME_POINTS = 2;
+
+    /**
+     * LTTB 최소 포인트 (첫/마지막 + 버킷 1개)
+     */
+    static final int MIN_MAX_POINTS = 3 + EXTREME_POINTS;
+
+    private LttbDownsampler() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return 선택된 포인트 인덱스 (오름차순, 최대 maxPoints 개)
+     */
+    static int[] select(List<DailyRate> dailyRates, int maxPoints) {
+        int size = dailyRates.size();
+        if (size <= maxPoints) {
+            int[] all = new int[size];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        double[] x = new double[size];
+        double[] y = new double[size];
+        int high = 0;
+        int low = 0;
+        for (int i = 0; i < size; i++) {
+            DailyRate dailyRate = dailyRates.get(i);
+            x[i] = dailyRate.date().toEpochDay();
+            y[i] = FixedPoint.toScaledRate(dailyRate.rate());
+            if (y[i] > y[high]) {
+                high = i;
+            }
+            if (y[i] < y[low]) {
+                low = i;
+            }
+        }
+
+        int[] sampled = largestTriangleThreeBuckets(x, y, maxPoints - EXTREME_POINTS);
+        return withExtremes(sampled, high, low);
+    }
+
+    private static int[] largestTriangleThreeBuckets(double[] x, double[] y, int threshold) {
+        int size = x.length;
+        int[] sampled = new int[threshold];
+        int sampledIndex = 0;
+
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int a = 0;
+        sampled[sampledIndex++] = a;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 버킷 평균점
+            int averageStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int averageEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = averageStart; i < averageEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            int averageLength = averageEnd - averageStart;
+            averageX /= averageLength;
+            averageY /= averageLength;
+
+            // 현재 버킷에서 삼각형 넓이가 최대인 포인트
+            int rangeStart = (int) Math.floor(bucket * bucketSize) + 1;
+            int rangeEnd = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int i = rangeStart; i < rangeEnd; i++) {
+                double area = Math.abs((x[a] - averageX) * (y[i] - y[a]) - (x[a] - x[i]) * (averageY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = i;
+                }
+            }
+
+            sampled[sampledIndex++] = next;
+            a = next;
+        }
+
+        sampled[sampledIndex] = size - 1;
+        return sampled;
+    }
+
+    /**
+     * LTTB 결과에 최고/최저 인덱스를 병합 (오름차순, 중복 제거)
+     */
+    private static int[] withExtremes(int[] sampled, int high, int low) {
+        int[] merged = Arrays.copyOf(sampled, sampled.length + EXTREME_POINTS);
+        merged[sampled.length] = high;
+        merged[sampled.length + 1] = low;
+        Arrays.sort(merged);
+
+        int length = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (length == 0 || merged[length - 1] != merged[i]) {
+                merged[length++] = merged[i];
+            }
+        }
+        return Arrays.copyOf(merged, length);
+    }
+}
@@ -0,0 +1,24 @@
+package com.txnow.application.exchange.analytics;
+
+import com.txnow.domain.exchange.model.Currency;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 통화 간 일별 로그 수익률 상관/공분산/베타 행렬
+ * 행렬의 행/열 순서는 currencies 순서와 같다.
+ * @param asOf 마지막 수익률 일자
+ * @param windowDays 요청 구간 (수익률 개수)
+ * @param observations 실제 계산에 사용한 수익률 개수 (데이터가 부족하면 windowDays 보다 작음)
+ * @param covariance 표본 공분산
+ * @param beta beta[i][j] = cov(i, j) / var(j) (j 통화 대비 i 통화 민감도)
+ */
+public record CorrelationMatrix(
+    List<Currency> currencies,
+    LocalDate asOf,
+    int windowDays,
+    int observations,
+    double[][] correlation,
+    double[][] covariance,
+    double[][] beta
+) {}
@@ -0,0 +1,207 @@
+package com.txnow.application.exchange.analytics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 구간(windowDays)별 통화 간 상관 행렬 캐시
+ * 최초 조회 시 구간 질의 인덱스의 일별 환율로 계산하고,
+ * 이후 모든 통화에 새 공통 일자가 생기면 O(N²) 로 구간을 한 칸 이동한다.
+ */
+@Slf4j
+@Component
+public class CorrelationMatrixRegistry {
+
+    private final RateRangeIndexRegistry rateRangeIndexRegistry;
+    private final Cache<Integer, CorrelationState> cache;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public CorrelationMatrixRegistry(
+        RateRangeIndexRegistry rateRangeIndexRegistry,
+        @Value("${cache.correlation.max-size:20}") long maxSize
+    ) {
+        this.rateRangeIndexRegistry = rateRangeIndexRegistry;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    /**
+     * @param windowDays 최근 수익률 개수
+     * @return 인덱스가 있는 통화가 2개 미만이면 empty
+     */
+    public Optional<CorrelationMatrix> find(int windowDays) {
+        CorrelationState state = cache.getIfPresent(windowDays);
+        if (state == null) {
+            state = build(windowDays);
+        }
+        return Optional.ofNullable(state).map(CorrelationState::matrix);
+    }
+
+    /**
+     * 새 환율 반영 (구간 질의 인덱스 갱신 이후 실행)
+     * 마지막 공통 일자 이전 보정이거나 통화 구성이 바뀌면 캐시를 제거하여 다음 조회 시 재계산한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            writeLock.lock();
+            try {
+                List<Currency> currencies = indexedCurrencies();
+                cache.asMap().entrySet().removeIf(entry -> {
+                    CorrelationState state = entry.getValue();
+                    if (!Arrays.asList(state.currencies()).equals(currencies)) {
+                        return true;
+                    }
+                    if (state.lastDate() != null && !event.date().isAfter(state.lastDate())) {
+                        return true;
+                    }
+                    advance(state);
+                    return false;
+                });
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update correlation matrix for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    private CorrelationState build(int windowDays) {
+        writeLock.lock();
+        try {
+            CorrelationState existing = cache.getIfPresent(windowDays);
+            if (existing != null) {
+                return existing;
+            }
+
+            List<Currency> currencies = indexedCurrencies();
+            if (currencies.size() < 2) {
+                return null;
+            }
+
+            List<List<DailyRate>> histories = new ArrayList<>(currencies.size());
+            for (Currency currency : currencies) {
+                histories.add(rateRangeIndexRegistry.find(currency).orElseThrow().toDailyRates());
+            }
+
+            AlignedRates aligned = align(histories);
+            CorrelationState state = CorrelationState.build(
+                currencies.toArray(Currency[]::new), windowDays, aligned.dates(), aligned.rates());
+            cache.put(windowDays, state);
+            log.debug("Built correlation matrix: window={}, currencies={}, observations={}",
+                windowDays, currencies, state.matrix().observations());
+            return state;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 공통 일자 이후 새 공통 일자를 구간에 추가
+     */
+    private void advance(CorrelationState state) {
+        Currency[] currencies = state.currencies();
+        List<List<DailyRate>> tails = new ArrayList<>(currencies.length);
+        for (Currency currency : currencies) {
+            RateRangeIndex index = rateRangeIndexRegistry.find(currency).orElseThrow();
+            tails.add(state.lastDate() != null ? index.dailyRatesAfter(state.lastDate()) : index.toDailyRates());
+        }
+
+        AlignedRates aligned = align(tails);
+        long[] row = new long[currencies.length];
+        for (int k = 0; k < aligned.dates().size(); k++) {
+            for (int i = 0; i < currencies.length; i++) {
+                row[i] = aligned.rates()[i][k];
+            }
+            state.append(aligned.dates().get(k), row);
+        }
+    }
+
+    private List<Currency> indexedCurrencies() {
+        List<Currency> currencies = new ArrayList<>();
+        for (Currency currency : Currency.values()) {
+            if (currency.isSupportedCurrency() && rateRangeIndexRegistry.find(currency).isPresent()) {
+                currencies.add(currency);
+            }
+        }
+        return currencies;
+    }
+
+    /**
+     * 모든 통화에 환율이 있는 일자만 추출 (k-way intersection)
+     */
+    private static AlignedRates align(List<List<DailyRate>> histories) {
+        int size = histories.size();
+        int[] positions = new int[size];
+        List<LocalDate> dates = new ArrayList<>();
+        List<long[]> rows = new ArrayList<>();
+
+        outer:
+        while (true) {
+            LocalDate latest = null;
+            for (int i = 0; i < size; i++) {
+                if (positions[i] >= histories.get(i).size()) {
+                    break outer;
+                }
+                LocalDate date = histories.get(i).get(positions[i]).date();
+                if (latest == null || date.isAfter(latest)) {
+                    latest = date;
+                }
+            }
+
+            boolean matched = true;
+            for (int i = 0; i < size; i++) {
+                List<DailyRate> history = histories.get(i);
+                while (positions[i] < history.size() && history.get(positions[i]).date().isBefore(latest)) {
+                    positions[i]++;
+                }
+                if (positions[i] == history.size()) {
+                    break outer;
+                }
+                matched &= history.get(positions[i]).date().equals(latest);
+            }
+            if (!matched) {
+                continue;
+            }
+
+            long[] row = new long[size];
+            for (int i = 0; i < size; i++) {
+                row[i] = FixedPoint.toScaledRate(histories.get(i).get(positions[i]).rate());
+                positions[i]++;
+            }
+            dates.add(latest);
+            rows.add(row);
+        }
+
+        long[][] rates = new long[size][rows.size()];
+        for (int k = 0; k < rows.size(); k++) {
+            for (int i = 0; i < size; i++) {
+                rates[i][k] = rows.get(k)[i];
+            }
+        }
+        return new AlignedRates(dates, rates);
+    }
+
+    private record AlignedRates(
+        List<LocalDate> dates,
+        long[][] rates
+    ) {}
+}
@@ -0,0 +1,178 @@
+package com.txnow.application.exchange.analytics;
+
+import com.txnow.domain.exchange.model.Currency;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 구간별 상관 행렬 계산 상태
+ * 통화별 최근 windowDays 개 로그 수익률(ring buffer)과 합계/곱의 합계를 유지하여
+ * 새 일자 추가 시 O(N²) 로 갱신한다. (전체 재계산은 O(N² × windowDays))
+ * 갱신은 단일 writer 가 수행하고, 계산 결과는 불변 행렬로 공개한다.
+ */
+final class CorrelationState {
+
+    private final Currency[] currencies;
+    private final int window;
+
+    /**
+     * returns[i][slot] = i 통화 로그 수익률
+     */
+    private final double[][] returns;
+    private final double[] sums;
+
+    /**
+     * products[i][j] = i, j 통화 수익률 곱의 합 (대칭)
+     */
+    private final double[][] products;
+    private final long[] lastRates;
+
+    private LocalDate lastDate;
+    private int next;
+    private int count;
+    private volatile CorrelationMatrix matrix;
+
+    private CorrelationState(Currency[] currencies, int window) {
+        int size = currencies.length;
+        this.currencies = currencies;
+        this.window = window;
+        this.returns = new double[size][window];
+        this.sums = new double[size];
+        this.products = new double[size][size];
+        this.lastRates = new long[size];
+    }
+
+    /**
+     * 공통 일자 환율로 상태 생성, 통화 쌍별 곱의 합은 병렬 계산
+     * @param dates 모든 통화에 환율이 있는 일자 (오름차순)
+     * @param rates rates[i][k] = i 통화의 dates[k] 고정소수점 환율
+     */
+    static CorrelationState build(Currency[] currencies, int window, List<LocalDate> dates, long[][] rates) {
+        CorrelationState state = new CorrelationState(currencies, window);
+        int size = currencies.length;
+        int rows = dates.size();
+        if (rows == 0) {
+            state.publish();
+            return state;
+        }
+
+        int first = Math.max(0, rows - window - 1);
+        for (int k = first + 1; k < rows; k++) {
+            for (int i = 0; i < size; i++) {
+                state.returns[i][state.next] = Math.log((double) rates[i][k] / rates[i][k - 1]);
+            }
+            state.next = (state.next + 1) % window;
+            state.count++;
+        }
+
+        for (int i = 0; i < size; i++) {
+            state.sums[i] = Arrays.stream(state.returns[i], 0, state.count).sum();
+            state.lastRates[i] = rates[i][rows - 1];
+        }
+
+        int pairs = size * (size + 1) / 2;
+        IntStream.range(0, pairs).parallel().forEach(pair -> {
+            int i = 0;
+            int offset = pair;
+            while (offset >= size - i) {
+                offset -= size - i;
+                i++;
+            }
+            int j = i + offset;
+
+            double product = 0;
+            for (int slot = 0; slot < state.count; slot++) {
+                product += state.returns[i][slot] * state.returns[j][slot];
+            }
+            state.products[i][j] = product;
+            state.products[j][i] = product;
+        });
+
+        state.lastDate = dates.getLast();
+        state.publish();
+        return state;
+    }
+
+    Currency[] currencies() {
+        return currencies;
+    }
+
+    LocalDate lastDate() {
+        return lastDate;
+    }
+
+    CorrelationMatrix matrix() {
+        return matrix;
+    }
+
+    /**
+     * 마지막 일자 이후 공통 일자 환율 추가 - O(N²)
+     * @param rates 통화 순서별 고정소수점 환율
+     */
+    void append(LocalDate date, long[] rates) {
+        int size = currencies.length;
+        if (lastDate == null) {
+            System.arraycopy(rates, 0, lastRates, 0, size);
+            lastDate = date;
+            publish();
+            return;
+        }
+
+        double[] added = new double[size];
+        for (int i = 0; i < size; i++) {
+            added[i] = Math.log((double) rates[i] / lastRates[i]);
+        }
+
+        boolean full = count == window;
+        for (int i = 0; i < size; i++) {
+            double removed = full ? returns[i][next] : 0;
+            sums[i] += added[i] - removed;
+            for (int j = 0; j <= i; j++) {
+                double removedProduct = full ? returns[i][next] * returns[j][next] : 0;
+                products[i][j] += added[i] * added[j] - removedProduct;
+                products[j][i] = products[i][j];
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            returns[i][next] = added[i];
+        }
+
+        next = (next + 1) % window;
+        count = Math.min(count + 1, window);
+        System.arraycopy(rates, 0, lastRates, 0, size);
+        lastDate = date;
+        publish();
+    }
+
+    private void publish() {
+        int size = currencies.length;
+        double[][] covariance = new double[size][size];
+        double[][] correlation = new double[size][size];
+        double[][] beta = new double[size][size];
+
+        if (count >= 2) {
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    covariance[i][j] = (products[i][j] - sums[i] * sums[j] / count) / (count - 1);
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double varianceI = covariance[i][i];
+                double varianceJ = covariance[j][j];
+                if (i == j) {
+                    correlation[i][j] = 1;
+                } else if (varianceI > 0 && varianceJ > 0) {
+                    correlation[i][j] = Math.max(-1, Math.min(1, covariance[i][j] / Math.sqrt(varianceI * varianceJ)));
+                }
+                beta[i][j] = varianceJ > 0 ? covariance[i][j] / varianceJ : 0;
+            }
+        }
+
+        matrix = new CorrelationMatrix(List.of(currencies), lastDate, window, count, correlation, covariance, beta);
+    }
+}
@@ -0,0 +1,36 @@
+package com.txnow.application.exchange.candle;
+
+import com.txnow.application.exchange.index.RateRangeStatistics;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 구간별 OHLC 캔들
+ * @param periodStart 달력 구간 시작일 (데이터가 없는 날일 수 있음)
+ * @param firstDate 구간 내 첫 데이터 일자
+ * @param lastDate 구간 내 마지막 데이터 일자
+ * @param days 구간 내 데이터 일수
+ */
+public record Candle(
+    LocalDate periodStart,
+    LocalDate firstDate,
+    LocalDate lastDate,
+    BigDecimal open,
+    BigDecimal high,
+    BigDecimal low,
+    BigDecimal close,
+    int days
+) {
+    static Candle of(LocalDate periodStart, RateRangeStatistics statistics) {
+        return new Candle(
+            periodStart,
+            statistics.firstDate(),
+            statistics.lastDate(),
+            statistics.firstRate(),
+            statistics.high(),
+            statistics.low(),
+            statistics.lastRate(),
+            statistics.count()
+        );
+    }
+}
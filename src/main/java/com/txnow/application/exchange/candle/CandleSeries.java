@@ -0,0 +1,117 @@
+package com.txnow.application.exchange.candle;
+
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.domain.exchange.model.CandleInterval;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 통화/집계 단위별 캔들 시계열 (불변)
+ * 캔들 갱신 시 새 인스턴스를 만들어 교체하므로 reader 는 잠금 없이 조회한다.
+ */
+public final class CandleSeries {
+
+    private final CandleInterval interval;
+    private final Candle[] candles;
+    private final long[] periodStartEpochDays;
+
+    private CandleSeries(CandleInterval interval, Candle[] candles) {
+        this.interval = interval;
+        this.candles = candles;
+        this.periodStartEpochDays = new long[candles.length];
+        for (int i = 0; i < candles.length; i++) {
+            periodStartEpochDays[i] = candles[i].periodStart().toEpochDay();
+        }
+    }
+
+    /**
+     * 인덱스 전체 구간을 캔들로 집계 - O(구간 수 × log n)
+     * 구간별 OHLC 는 인덱스 구간 질의(sparse table)로 계산한다.
+     */
+    public static CandleSeries build(RateRangeIndex index, CandleInterval interval) {
+        Optional<LocalDate> firstDate = index.firstDate();
+        Optional<LocalDate> lastDate = index.lastDate();
+        if (firstDate.isEmpty() || lastDate.isEmpty()) {
+            return new CandleSeries(interval, new Candle[0]);
+        }
+
+        List<Candle> candles = new ArrayList<>();
+        LocalDate lastBucketStart = interval.bucketStart(lastDate.get());
+        for (LocalDate bucketStart = interval.bucketStart(firstDate.get());
+             !bucketStart.isAfter(lastBucketStart);
+             bucketStart = interval.nextBucketStart(bucketStart)) {
+            LocalDate periodStart = bucketStart;
+            index.statistics(periodStart, interval.nextBucketStart(periodStart).minusDays(1))
+                .ifPresent(statistics -> candles.add(Candle.of(periodStart, statistics)));
+        }
+        return new CandleSeries(interval, candles.toArray(Candle[]::new));
+    }
+
+    public CandleInterval interval() {
+        return interval;
+    }
+
+    public int size() {
+        return candles.length;
+    }
+
+    /**
+     * date 가 속한 구간의 캔들을 인덱스에서 다시 계산한 새 시계열 - O(구간 수)
+     * 같은 일자 재수집, 과거 일자 보정도 해당 구간만 다시 계산한다.
+     */
+    CandleSeries withBucketOf(RateRangeIndex index, LocalDate date) {
+        LocalDate periodStart = interval.bucketStart(date);
+        Optional<Candle> updated = index.statistics(periodStart, interval.bucketEnd(date))
+            .map(statistics -> Candle.of(periodStart, statistics));
+
+        if (updated.isEmpty()) {
+            return this;
+        }
+
+        int position = Arrays.binarySearch(periodStartEpochDays, periodStart.toEpochDay());
+        if (position >= 0) {
+            Candle[] replaced = candles.clone();
+            replaced[position] = updated.get();
+            return new CandleSeries(interval, replaced);
+        }
+
+        int insertion = -position - 1;
+        Candle[] inserted = new Candle[candles.length + 1];
+        System.arraycopy(candles, 0, inserted, 0, insertion);
+        inserted[insertion] = updated.get();
+        System.arraycopy(candles, insertion, inserted, insertion + 1, candles.length - insertion);
+        return new CandleSeries(interval, inserted);
+    }
+
+    /**
+     * [startDate, endDate] 와 겹치는 구간의 캔들 - O(log 구간 수 + 결과 수)
+     * 조회 구간에 일부만 걸친 처음/마지막 캔들은 인덱스로 조회 구간만 다시 집계한다.
+     */
+    public List<Candle> slice(RateRangeIndex index, LocalDate startDate, LocalDate endDate) {
+        int from = lowerBound(interval.bucketStart(startDate).toEpochDay());
+        int to = lowerBound(interval.bucketStart(endDate).toEpochDay() + 1);
+
+        List<Candle> result = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            Candle candle = candles[i];
+            if (candle.firstDate().isBefore(startDate) || candle.lastDate().isAfter(endDate)) {
+                LocalDate clippedStart = candle.periodStart().isBefore(startDate) ? startDate : candle.periodStart();
+                LocalDate bucketEnd = interval.bucketEnd(candle.periodStart());
+                LocalDate clippedEnd = bucketEnd.isAfter(endDate) ? endDate : bucketEnd;
+                index.statistics(clippedStart, clippedEnd)
+                    .ifPresent(statistics -> result.add(Candle.of(candle.periodStart(), statistics)));
+                continue;
+            }
+            result.add(candle);
+        }
+        return result;
+    }
+
+    private int lowerBound(long epochDay) {
+        int position = Arrays.binarySearch(periodStartEpochDays, epochDay);
+        return position >= 0 ? position : -position - 1;
+    }
+}
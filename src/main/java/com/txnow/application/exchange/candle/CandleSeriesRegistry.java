@@ -0,0 +1,105 @@
+package com.txnow.application.exchange.candle;
+
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.CandleInterval;
+import com.txnow.domain.exchange.model.Currency;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 통화/집계 단위별 캔들 시계열 저장소
+ * 최초 조회 시 구간 질의 인덱스로 전체 캔들을 만들고, 이후 새 환율 이벤트마다 해당 구간 캔들만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandleSeriesRegistry {
+
+    private final RateRangeIndexRegistry rateRangeIndexRegistry;
+
+    private final Map<CandleSeriesKey, CandleSeries> series = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * [startDate, endDate] 캔들 조회
+     * @return 인덱스가 없거나 조회 시작일이 인덱스 적재 범위 밖이면 empty
+     */
+    public Optional<List<Candle>> findCandles(
+        Currency currency,
+        CandleInterval interval,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        Optional<RateRangeIndex> index = rateRangeIndexRegistry.find(currency)
+            .filter(found -> found.covers(startDate));
+        if (index.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CandleSeries candleSeries = series.get(new CandleSeriesKey(currency, interval));
+        if (candleSeries == null) {
+            candleSeries = build(currency, interval);
+        }
+        return Optional.of(candleSeries.slice(index.get(), startDate, endDate));
+    }
+
+    /**
+     * 새 환율이 속한 구간의 캔들 갱신 (구간 질의 인덱스 갱신 이후 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            Optional<RateRangeIndex> index = rateRangeIndexRegistry.find(event.currency());
+            if (index.isEmpty()) {
+                return;
+            }
+
+            writeLock.lock();
+            try {
+                for (CandleInterval interval : CandleInterval.values()) {
+                    series.computeIfPresent(new CandleSeriesKey(event.currency(), interval),
+                        (key, candleSeries) -> candleSeries.withBucketOf(index.get(), event.date()));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update candle series for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    private CandleSeries build(Currency currency, CandleInterval interval) {
+        writeLock.lock();
+        try {
+            CandleSeriesKey key = new CandleSeriesKey(currency, interval);
+            CandleSeries existing = series.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            RateRangeIndex index = rateRangeIndexRegistry.find(currency).orElseThrow();
+            CandleSeries built = CandleSeries.build(index, interval);
+            series.put(key, built);
+            log.info("Built {} candle series for {}: {} candles", interval, currency, built.size());
+            return built;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private record CandleSeriesKey(
+        Currency currency,
+        CandleInterval interval
+    ) {}
+}
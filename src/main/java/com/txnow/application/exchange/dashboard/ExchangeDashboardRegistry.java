@@ -0,0 +1,191 @@
+package com.txnow.application.exchange.dashboard;
+
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult.ExchangeDashboardPoint;
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult.ExchangeDashboardRate;
+
+import com.txnow.application.exchange.ExchangeRateSnapshotRegistry;
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.application.exchange.index.RateRangeStatistics;
+import com.txnow.domain.exchange.event.ExchangeRateSnapshotPublishedEvent;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.ExchangeRateCalculator;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 전체 통화 대시보드 저장소
+ * 현재 환율 스냅샷이 바뀌거나 새 환율이 저장될 때마다 전체 통화 환율과 sparkline 을 미리 계산해 교체한다.
+ * 조회는 volatile 읽기 1회이며, 재계산 후 ExchangeDashboardUpdatedEvent 를 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeDashboardRegistry {
+
+    private final ExchangeRateSnapshotRegistry snapshotRegistry;
+    private final RateRangeIndexRegistry rateRangeIndexRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile ExchangeDashboardResult dashboard;
+
+    /**
+     * 마지막 재계산에 사용한 원본 버전 (스냅샷 버전 + 통화별 인덱스 반영 시각)
+     */
+    private SourceVersion sourceVersion;
+
+    @Value("${exchange-rate.dashboard.sparkline-days:30}")
+    private long sparklineDays;
+
+    /**
+     * @return 아직 계산된 대시보드가 없으면 empty
+     */
+    public Optional<ExchangeDashboardResult> current() {
+        return Optional.ofNullable(dashboard);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onSnapshotPublished(ExchangeRateSnapshotPublishedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 스냅샷이 바뀌지 않는 과거 일자 보정도 sparkline 에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild dashboard for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    /**
+     * 원본(스냅샷, 인덱스)이 바뀐 경우에만 재계산 후 교체
+     */
+    public void rebuild() {
+        ExchangeDashboardResult rebuilt;
+        writeLock.lock();
+        try {
+            ExchangeRateSnapshot snapshot = snapshotRegistry.current();
+            SourceVersion version = sourceVersionOf(snapshot);
+            if (version.equals(sourceVersion)) {
+                return;
+            }
+
+            List<ExchangeDashboardRate> rates = new ArrayList<>();
+            for (Currency currency : Currency.values()) {
+                if (currency.isSupportedCurrency()) {
+                    toDashboardRate(snapshot, currency).ifPresent(rates::add);
+                }
+            }
+
+            long nextVersion = dashboard == null ? 1 : dashboard.version() + 1;
+            rebuilt = new ExchangeDashboardResult(nextVersion, LocalDateTime.now(), Currency.KRW, List.copyOf(rates));
+            dashboard = rebuilt;
+            sourceVersion = version;
+        } finally {
+            writeLock.unlock();
+        }
+
+        log.debug("Exchange dashboard v{} rebuilt: {} currencies", rebuilt.version(), rebuilt.rates().size());
+        eventPublisher.publishEvent(new ExchangeDashboardUpdatedEvent(rebuilt));
+    }
+
+    private SourceVersion sourceVersionOf(ExchangeRateSnapshot snapshot) {
+        List<Instant> indexModifiedAts = new ArrayList<>();
+        for (Currency currency : Currency.values()) {
+            if (currency.isSupportedCurrency()) {
+                indexModifiedAts.add(rateRangeIndexRegistry.findModifiedAt(currency).orElse(Instant.EPOCH));
+            }
+        }
+        return new SourceVersion(snapshot.version(), indexModifiedAts);
+    }
+
+    /**
+     * 현재 환율은 스냅샷, 없으면 인덱스 마지막 일자 환율 기준
+     * 변동폭은 기준일 직전 일자 환율 대비, sparkline 은 기준일까지 sparkline-days 일 구간
+     */
+    private Optional<ExchangeDashboardRate> toDashboardRate(ExchangeRateSnapshot snapshot, Currency currency) {
+        Optional<RateRangeIndex> index = rateRangeIndexRegistry.find(currency);
+        Optional<DailyRate> indexed = index.flatMap(found -> found.lastDate()
+            .flatMap(lastDate -> found.statistics(lastDate, lastDate))
+            .map(statistics -> new DailyRate(statistics.lastDate(), statistics.lastRate())));
+
+        Optional<BigDecimal> snapshotRate = snapshot.rate(currency, Currency.KRW);
+        Optional<LocalDate> snapshotDate = snapshot.rateDate(currency);
+        DailyRate current;
+        if (snapshotRate.isPresent() && snapshotDate.isPresent()) {
+            current = new DailyRate(snapshotDate.get(), snapshotRate.get());
+        } else if (indexed.isPresent()) {
+            current = indexed.get();
+        } else {
+            return Optional.empty();
+        }
+
+        Optional<BigDecimal> previousRate = index
+            .flatMap(found -> found.firstDate()
+                .filter(firstDate -> firstDate.isBefore(current.date()))
+                .flatMap(firstDate -> found.statistics(firstDate, current.date().minusDays(1))))
+            .map(RateRangeStatistics::lastRate);
+
+        BigDecimal change = previousRate.map(current.rate()::subtract).orElse(BigDecimal.ZERO);
+        BigDecimal changePercent = previousRate
+            .map(previous -> ExchangeRateCalculator.calculateChangePercentage(current.rate(), previous))
+            .orElse(BigDecimal.ZERO);
+
+        return Optional.of(new ExchangeDashboardRate(
+            currency,
+            current.rate(),
+            change,
+            changePercent,
+            current.date(),
+            sparkline(index.orElse(null), current)
+        ));
+    }
+
+    private List<ExchangeDashboardPoint> sparkline(RateRangeIndex index, DailyRate current) {
+        List<ExchangeDashboardPoint> points = new ArrayList<>();
+        if (index != null) {
+            for (DailyRate dailyRate : index.dailyRatesAfter(current.date().minusDays(sparklineDays))) {
+                if (dailyRate.date().isBefore(current.date())) {
+                    points.add(new ExchangeDashboardPoint(dailyRate.date().toString(), dailyRate.rate()));
+                }
+            }
+        }
+        // 기준일 환율은 스냅샷 값으로 마지막 포인트를 구성
+        points.add(new ExchangeDashboardPoint(current.date().toString(), current.rate()));
+        return List.copyOf(points);
+    }
+
+    private record SourceVersion(
+        long snapshotVersion,
+        List<Instant> indexModifiedAts
+    ) {}
+}
@@ -0,0 +1,16 @@
+package com.txnow.application.exchange.dashboard;
+
+import static com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult;
+
+import java.util.Objects;
+
+/**
+ * 대시보드를 재계산했을 때 발행되는 이벤트 (응답 직렬화 캐시 갱신용)
+ */
+public record ExchangeDashboardUpdatedEvent(
+    ExchangeDashboardResult dashboard
+) {
+    public ExchangeDashboardUpdatedEvent {
+        Objects.requireNonNull(dashboard, "Dashboard cannot be null");
+    }
+}
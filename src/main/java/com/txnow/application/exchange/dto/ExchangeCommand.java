@@ -1,8 +1,10 @@
 package com.txnow.application.exchange.dto;
 
+import com.txnow.domain.exchange.model.CandleInterval;
 import com.txnow.domain.exchange.model.Currency;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public record ExchangeCommand() {
 
@@ -12,10 +14,38 @@ public record ExchangeCommand() {
         BigDecimal amount
     ) {}
 
+    /**
+     * @param maxPoints 최대 차트 포인트 수 (null 이면 다운샘플링하지 않음)
+     * @param indicators 보조 지표 (예: sma:20, bollinger:20:2, null 이면 지표 없음)
+     */
     public record ExchangeChartCommand(
         Currency baseCurrency,
         Currency targetCurrency,
         String startDate,
+        String endDate,
+        Integer maxPoints,
+        List<String> indicators
+    ) {}
+
+    public record ExchangeCandleCommand(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        CandleInterval interval,
+        String startDate,
+        String endDate
+    ) {}
+
+    public record ExchangeMultiChartCommand(
+        List<Currency> baseCurrencies,
+        Currency targetCurrency,
+        String startDate,
         String endDate
     ) {}
+
+    /**
+     * @param windowDays 최근 일별 수익률 개수
+     */
+    public record ExchangeCorrelationCommand(
+        Integer windowDays
+    ) {}
 }
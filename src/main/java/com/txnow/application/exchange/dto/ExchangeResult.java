@@ -1,17 +1,26 @@
 package com.txnow.application.exchange.dto;
 
+import com.txnow.domain.exchange.model.CandleInterval;
 import com.txnow.domain.exchange.model.Currency;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 public record ExchangeResult() {
 
+    /**
+     * @param rateVersion 계산에 사용한 환율 스냅샷 버전, 스냅샷에 없어 Provider 에서 조회한 환율이면 null
+     * @param rateDate 계산에 사용한 환율 기준일 (노드 간 비교용), Provider 에서 조회한 환율이면 null
+     */
     public record ExchangeConvertResult(
         BigDecimal convertedAmount,
         BigDecimal rate,
-        LocalDateTime timestamp
+        LocalDateTime timestamp,
+        Long rateVersion,
+        LocalDate rateDate
     ) {}
 
     public record ExchangeChartResult(
@@ -21,7 +30,8 @@ public record ExchangeResult() {
         ExchangeCurrentRate currentRate,
         LocalDateTime lastUpdated,
         List<ExchangeChartDataPoint> chartData,
-        ExchangeChartStatistics statistics
+        ExchangeChartStatistics statistics,
+        List<ExchangeIndicatorSeries> indicators
     ) {
         /**
          * 현재 환율 정보
@@ -50,5 +60,158 @@ public record ExchangeResult() {
             BigDecimal low,
             BigDecimal average
         ) {}
+
+        /**
+         * 보조 지표 시계열 (차트 데이터 포인트 일자 기준)
+         */
+        public record ExchangeIndicatorSeries(
+            String name,
+            List<ExchangeIndicatorPoint> points
+        ) {}
+
+        /**
+         * 보조 지표 값 (upper/lower 는 밴드 지표에서만 사용)
+         */
+        public record ExchangeIndicatorPoint(
+            String date,
+            BigDecimal value,
+            BigDecimal upper,
+            BigDecimal lower
+        ) {}
+    }
+
+    /**
+     * 열(column) 단위 차트 (포인트 객체 없이 일자/환율/변동률 배열)
+     * @param epochDays 포인트 일자 (epoch day, 오름차순)
+     * @param scaledRates 포인트 환율 (고정소수점, 소수점 RATE_SCALE 자리)
+     * @param scaledDayChanges 포인트 전일 대비 변동률 (고정소수점, 소수점 PERCENT_SCALE 자리)
+     */
+    public record ExchangeChartColumnsResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        String period,
+        ExchangeChartResult.ExchangeCurrentRate currentRate,
+        LocalDateTime lastUpdated,
+        ExchangeChartResult.ExchangeChartStatistics statistics,
+        int[] epochDays,
+        long[] scaledRates,
+        long[] scaledDayChanges
+    ) {}
+
+    /**
+     * 스트리밍 차트 요약 (포인트는 조회 중 바로 출력되고 결과에는 포함하지 않음)
+     * @param pointCount 출력한 포인트 수
+     */
+    public record ExchangeChartSummaryResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        String period,
+        ExchangeChartResult.ExchangeCurrentRate currentRate,
+        LocalDateTime lastUpdated,
+        ExchangeChartResult.ExchangeChartStatistics statistics,
+        int pointCount
+    ) {}
+
+    public record ExchangeCandleResult(
+        Currency baseCurrency,
+        Currency targetCurrency,
+        CandleInterval interval,
+        String period,
+        List<ExchangeCandle> candles
+    ) {
+        /**
+         * 구간별 OHLC 캔들
+         */
+        public record ExchangeCandle(
+            String periodStart,
+            String firstDate,
+            String lastDate,
+            BigDecimal open,
+            BigDecimal high,
+            BigDecimal low,
+            BigDecimal close
+        ) {}
     }
+
+    /**
+     * 여러 통화 비교 차트
+     * @param dates 공통 날짜 축 (전체 통화 일자의 합집합, 오름차순)
+     */
+    public record ExchangeMultiChartResult(
+        Currency targetCurrency,
+        String period,
+        List<String> dates,
+        List<ExchangeChartSeries> series
+    ) {
+        /**
+         * 통화별 환율 (dates 와 같은 길이, 해당 일자 데이터가 없으면 null)
+         */
+        public record ExchangeChartSeries(
+            Currency baseCurrency,
+            List<BigDecimal> rates
+        ) {}
+    }
+
+    /**
+     * 통화 간 일별 로그 수익률 상관/공분산/베타 행렬 (행/열 순서는 currencies 순서)
+     * @param beta beta[i][j] = cov(i, j) / var(j)
+     */
+    public record ExchangeCorrelationResult(
+        List<Currency> currencies,
+        LocalDate asOf,
+        int windowDays,
+        int observations,
+        double[][] correlation,
+        double[][] covariance,
+        double[][] beta
+    ) {}
+
+    /**
+     * 기간 프리셋을 정규화한 조회 구간
+     */
+    public record ExchangeChartRangeResult(
+        LocalDate startDate,
+        LocalDate endDate
+    ) {}
+
+    /**
+     * 전체 통화 대시보드 (현재 환율 + 최근 일별 환율 sparkline)
+     * @param version 대시보드 버전 (재계산할 때마다 1 증가)
+     */
+    public record ExchangeDashboardResult(
+        long version,
+        LocalDateTime generatedAt,
+        Currency targetCurrency,
+        List<ExchangeDashboardRate> rates
+    ) {
+        /**
+         * @param change 직전 일자 대비 변동폭
+         * @param sparkline 기준일까지 최근 일별 환율 (날짜 오름차순)
+         */
+        public record ExchangeDashboardRate(
+            Currency baseCurrency,
+            BigDecimal rate,
+            BigDecimal change,
+            BigDecimal changePercent,
+            LocalDate rateDate,
+            List<ExchangeDashboardPoint> sparkline
+        ) {}
+
+        public record ExchangeDashboardPoint(
+            String date,
+            BigDecimal rate
+        ) {}
+    }
+
+    /**
+     * 조회 구간 데이터 버전 (HTTP 조건부 요청 검증용)
+     * @param fingerprint 통화별 구간 데이터 fingerprint
+     * @param lastModified 통화 환율이 마지막으로 반영된 시각
+     * @param closed 종료일까지의 환율이 모두 수집되어 새 일자 추가로 바뀌지 않는 구간 여부
+     */
+    public record ExchangeDataVersionResult(
+        String fingerprint,
+        Instant lastModified,
+        boolean closed
+    ) {}
 }
@@ -0,0 +1,342 @@
+package com.txnow.application.exchange.index;
+
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.ExchangeRateCalculator;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 통화별 일별 환율 구간 질의 인덱스
+ * - prefix sum: 구간 합계/평균 O(1)
+ * - sparse table (구간 끝 인덱스 기준): 구간 최고/최저 O(1), 새 일자 추가 시 O(log n)
+ * - prefix fingerprint: 구간 데이터 fingerprint O(1) (HTTP ETag 용)
+ * 추가는 단일 writer 가 수행하고, reader 는 volatile 로 공개된 {@link Columns} 하나만 읽는다.
+ * writer 는 공개 범위 밖 칸에 값을 기록한 뒤(배열 확장 시에는 복사를 마친 뒤) 새 Columns 로 교체하므로
+ * reader 는 항상 한 시점의 배열과 크기를 일관되게 본다.
+ */
+public final class RateRangeIndex {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * 인덱스가 데이터를 적재한 시작일 (이 날짜 이후 구간은 인덱스만으로 조회 가능)
+     */
+    private final LocalDate coveredFrom;
+
+    private volatile Columns columns;
+
+    private RateRangeIndex(LocalDate coveredFrom, int capacity) {
+        this.coveredFrom = coveredFrom;
+        this.columns = Columns.empty(Math.max(INITIAL_CAPACITY, capacity));
+    }
+
+    /**
+     * 일별 환율 리스트로 인덱스 생성 (첫 일자부터 적재된 것으로 간주)
+     * @param dailyRates 날짜 오름차순, 날짜 중복 없는 일별 환율 (1개 이상)
+     */
+    public static RateRangeIndex of(List<DailyRate> dailyRates) {
+        return of(dailyRates.getFirst().date(), dailyRates);
+    }
+
+
+    /**
+     * @param coveredFrom 데이터 적재 시작일 (해당 일자 이후 데이터가 모두 포함되어 있음)
+     * @param dailyRates 날짜 오름차순, 날짜 중복 없는 일별 환율
+     */
+    public static RateRangeIndex of(LocalDate coveredFrom, List<DailyRate> dailyRates) {
+        RateRangeIndex index = new RateRangeIndex(coveredFrom, dailyRates.size());
+        for (DailyRate dailyRate : dailyRates) {
+            index.append(dailyRate.date(), dailyRate.rate());
+        }
+        return index;
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * startDate 이후 구간을 인덱스만으로 조회할 수 있는지 확인
+     */
+    public boolean covers(LocalDate startDate) {
+        return !startDate.isBefore(coveredFrom);
+    }
+
+    public Optional<LocalDate> firstDate() {
+        Columns current = columns;
+        if (current.size() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.ofEpochDay(current.epochDays()[0]));
+    }
+
+    public Optional<LocalDate> lastDate() {
+        Columns current = columns;
+        if (current.size() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.ofEpochDay(current.epochDays()[current.size() - 1]));
+    }
+
+    /**
+     * 인덱스에 공개된 일별 환율 복사본 (날짜 오름차순)
+     */
+    public List<DailyRate> toDailyRates() {
+        Columns current = columns;
+        return current.dailyRates(0, current.size());
+    }
+
+    /**
+     * [startDate, endDate] 일별 환율 - O(log n + 결과 수)
+     */
+    public List<DailyRate> dailyRates(LocalDate startDate, LocalDate endDate) {
+        Columns current = columns;
+        int from = current.lowerBound(startDate.toEpochDay());
+        return current.dailyRates(from, current.lowerBound(endDate.toEpochDay() + 1));
+    }
+
+    /**
+     * date 이후(미포함) 일별 환율 - O(log n + 결과 수)
+     */
+    public List<DailyRate> dailyRatesAfter(LocalDate date) {
+        Columns current = columns;
+        return current.dailyRates(current.lowerBound(date.toEpochDay() + 1), current.size());
+    }
+
+    /**
+     * 마지막 일자 이후의 환율 추가 - O(log n)
+     * 공개 범위 밖 칸에 기록한 뒤 크기를 늘린 Columns 를 공개한다.
+     * @throws IllegalArgumentException 마지막 일자 이전 또는 같은 일자인 경우
+     */
+    void append(LocalDate date, BigDecimal rate) {
+        Columns current = columns;
+        int index = current.size();
+        int epochDay = Math.toIntExact(date.toEpochDay());
+        if (index > 0 && current.epochDays()[index - 1] >= epochDay) {
+            throw new IllegalArgumentException("Date must be after last indexed date: " + date);
+        }
+
+        if (index == current.epochDays().length) {
+            current = current.grow();
+        }
+
+        long scaledRate = FixedPoint.toScaledRate(rate);
+        current.epochDays()[index] = epochDay;
+        current.scaledRates()[index] = scaledRate;
+        current.rates()[index] = rate;
+        current.prefixSums()[index + 1] = current.prefixSums()[index] + scaledRate;
+        current.prefixFingerprints()[index + 1] =
+            current.prefixFingerprints()[index] + fingerprintOf(epochDay, scaledRate);
+
+        int[][] highTable = current.highTable();
+        int[][] lowTable = current.lowTable();
+        highTable[0][index] = index;
+        lowTable[0][index] = index;
+        for (int level = 1; (1 << level) <= index + 1; level++) {
+            int left = index - (1 << (level - 1));
+            highTable[level][index] = current.higher(highTable[level - 1][left], highTable[level - 1][index]);
+            lowTable[level][index] = current.lower(lowTable[level - 1][left], lowTable[level - 1][index]);
+        }
+
+        columns = current.withSize(index + 1);
+    }
+
+    /**
+     * 특정 일자 환율을 추가/교체한 새 인덱스 생성 - O(n log n)
+     * 마지막 일자 이전 데이터 보정(같은 일자 재수집, 누락 일자 추가) 시 사용
+     * 적재 시작일 이전 일자는 사이 구간 데이터가 없으므로 적재 범위를 넓히지 않는다.
+     * (적재 시작일 바로 전날이면 빈 구간이 없으므로 그 일자부터 적재된 것으로 본다)
+     */
+    RateRangeIndex withRate(LocalDate date, BigDecimal rate) {
+        Columns current = columns;
+        int currentSize = current.size();
+        int[] epochDays = current.epochDays();
+        List<DailyRate> dailyRates = new ArrayList<>(currentSize + 1);
+        int epochDay = Math.toIntExact(date.toEpochDay());
+        boolean inserted = false;
+
+        for (int i = 0; i < currentSize; i++) {
+            if (!inserted && epochDays[i] >= epochDay) {
+                dailyRates.add(new DailyRate(date, rate));
+                inserted = true;
+                if (epochDays[i] == epochDay) {
+                    continue;
+                }
+            }
+            dailyRates.add(new DailyRate(LocalDate.ofEpochDay(epochDays[i]), current.rates()[i]));
+        }
+        if (!inserted) {
+            dailyRates.add(new DailyRate(date, rate));
+        }
+
+        LocalDate covered = date.plusDays(1).equals(coveredFrom) ? date : coveredFrom;
+        return of(covered, dailyRates);
+    }
+
+    /**
+     * [startDate, endDate] 구간 통계 - O(log n)
+     * @return 구간 내 데이터가 없으면 empty
+     */
+    public Optional<RateRangeStatistics> statistics(LocalDate startDate, LocalDate endDate) {
+        Columns current = columns;
+        int from = current.lowerBound(startDate.toEpochDay());
+        int to = current.lowerBound(endDate.toEpochDay() + 1) - 1;
+        if (from > to) {
+            return Optional.empty();
+        }
+
+        int count = to - from + 1;
+        int level = 31 - Integer.numberOfLeadingZeros(count);
+        int leftEnd = from + (1 << level) - 1;
+
+        int high = current.higher(current.highTable()[level][leftEnd], current.highTable()[level][to]);
+        int low = current.lower(current.lowTable()[level][leftEnd], current.lowTable()[level][to]);
+        long sum = current.prefixSums()[to + 1] - current.prefixSums()[from];
+        BigDecimal[] rates = current.rates();
+
+        return Optional.of(new RateRangeStatistics(
+            count,
+            LocalDate.ofEpochDay(current.epochDays()[from]),
+            LocalDate.ofEpochDay(current.epochDays()[to]),
+            rates[from],
+            rates[to],
+            rates[high],
+            rates[low],
+            FixedPoint.toBigDecimal(ExchangeRateCalculator.calculateAverage(sum, count), FixedPoint.RATE_SCALE)
+        ));
+    }
+
+    /**
+     * [startDate, endDate] 구간 데이터 fingerprint - O(log n)
+     * 일자/환율이 같으면 인스턴스와 무관하게 같은 값이고, 구간 내 일자 추가/보정 시 바뀐다.
+     */
+    public long fingerprint(LocalDate startDate, LocalDate endDate) {
+        Columns current = columns;
+        int from = current.lowerBound(startDate.toEpochDay());
+        int to = Math.max(from, current.lowerBound(endDate.toEpochDay() + 1));
+        return current.prefixFingerprints()[to] - current.prefixFingerprints()[from];
+    }
+
+    /**
+     * (일자, 환율) 해시 (splitmix64 finalizer)
+     */
+    private static long fingerprintOf(int epochDay, long scaledRate) {
+        return mix(mix(epochDay) + scaledRate);
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 한 시점에 공개된 배열과 크기
+     * [0, size) 칸은 공개 후 바뀌지 않으며, writer 는 size 이후 칸에만 기록한다.
+     * @param prefixSums prefixSums[i] = [0, i) 구간 고정소수점 환율 합계
+     * @param prefixFingerprints prefixFingerprints[i] = [0, i) 구간 (일자, 환율) 해시 합계
+     * @param highTable table[k][i] = [i - 2^k + 1, i] 구간 최고/최저 인덱스 (동일 값이면 앞선 인덱스)
+     */
+    private record Columns(
+        int size,
+        int[] epochDays,
+        long[] scaledRates,
+        BigDecimal[] rates,
+        long[] prefixSums,
+        long[] prefixFingerprints,
+        int[][] highTable,
+        int[][] lowTable
+    ) {
+
+        static Columns empty(int capacity) {
+            return new Columns(
+                0,
+                new int[capacity],
+                new long[capacity],
+                new BigDecimal[capacity],
+                new long[capacity + 1],
+                new long[capacity + 1],
+                newTable(capacity),
+                newTable(capacity)
+            );
+        }
+
+        Columns withSize(int newSize) {
+            return new Columns(newSize, epochDays, scaledRates, rates, prefixSums, prefixFingerprints,
+                highTable, lowTable);
+        }
+
+        /**
+         * 용량을 두 배로 늘린 복사본 (공개 전이므로 reader 는 복사가 끝난 배열만 본다)
+         */
+        Columns grow() {
+            int capacity = epochDays.length * 2;
+            return new Columns(
+                size,
+                Arrays.copyOf(epochDays, capacity),
+                Arrays.copyOf(scaledRates, capacity),
+                Arrays.copyOf(rates, capacity),
+                Arrays.copyOf(prefixSums, capacity + 1),
+                Arrays.copyOf(prefixFingerprints, capacity + 1),
+                growTable(highTable, capacity),
+                growTable(lowTable, capacity)
+            );
+        }
+
+        List<DailyRate> dailyRates(int from, int to) {
+            List<DailyRate> dailyRates = new ArrayList<>(Math.max(0, to - from));
+            for (int i = from; i < to; i++) {
+                dailyRates.add(new DailyRate(LocalDate.ofEpochDay(epochDays[i]), rates[i]));
+            }
+            return dailyRates;
+        }
+
+        /**
+         * epochDay 이상인 첫 인덱스
+         */
+        int lowerBound(long epochDay) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int higher(int left, int right) {
+            return scaledRates[right] > scaledRates[left] ? right : left;
+        }
+
+        int lower(int left, int right) {
+            return scaledRates[right] < scaledRates[left] ? right : left;
+        }
+
+        private static int[][] newTable(int capacity) {
+            int levels = 32 - Integer.numberOfLeadingZeros(capacity);
+            int[][] table = new int[levels][];
+            for (int level = 0; level < levels; level++) {
+                table[level] = new int[capacity];
+            }
+            return table;
+        }
+
+        private static int[][] growTable(int[][] table, int capacity) {
+            int[][] grown = newTable(capacity);
+            for (int level = 0; level < table.length; level++) {
+                System.arraycopy(table[level], 0, grown[level], 0, table[level].length);
+            }
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.txnow.application.exchange.index;
+
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 통화별 구간 질의 인덱스 저장소
+ * 기동 시 DB 일별 환율로 인덱스를 생성하고, 새 환율 저장 이벤트마다 증분 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateRangeIndexRegistry {
+
+    private final ExchangeRateHistoryRepository historyRepository;
+
+    private final Map<Currency, RateRangeIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<Currency, Instant> modifiedAts = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Value("${exchange-rate.index.lookback-days:3650}")
+    private long lookbackDays;
+
+    public Optional<RateRangeIndex> find(Currency currency) {
+        return Optional.ofNullable(indexes.get(currency));
+    }
+
+    /**
+     * 통화 인덱스에 마지막으로 환율이 반영된 시각
+     */
+    public Optional<Instant> findModifiedAt(Currency currency) {
+        return Optional.ofNullable(modifiedAts.get(currency));
+    }
+
+    /**
+     * [startDate, endDate] 구간 통계 조회
+     * @return 인덱스가 없거나 구간 내 데이터가 없으면 empty
+     */
+    public Optional<RateRangeStatistics> findStatistics(Currency currency, LocalDate startDate, LocalDate endDate) {
+        RateRangeIndex index = indexes.get(currency);
+        if (index == null) {
+            return Optional.empty();
+        }
+        return index.statistics(startDate, endDate);
+    }
+
+    /**
+     * 기동 시 인덱스 생성 (인덱스를 기반으로 하는 다른 기동 리스너보다 먼저 실행)
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusDays(lookbackDays);
+
+        for (Currency currency : Currency.values()) {
+            if (!currency.isSupportedCurrency()) {
+                continue;
+            }
+
+            try {
+                List<DailyRate> dailyRates = DailyRate.fromHistories(historyRepository
+                    .findByCurrencyAndTimestampBetween(currency, startDate.atStartOfDay(), today.atTime(23, 59, 59)));
+                if (dailyRates.isEmpty()) {
+                    continue;
+                }
+
+                RateRangeIndex index = RateRangeIndex.of(startDate, dailyRates);
+                writeLock.lock();
+                try {
+                    // 로딩 중 이벤트로 먼저 반영된 환율은 유지
+                    RateRangeIndex updated = indexes.get(currency);
+                    if (updated != null) {
+                        for (DailyRate dailyRate : updated.toDailyRates()) {
+                            index = index.withRate(dailyRate.date(), dailyRate.rate());
+                        }
+                    }
+                    indexes.put(currency, index);
+                    modifiedAts.put(currency, Instant.now());
+                } finally {
+                    writeLock.unlock();
+                }
+                log.info("Built rate range index for {}: {} days", currency, index.size());
+            } catch (Exception e) {
+                log.warn("Failed to build rate range index for {}: {}", currency, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 새 환율 반영: 마지막 일자 이후면 O(log n) 추가, 그 외에는 인덱스 재생성 후 교체
+     * 같은 일자를 같은 환율로 재수집한 경우는 반영하지 않는다.
+     * 인덱스를 기반으로 하는 다른 리스너보다 먼저 실행된다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            Currency currency = event.currency();
+
+            writeLock.lock();
+            try {
+                RateRangeIndex index = indexes.get(currency);
+                if (index == null) {
+                    indexes.put(currency, RateRangeIndex.of(List.of(new DailyRate(event.date(), event.rate()))));
+                    modifiedAts.put(currency, Instant.now());
+                    return;
+                }
+
+                boolean appendable = index.lastDate()
+                    .map(lastDate -> lastDate.isBefore(event.date()))
+                    .orElse(true);
+
+                if (appendable) {
+                    index.append(event.date(), event.rate());
+                } else if (isSameRate(index, event.date(), event.rate())) {
+                    return;
+                } else {
+                    indexes.put(currency, index.withRate(event.date(), event.rate()));
+                }
+                modifiedAts.put(currency, Instant.now());
+            } finally {
+                writeLock.unlock();
+            }
+
+            log.debug("Rate range index updated: {} {} = {}", currency, event.date(), event.rate());
+        } catch (Exception e) {
+            log.warn("Failed to update rate range index for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    private static boolean isSameRate(RateRangeIndex index, LocalDate date, BigDecimal rate) {
+        return index.statistics(date, date)
+            .map(statistics -> statistics.firstRate().compareTo(rate) == 0)
+            .orElse(false);
+    }
+}
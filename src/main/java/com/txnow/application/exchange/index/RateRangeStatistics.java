@@ -0,0 +1,20 @@
+package com.txnow.application.exchange.index;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 구간 통계 (인덱스 조회 결과)
+ * 최고/최저는 원본 환율 값을 그대로 사용하고 평균은 소수점 4자리 HALF_UP
+ * firstRate/lastRate 는 구간 첫/마지막 일자 환율 (OHLC 의 open/close)
+ */
+public record RateRangeStatistics(
+    int count,
+    LocalDate firstDate,
+    LocalDate lastDate,
+    BigDecimal firstRate,
+    BigDecimal lastRate,
+    BigDecimal high,
+    BigDecimal low,
+    BigDecimal average
+) {}
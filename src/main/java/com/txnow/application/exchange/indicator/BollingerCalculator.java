@@ -0,0 +1,35 @@
+package com.txnow.application.exchange.indicator;
+
+import com.txnow.domain.exchange.model.ExchangeRateCalculator;
+import com.txnow.domain.exchange.model.FixedPoint;
+
+/**
+ * 볼린저 밴드 (중심선 SMA, 상/하단 SMA ± multiplier × 모표준편차)
+ */
+final class BollingerCalculator implements IndicatorCalculator {
+
+    private final RollingWindow window;
+    private final double multiplier;
+
+    BollingerCalculator(int period, double multiplier) {
+        this.window = new RollingWindow(period);
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    public void add(int epochDay, long scaledRate, IndicatorSeries series) {
+        window.add(scaledRate);
+        if (!window.isFull()) {
+            return;
+        }
+
+        long middle = ExchangeRateCalculator.calculateAverage(window.sum(), window.length());
+        long width = Math.round(multiplier * Math.sqrt(window.variance()));
+        series.appendBand(epochDay, middle, middle + width, middle - width);
+    }
+
+    @Override
+    public int scale() {
+        return FixedPoint.RATE_SCALE;
+    }
+}
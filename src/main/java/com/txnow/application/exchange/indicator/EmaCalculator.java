@@ -0,0 +1,40 @@
+package com.txnow.application.exchange.indicator;
+
+import com.txnow.domain.exchange.model.FixedPoint;
+
+/**
+ * 지수 이동평균 (alpha = 2 / (period + 1), 첫 period 일의 SMA 로 시작)
+ */
+final class EmaCalculator implements IndicatorCalculator {
+
+    private final int period;
+    private final double alpha;
+    private int count;
+    private long seedSum;
+    private double ema;
+
+    EmaCalculator(int period) {
+        this.period = period;
+        this.alpha = 2.0 / (period + 1);
+    }
+
+    @Override
+    public void add(int epochDay, long scaledRate, IndicatorSeries series) {
+        if (count < period) {
+            seedSum += scaledRate;
+            count++;
+            if (count < period) {
+                return;
+            }
+            ema = (double) seedSum / period;
+        } else {
+            ema += alpha * (scaledRate - ema);
+        }
+        series.appendValue(epochDay, Math.round(ema));
+    }
+
+    @Override
+    public int scale() {
+        return FixedPoint.RATE_SCALE;
+    }
+}
@@ -0,0 +1,19 @@
+package com.txnow.application.exchange.indicator;
+
+/**
+ * 스트리밍 지표 계산기 (통화/지표 파라미터별 rolling 상태)
+ */
+interface IndicatorCalculator {
+
+    /**
+     * 환율 1건 반영 - O(1)
+     * 워밍업 구간 이후에는 series 에 해당 일자 지표 값을 추가한다.
+     * @param scaledRate {@link com.txnow.domain.exchange.model.FixedPoint#RATE_SCALE} 기준 환율
+     */
+    void add(int epochDay, long scaledRate, IndicatorSeries series);
+
+    /**
+     * 지표 값 scale
+     */
+    int scale();
+}
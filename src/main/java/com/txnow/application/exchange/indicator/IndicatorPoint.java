@@ -0,0 +1,16 @@
+package com.txnow.application.exchange.indicator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일자별 지표 값
+ * @param upper 밴드 상단 (볼린저 밴드 외에는 null)
+ * @param lower 밴드 하단 (볼린저 밴드 외에는 null)
+ */
+public record IndicatorPoint(
+    LocalDate date,
+    BigDecimal value,
+    BigDecimal upper,
+    BigDecimal lower
+) {}
@@ -0,0 +1,175 @@
+package com.txnow.application.exchange.indicator;
+
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.FixedPoint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 통화/지표 파라미터별 지표 시계열과 rolling 계산 상태
+ * 새 환율은 O(1) 로 반영되며, 추가는 단일 writer 가 수행하고
+ * reader 는 volatile 로 공개된 {@link Columns} 하나만 읽는다. ({@code RateRangeIndex} 와 동일한 방식)
+ */
+public final class IndicatorSeries {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final IndicatorSpec spec;
+    private final IndicatorCalculator calculator;
+
+    /**
+     * 마지막으로 반영한 환율 일자 (워밍업 구간 포함)
+     */
+    private long lastInputEpochDay = Long.MIN_VALUE;
+
+    private volatile Columns columns;
+
+    private IndicatorSeries(IndicatorSpec spec, int capacity) {
+        this.spec = spec;
+        this.calculator = spec.newCalculator();
+        this.columns = Columns.empty(Math.max(INITIAL_CAPACITY, capacity), spec.type() == IndicatorType.BOLLINGER);
+    }
+
+    /**
+     * @param dailyRates 날짜 오름차순, 날짜 중복 없는 일별 환율
+     */
+    public static IndicatorSeries of(IndicatorSpec spec, List<DailyRate> dailyRates) {
+        IndicatorSeries series = new IndicatorSeries(spec, dailyRates.size());
+        for (DailyRate dailyRate : dailyRates) {
+            series.add(dailyRate.date(), dailyRate.rate());
+        }
+        return series;
+    }
+
+    public IndicatorSpec spec() {
+        return spec;
+    }
+
+    /**
+     * 새 환율이 마지막 반영 일자 이후인지 확인 (이전 일자 보정은 재생성 필요)
+     */
+    boolean isAppendable(LocalDate date) {
+        return date.toEpochDay() > lastInputEpochDay;
+    }
+
+    /**
+     * 마지막 반영 일자 이후 환율 추가 - O(1)
+     * @throws IllegalArgumentException 마지막 반영 일자 이전 또는 같은 일자인 경우
+     */
+    void add(LocalDate date, BigDecimal rate) {
+        if (!isAppendable(date)) {
+            throw new IllegalArgumentException("Date must be after last indicator input date: " + date);
+        }
+        lastInputEpochDay = date.toEpochDay();
+        calculator.add(Math.toIntExact(lastInputEpochDay), FixedPoint.toScaledRate(rate), this);
+    }
+
+    void appendValue(int epochDay, long value) {
+        Columns current = ensureCapacity();
+        int index = current.size();
+        current.epochDays()[index] = epochDay;
+        current.values()[index] = value;
+        columns = current.withSize(index + 1);
+    }
+
+    void appendBand(int epochDay, long middle, long upper, long lower) {
+        Columns current = ensureCapacity();
+        int index = current.size();
+        current.epochDays()[index] = epochDay;
+        current.values()[index] = middle;
+        current.uppers()[index] = upper;
+        current.lowers()[index] = lower;
+        columns = current.withSize(index + 1);
+    }
+
+    /**
+     * [startDate, endDate] 지표 값 - O(log n + 결과 수)
+     * 구간 이전 환율로 워밍업되어 있으므로 구간 첫 일자부터 값이 존재한다.
+     */
+    public List<IndicatorPoint> slice(LocalDate startDate, LocalDate endDate) {
+        Columns current = columns;
+        int from = current.lowerBound(startDate.toEpochDay());
+        int to = current.lowerBound(endDate.toEpochDay() + 1);
+
+        int scale = calculator.scale();
+        long[] uppers = current.uppers();
+        long[] lowers = current.lowers();
+        List<IndicatorPoint> points = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            points.add(new IndicatorPoint(
+                LocalDate.ofEpochDay(current.epochDays()[i]),
+                FixedPoint.toBigDecimal(current.values()[i], scale),
+                uppers != null ? FixedPoint.toBigDecimal(uppers[i], scale) : null,
+                lowers != null ? FixedPoint.toBigDecimal(lowers[i], scale) : null
+            ));
+        }
+        return points;
+    }
+
+    /**
+     * 다음 칸을 기록할 수 있는 Columns (가득 찼으면 복사를 마친 확장본, 공개는 기록 후 수행)
+     */
+    private Columns ensureCapacity() {
+        Columns current = columns;
+        return current.size() == current.epochDays().length ? current.grow() : current;
+    }
+
+    /**
+     * 한 시점에 공개된 배열과 크기
+     * [0, size) 칸은 공개 후 바뀌지 않으며, writer 는 size 이후 칸에만 기록한다.
+     * @param uppers 볼린저 밴드가 아니면 null
+     */
+    private record Columns(
+        int size,
+        int[] epochDays,
+        long[] values,
+        long[] uppers,
+        long[] lowers
+    ) {
+
+        static Columns empty(int capacity, boolean band) {
+            return new Columns(
+                0,
+                new int[capacity],
+                new long[capacity],
+                band ? new long[capacity] : null,
+                band ? new long[capacity] : null
+            );
+        }
+
+        Columns withSize(int newSize) {
+            return new Columns(newSize, epochDays, values, uppers, lowers);
+        }
+
+        Columns grow() {
+            int capacity = epochDays.length * 2;
+            return new Columns(
+                size,
+                Arrays.copyOf(epochDays, capacity),
+                Arrays.copyOf(values, capacity),
+                uppers != null ? Arrays.copyOf(uppers, capacity) : null,
+                lowers != null ? Arrays.copyOf(lowers, capacity) : null
+            );
+        }
+
+        /**
+         * epochDay 이상인 첫 인덱스
+         */
+        int lowerBound(long epochDay) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
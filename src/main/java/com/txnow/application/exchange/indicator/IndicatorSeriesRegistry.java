@@ -0,0 +1,116 @@
+package com.txnow.application.exchange.indicator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * (통화, 지표, 파라미터) 단위 지표 시계열 캐시
+ * 최초 조회 시 구간 질의 인덱스의 전체 일별 환율로 계산하고,
+ * 이후 새 환율 이벤트마다 rolling 상태에 O(1) 로 반영한다.
+ */
+@Slf4j
+@Component
+public class IndicatorSeriesRegistry {
+
+    private final RateRangeIndexRegistry rateRangeIndexRegistry;
+    private final Cache<IndicatorKey, IndicatorSeries> cache;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public IndicatorSeriesRegistry(
+        RateRangeIndexRegistry rateRangeIndexRegistry,
+        @Value("${cache.indicator.max-size:200}") long maxSize
+    ) {
+        this.rateRangeIndexRegistry = rateRangeIndexRegistry;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    /**
+     * [startDate, endDate] 지표 값 조회
+     * @return 인덱스가 없거나 조회 시작일이 인덱스 적재 범위 밖이면 empty
+     */
+    public Optional<List<IndicatorPoint>> findPoints(
+        Currency currency,
+        IndicatorSpec spec,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        Optional<RateRangeIndex> index = rateRangeIndexRegistry.find(currency)
+            .filter(found -> found.covers(startDate));
+        if (index.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IndicatorKey key = new IndicatorKey(currency, spec);
+        IndicatorSeries series = cache.getIfPresent(key);
+        if (series == null) {
+            series = build(key);
+        }
+        return Optional.of(series.slice(startDate, endDate));
+    }
+
+    /**
+     * 새 환율을 해당 통화의 모든 지표 시계열에 반영
+     * 마지막 반영 일자 이전 보정이면 캐시를 제거하여 다음 조회 시 재계산한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            writeLock.lock();
+            try {
+                cache.asMap().entrySet().removeIf(entry -> {
+                    if (entry.getKey().currency() != event.currency()) {
+                        return false;
+                    }
+                    IndicatorSeries series = entry.getValue();
+                    if (!series.isAppendable(event.date())) {
+                        return true;
+                    }
+                    series.add(event.date(), event.rate());
+                    return false;
+                });
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update indicator series for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    private IndicatorSeries build(IndicatorKey key) {
+        writeLock.lock();
+        try {
+            IndicatorSeries existing = cache.getIfPresent(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            RateRangeIndex index = rateRangeIndexRegistry.find(key.currency()).orElseThrow();
+            IndicatorSeries built = IndicatorSeries.of(key.spec(), index.toDailyRates());
+            cache.put(key, built);
+            log.debug("Built indicator series {} for {}", key.spec().label(), key.currency());
+            return built;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private record IndicatorKey(
+        Currency currency,
+        IndicatorSpec spec
+    ) {}
+}
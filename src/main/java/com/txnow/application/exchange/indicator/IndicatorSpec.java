@@ -0,0 +1,83 @@
+package com.txnow.application.exchange.indicator;
+
+import java.util.Locale;
+
+/**
+ * 지표 파라미터
+ * 요청 형식: {@code sma:20}, {@code ema:12}, {@code bollinger:20}, {@code bollinger:20:2.5}, {@code volatility:20}
+ * @param period 이동 구간 일수
+ * @param multiplier 볼린저 밴드 표준편차 배수 (그 외 지표는 0)
+ */
+public record IndicatorSpec(
+    IndicatorType type,
+    int period,
+    double multiplier
+) {
+    public static final int MIN_PERIOD = 2;
+    public static final int MAX_PERIOD = 250;
+
+    private static final double DEFAULT_BOLLINGER_MULTIPLIER = 2.0;
+    private static final double MAX_BOLLINGER_MULTIPLIER = 5.0;
+
+    public IndicatorSpec {
+        if (type == null) {
+            throw new IllegalArgumentException("Indicator type cannot be null");
+        }
+        if (period < MIN_PERIOD || period > MAX_PERIOD) {
+            throw new IllegalArgumentException(
+                "Indicator period must be between " + MIN_PERIOD + " and " + MAX_PERIOD);
+        }
+        if (type == IndicatorType.BOLLINGER) {
+            if (!(multiplier > 0 && multiplier <= MAX_BOLLINGER_MULTIPLIER)) {
+                throw new IllegalArgumentException(
+                    "Bollinger multiplier must be greater than 0 and at most " + MAX_BOLLINGER_MULTIPLIER);
+            }
+        } else if (multiplier != 0) {
+            throw new IllegalArgumentException("Multiplier is only supported for BOLLINGER");
+        }
+    }
+
+    public static IndicatorSpec parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Indicator cannot be empty");
+        }
+
+        String[] parts = value.trim().split(":");
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("Invalid indicator format: " + value);
+        }
+
+        try {
+            IndicatorType type = IndicatorType.valueOf(parts[0].toUpperCase(Locale.ROOT));
+            int period = Integer.parseInt(parts[1]);
+            double multiplier = 0;
+            if (type == IndicatorType.BOLLINGER) {
+                multiplier = parts.length == 3 ? Double.parseDouble(parts[2]) : DEFAULT_BOLLINGER_MULTIPLIER;
+            } else if (parts.length == 3) {
+                throw new IllegalArgumentException("Multiplier is only supported for BOLLINGER: " + value);
+            }
+            return new IndicatorSpec(type, period, multiplier);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid indicator format: " + value);
+        }
+    }
+
+    /**
+     * 응답 표시명 (예: SMA(20), BOLLINGER(20,2.0))
+     */
+    public String label() {
+        if (type == IndicatorType.BOLLINGER) {
+            return type + "(" + period + "," + multiplier + ")";
+        }
+        return type + "(" + period + ")";
+    }
+
+    IndicatorCalculator newCalculator() {
+        return switch (type) {
+            case SMA -> new SmaCalculator(period);
+            case EMA -> new EmaCalculator(period);
+            case BOLLINGER -> new BollingerCalculator(period, multiplier);
+            case VOLATILITY -> new VolatilityCalculator(period);
+        };
+    }
+}
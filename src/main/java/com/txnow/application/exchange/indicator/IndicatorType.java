@@ -0,0 +1,23 @@
+package com.txnow.application.exchange.indicator;
+
+/**
+ * 차트 보조 지표 종류
+ */
+public enum IndicatorType {
+    /**
+     * 단순 이동평균
+     */
+    SMA,
+    /**
+     * 지수 이동평균 (첫 값은 SMA 로 시작)
+     */
+    EMA,
+    /**
+     * 볼린저 밴드 (SMA ± k × 모표준편차)
+     */
+    BOLLINGER,
+    /**
+     * 일별 로그 수익률 표본표준편차의 연율화 값 (%, 연 252 영업일)
+     */
+    VOLATILITY
+}
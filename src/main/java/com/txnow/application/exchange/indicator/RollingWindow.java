@@ -0,0 +1,58 @@
+package com.txnow.application.exchange.indicator;
+
+/**
+ * 고정 길이 ring buffer 와 구간 합계/제곱합 (고정소수점 환율)
+ */
+final class RollingWindow {
+
+    private final long[] values;
+    private int next;
+    private int count;
+    private long sum;
+    private long sumOfSquares;
+
+    RollingWindow(int length) {
+        this.values = new long[length];
+    }
+
+    /**
+     * @throws ArithmeticException 합계 또는 제곱합 overflow (상태는 변경되지 않음)
+     */
+    void add(long value) {
+        boolean full = count == values.length;
+        long removed = full ? values[next] : 0;
+        long nextSum = Math.addExact(Math.subtractExact(sum, removed), value);
+        long nextSumOfSquares = Math.addExact(
+            Math.subtractExact(sumOfSquares, Math.multiplyExact(removed, removed)),
+            Math.multiplyExact(value, value));
+
+        if (!full) {
+            count++;
+        }
+        values[next] = value;
+        sum = nextSum;
+        sumOfSquares = nextSumOfSquares;
+        next = next + 1 == values.length ? 0 : next + 1;
+    }
+
+    boolean isFull() {
+        return count == values.length;
+    }
+
+    int length() {
+        return values.length;
+    }
+
+    long sum() {
+        return sum;
+    }
+
+    /**
+     * 모분산 (scale 제곱 단위)
+     */
+    double variance() {
+        double mean = (double) sum / count;
+        double variance = (double) sumOfSquares / count - mean * mean;
+        return Math.max(variance, 0);
+    }
+}
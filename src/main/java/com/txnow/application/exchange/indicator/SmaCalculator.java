@@ -0,0 +1,29 @@
+package com.txnow.application.exchange.indicator;
+
+import com.txnow.domain.exchange.model.ExchangeRateCalculator;
+import com.txnow.domain.exchange.model.FixedPoint;
+
+/**
+ * 단순 이동평균 (HALF_UP)
+ */
+final class SmaCalculator implements IndicatorCalculator {
+
+    private final RollingWindow window;
+
+    SmaCalculator(int period) {
+        this.window = new RollingWindow(period);
+    }
+
+    @Override
+    public void add(int epochDay, long scaledRate, IndicatorSeries series) {
+        window.add(scaledRate);
+        if (window.isFull()) {
+            series.appendValue(epochDay, ExchangeRateCalculator.calculateAverage(window.sum(), window.length()));
+        }
+    }
+
+    @Override
+    public int scale() {
+        return FixedPoint.RATE_SCALE;
+    }
+}
@@ -0,0 +1,58 @@
+package com.txnow.application.exchange.indicator;
+
+import com.txnow.domain.exchange.model.FixedPoint;
+
+/**
+ * 연율화 변동성 (%)
+ * 최근 period 개 일별 로그 수익률의 표본표준편차 × sqrt(252) × 100
+ */
+final class VolatilityCalculator implements IndicatorCalculator {
+
+    private static final double TRADING_DAYS_PER_YEAR = 252;
+    private static final double PERCENT_UNIT = 100 * FixedPoint.pow10(FixedPoint.PERCENT_SCALE);
+
+    private final double[] returns;
+    private int next;
+    private int count;
+    private double sum;
+    private double sumOfSquares;
+    private long previousRate;
+
+    VolatilityCalculator(int period) {
+        this.returns = new double[period];
+    }
+
+    @Override
+    public void add(int epochDay, long scaledRate, IndicatorSeries series) {
+        long previous = previousRate;
+        previousRate = scaledRate;
+        if (previous == 0) {
+            return;
+        }
+
+        double logReturn = Math.log((double) scaledRate / previous);
+        if (count == returns.length) {
+            double removed = returns[next];
+            sum -= removed;
+            sumOfSquares -= removed * removed;
+        } else {
+            count++;
+        }
+        returns[next] = logReturn;
+        sum += logReturn;
+        sumOfSquares += logReturn * logReturn;
+        next = next + 1 == returns.length ? 0 : next + 1;
+
+        if (count < returns.length) {
+            return;
+        }
+
+        double variance = Math.max((sumOfSquares - sum * sum / count) / (count - 1), 0);
+        series.appendValue(epochDay, Math.round(Math.sqrt(variance * TRADING_DAYS_PER_YEAR) * PERCENT_UNIT));
+    }
+
+    @Override
+    public int scale() {
+        return FixedPoint.PERCENT_SCALE;
+    }
+}
@@ -0,0 +1,18 @@
+package com.txnow.domain.alert.exception;
+
+/**
+ * 알림을 찾을 수 없을 때 발생하는 예외 (다른 클라이언트의 알림 포함)
+ */
+public class RateAlertNotFoundException extends RuntimeException {
+
+    private final Long alertId;
+
+    public RateAlertNotFoundException(Long alertId) {
+        super("Rate alert not found: " + alertId);
+        this.alertId = alertId;
+    }
+
+    public Long getAlertId() {
+        return alertId;
+    }
+}
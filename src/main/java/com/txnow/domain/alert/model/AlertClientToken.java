@@ -0,0 +1,57 @@
+package com.txnow.domain.alert.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 환율 알림 클라이언트 토큰
+ * 첫 알림 등록 시 서버가 발급하고, 이후 알림 등록/조회/삭제와 WebSocket register 에 사용한다.
+ * 토큰 원문은 저장하지 않고 SHA-256 해시(hex 64자)를 알림 소유자(clientId)로 저장한다.
+ */
+public final class AlertClientToken {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int TOKEN_LENGTH = 43;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private AlertClientToken() {
+    }
+
+    /**
+     * 새 토큰 발급 (32 byte 난수, base64url)
+     */
+    public static String issue() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * 토큰 → 알림 소유자 식별자 (SHA-256 hex)
+     *
+     * @throws IllegalArgumentException 발급 형식이 아닌 토큰
+     */
+    public static String clientIdOf(String token) {
+        if (token == null || token.length() != TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Invalid alert token");
+        }
+        try {
+            DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid alert token");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
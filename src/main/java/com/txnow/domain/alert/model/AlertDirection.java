@@ -0,0 +1,11 @@
+package com.txnow.domain.alert.model;
+
+/**
+ * 알림 방향
+ * - ABOVE: 환율이 기준값 이상이 되면 알림
+ * - BELOW: 환율이 기준값 이하가 되면 알림
+ */
+public enum AlertDirection {
+    ABOVE,
+    BELOW
+}
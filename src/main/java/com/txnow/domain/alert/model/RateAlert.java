@@ -0,0 +1,53 @@
+package com.txnow.domain.alert.model;
+
+import com.txnow.domain.exchange.model.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 환율 알림 Domain Entity (Pure POJO)
+ * 기준값을 넘으면 1회 발송 후 비활성화(triggeredAt 기록)된다.
+ */
+@Getter
+public class RateAlert {
+
+    private final Long id;
+    private final String clientId;
+    private final Currency currency;
+    private final AlertDirection direction;
+    private final BigDecimal thresholdRate;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime triggeredAt;
+    private final BigDecimal triggeredRate;
+
+    @Builder
+    public RateAlert(Long id, String clientId, Currency currency, AlertDirection direction,
+                     BigDecimal thresholdRate, LocalDateTime createdAt,
+                     LocalDateTime triggeredAt, BigDecimal triggeredRate) {
+        Objects.requireNonNull(clientId, "Client id cannot be null");
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        Objects.requireNonNull(direction, "Direction cannot be null");
+        Objects.requireNonNull(thresholdRate, "Threshold rate cannot be null");
+        Objects.requireNonNull(createdAt, "Created time cannot be null");
+
+        if (thresholdRate.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Threshold rate must be positive");
+        }
+
+        this.id = id;
+        this.clientId = clientId;
+        this.currency = currency;
+        this.direction = direction;
+        this.thresholdRate = thresholdRate;
+        this.createdAt = createdAt;
+        this.triggeredAt = triggeredAt;
+        this.triggeredRate = triggeredRate;
+    }
+
+    public boolean isActive() {
+        return triggeredAt == null;
+    }
+}
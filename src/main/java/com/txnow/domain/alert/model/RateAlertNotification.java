@@ -0,0 +1,32 @@
+package com.txnow.domain.alert.model;
+
+import com.txnow.domain.exchange.model.Currency;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 알림 발송 내용
+ * @param rate 알림을 발생시킨 환율
+ * @param date 환율 기준일
+ */
+public record RateAlertNotification(
+    long alertId,
+    String clientId,
+    Currency currency,
+    AlertDirection direction,
+    BigDecimal thresholdRate,
+    BigDecimal rate,
+    LocalDate date
+) {
+    public static RateAlertNotification of(RateAlert alert, BigDecimal rate, LocalDate date) {
+        return new RateAlertNotification(
+            alert.getId(),
+            alert.getClientId(),
+            alert.getCurrency(),
+            alert.getDirection(),
+            alert.getThresholdRate(),
+            rate,
+            date
+        );
+    }
+}
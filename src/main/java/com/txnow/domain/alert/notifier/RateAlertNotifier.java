@@ -0,0 +1,12 @@
+package com.txnow.domain.alert.notifier;
+
+import com.txnow.domain.alert.model.RateAlertNotification;
+import java.util.List;
+
+/**
+ * 알림 발송 채널
+ */
+public interface RateAlertNotifier {
+
+    void notify(List<RateAlertNotification> notifications);
+}
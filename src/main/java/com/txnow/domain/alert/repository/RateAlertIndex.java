@@ -0,0 +1,27 @@
+package com.txnow.domain.alert.repository;
+
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.exchange.model.Currency;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 통화/방향별 활성 알림 기준값 정렬 인덱스
+ * 새 환율이 들어오면 기준값을 넘은 구간만 O(log n + k) 로 조회한다.
+ */
+public interface RateAlertIndex {
+
+    void add(RateAlert alert);
+
+    void addAll(Collection<RateAlert> alerts);
+
+    void remove(RateAlert alert);
+
+    /**
+     * 환율 rate 로 발생한 알림 id 를 최대 limit 개 꺼냄 (꺼낸 알림은 인덱스에서 제거)
+     * 여러 노드가 동시에 호출해도 같은 알림은 한 번만 반환한다.
+     */
+    List<Long> pollTriggered(Currency currency, AlertDirection direction, BigDecimal rate, int limit);
+}
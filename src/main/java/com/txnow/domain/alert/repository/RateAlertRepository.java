@@ -0,0 +1,39 @@
+package com.txnow.domain.alert.repository;
+
+import com.txnow.domain.alert.model.RateAlert;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RateAlertRepository {
+
+    /**
+     * 알림 저장
+     * @return id 가 할당된 알림
+     */
+    RateAlert save(RateAlert alert);
+
+    Optional<RateAlert> findById(Long id);
+
+    List<RateAlert> findAllById(Collection<Long> ids);
+
+    /**
+     * 클라이언트 알림 목록 (최근 생성순)
+     */
+    List<RateAlert> findByClientId(String clientId);
+
+    /**
+     * 활성 알림을 id 순으로 limit 개 조회 (afterId 초과, 인덱스 재구성용 keyset 페이지)
+     */
+    List<RateAlert> findActive(long afterId, int limit);
+
+    /**
+     * 아직 발송되지 않은 알림만 발송 처리
+     * @return 발송 처리된 알림 수
+     */
+    int markTriggered(Collection<Long> ids, BigDecimal triggeredRate, LocalDateTime triggeredAt);
+
+    void deleteById(Long id);
+}
@@ -0,0 +1,17 @@
+package com.txnow.domain.exchange.event;
+
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+
+import java.util.Objects;
+
+/**
+ * 새 버전의 현재 환율 스냅샷이 공개되었을 때 발행되는 이벤트
+ * 환율 저장 이벤트 반영, Provider 현재 환율 주기 갱신 시 발행
+ */
+public record ExchangeRateSnapshotPublishedEvent(
+    ExchangeRateSnapshot snapshot
+) {
+    public ExchangeRateSnapshotPublishedEvent {
+        Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+    }
+}
@@ -0,0 +1,23 @@
+package com.txnow.domain.exchange.event;
+
+import com.txnow.domain.exchange.model.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 새 환율이 저장되었을 때 발행되는 이벤트
+ * 스케줄러 일일 동기화, Provider 의 BOK API 조회 결과 저장 시 발행
+ */
+public record ExchangeRateUpdatedEvent(
+    Currency currency,
+    LocalDate date,
+    BigDecimal rate
+) {
+    public ExchangeRateUpdatedEvent {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        Objects.requireNonNull(date, "Date cannot be null");
+        Objects.requireNonNull(rate, "Rate cannot be null");
+    }
+}
@@ -0,0 +1,20 @@
+package com.txnow.domain.exchange.exception;
+
+/**
+ * 분석 구간을 채울 만큼 환율 이력이 쌓이지 않았을 때 발생하는 예외
+ * 특정 통화가 아닌 전체 통화 공통 일자 수가 부족한 경우
+ */
+public class InsufficientRateHistoryException extends ExchangeRateException {
+
+    private final int windowDays;
+
+    public InsufficientRateHistoryException(int windowDays) {
+        super("INSUFFICIENT_RATE_HISTORY",
+              "Not enough rate history for correlation window: " + windowDays + " days");
+        this.windowDays = windowDays;
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+}
@@ -0,0 +1,64 @@
+package com.txnow.domain.exchange.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 캔들(OHLC) 집계 단위 (달력 기준)
+ * - WEEK: 월요일 시작 (ISO-8601)
+ * - MONTH: 매월 1일 시작
+ * - YEAR: 매년 1월 1일 시작
+ */
+public enum CandleInterval {
+    WEEK {
+        @Override
+        public LocalDate bucketStart(LocalDate date) {
+            return date.with(DayOfWeek.MONDAY);
+        }
+
+        @Override
+        public LocalDate nextBucketStart(LocalDate bucketStart) {
+            return bucketStart.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate bucketStart(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate nextBucketStart(LocalDate bucketStart) {
+            return bucketStart.plusMonths(1);
+        }
+    },
+    YEAR {
+        @Override
+        public LocalDate bucketStart(LocalDate date) {
+            return date.withDayOfYear(1);
+        }
+
+        @Override
+        public LocalDate nextBucketStart(LocalDate bucketStart) {
+            return bucketStart.plusYears(1);
+        }
+    };
+
+    /**
+     * date 가 속한 구간의 시작일
+     */
+    public abstract LocalDate bucketStart(LocalDate date);
+
+    /**
+     * 다음 구간의 시작일
+     * @param bucketStart {@link #bucketStart(LocalDate)} 로 구한 구간 시작일
+     */
+    public abstract LocalDate nextBucketStart(LocalDate bucketStart);
+
+    /**
+     * date 가 속한 구간의 마지막 일자
+     */
+    public LocalDate bucketEnd(LocalDate date) {
+        return nextBucketStart(bucketStart(date)).minusDays(1);
+    }
+}
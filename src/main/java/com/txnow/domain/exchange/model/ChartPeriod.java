@@ -0,0 +1,48 @@
+package com.txnow.domain.exchange.model;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * 차트 기간 프리셋
+ * 종료일(통화의 최근 데이터 일자)로부터 고정 길이 구간으로 정규화되어, 같은 프리셋 요청은 같은 구간을 조회한다.
+ */
+public enum ChartPeriod {
+    ONE_DAY("1d", Period.ofDays(1)),
+    ONE_WEEK("1w", Period.ofWeeks(1)),
+    ONE_MONTH("1m", Period.ofMonths(1)),
+    THREE_MONTHS("3m", Period.ofMonths(3)),
+    ONE_YEAR("1y", Period.ofYears(1)),
+    FIVE_YEARS("5y", Period.ofYears(5));
+
+    private final String code;
+    private final Period length;
+
+    ChartPeriod(String code, Period length) {
+        this.code = code;
+        this.length = length;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    /**
+     * endDate 까지의 구간 시작일
+     */
+    public LocalDate startDate(LocalDate endDate) {
+        return endDate.minus(length);
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 코드인 경우
+     */
+    public static ChartPeriod fromCode(String code) {
+        for (ChartPeriod period : values()) {
+            if (period.code.equalsIgnoreCase(code)) {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported chart period: " + code);
+    }
+}
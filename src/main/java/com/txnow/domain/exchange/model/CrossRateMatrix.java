@@ -0,0 +1,119 @@
+package com.txnow.domain.exchange.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 통화 간 교차 환율 행렬 (불변, KRW 기준 삼각 환산)
+ * - X → KRW: 1 X 당 KRW 환율 그대로
+ * - KRW → Y, X → Y: KRW 환율 비율 (소수점 {@link #CROSS_RATE_SCALE}자리 HALF_UP)
+ * 변환 시 행렬 조회 1회로 환율을 얻는다.
+ */
+public final class CrossRateMatrix {
+
+    /**
+     * KRW 외 통화 간 교차 환율 scale
+     */
+    public static final int CROSS_RATE_SCALE = 10;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int SIZE = CURRENCIES.length;
+
+    private static final CrossRateMatrix EMPTY = new CrossRateMatrix(new EnumMap<>(Currency.class), new EnumMap<>(Currency.class));
+
+    /**
+     * rates[from.ordinal() * SIZE + to.ordinal()] = 1 from 당 to 환율 (환율이 없으면 null)
+     */
+    private final BigDecimal[] rates;
+    private final Map<Currency, BigDecimal> krwRates;
+    private final Map<Currency, LocalDate> rateDates;
+
+    private CrossRateMatrix(Map<Currency, BigDecimal> krwRates, Map<Currency, LocalDate> rateDates) {
+        this.krwRates = krwRates;
+        this.rateDates = rateDates;
+        this.rates = new BigDecimal[SIZE * SIZE];
+
+        for (Currency from : CURRENCIES) {
+            BigDecimal fromRate = krwRate(from);
+            if (fromRate == null) {
+                continue;
+            }
+            for (Currency to : CURRENCIES) {
+                BigDecimal toRate = krwRate(to);
+                if (toRate == null) {
+                    continue;
+                }
+                rates[from.ordinal() * SIZE + to.ordinal()] = crossRate(from, fromRate, to, toRate);
+            }
+        }
+    }
+
+    public static CrossRateMatrix empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 특정 통화의 KRW 환율을 반영한 새 행렬 - O(N²)
+     * @param currency KRW 외 통화
+     * @param krwRate 1 통화당 KRW 환율
+     * @param rateDate 환율 기준일
+     */
+    public CrossRateMatrix withKrwRate(Currency currency, BigDecimal krwRate, LocalDate rateDate) {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        Objects.requireNonNull(krwRate, "Rate cannot be null");
+        Objects.requireNonNull(rateDate, "Rate date cannot be null");
+        if (currency == Currency.KRW) {
+            throw new IllegalArgumentException("KRW rate is fixed to 1");
+        }
+        if (krwRate.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+
+        Map<Currency, BigDecimal> updatedRates = new EnumMap<>(Currency.class);
+        updatedRates.putAll(krwRates);
+        updatedRates.put(currency, krwRate);
+
+        Map<Currency, LocalDate> updatedDates = new EnumMap<>(Currency.class);
+        updatedDates.putAll(rateDates);
+        updatedDates.put(currency, rateDate);
+
+        return new CrossRateMatrix(updatedRates, updatedDates);
+    }
+
+    /**
+     * 1 from 당 to 환율 - O(1)
+     * @return 두 통화 중 KRW 환율이 없는 통화가 있으면 empty
+     */
+    public Optional<BigDecimal> rate(Currency from, Currency to) {
+        return Optional.ofNullable(rates[from.ordinal() * SIZE + to.ordinal()]);
+    }
+
+    /**
+     * 통화의 KRW 환율 기준일 (KRW 또는 환율이 없으면 empty)
+     */
+    public Optional<LocalDate> rateDate(Currency currency) {
+        return Optional.ofNullable(rateDates.get(currency));
+    }
+
+    private BigDecimal krwRate(Currency currency) {
+        if (currency == Currency.KRW) {
+            return BigDecimal.ONE;
+        }
+        return krwRates.get(currency);
+    }
+
+    private static BigDecimal crossRate(Currency from, BigDecimal fromRate, Currency to, BigDecimal toRate) {
+        if (from == to) {
+            return BigDecimal.ONE;
+        }
+        if (to == Currency.KRW) {
+            return fromRate;
+        }
+        return fromRate.divide(toRate, CROSS_RATE_SCALE, RoundingMode.HALF_UP);
+    }
+}
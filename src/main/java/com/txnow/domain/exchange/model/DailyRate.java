@@ -2,7 +2,12 @@ package com.txnow.domain.exchange.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 public record DailyRate(
     LocalDate date,
@@ -16,4 +21,56 @@ public record DailyRate(
             throw new IllegalArgumentException("Rate must be positive");
         }
     }
+
+    /**
+     * 30분 단위 데이터를 일별로 집계 (하루의 마지막 데이터 사용)
+     * @return 일별 환율 리스트 (날짜 오름차순)
+     */
+    public static List<DailyRate> fromHistories(List<ExchangeRateHistory> historyList) {
+        return historyList.stream()
+            .collect(Collectors.groupingBy(
+                h -> h.getTimestamp().toLocalDate(),
+                Collectors.maxBy(Comparator.comparing(ExchangeRateHistory::getTimestamp))
+            ))
+            .entrySet().stream()
+            .filter(e -> e.getValue().isPresent())
+            .map(e -> new DailyRate(e.getKey(), e.getValue().get().getRate()))
+            .sorted(Comparator.comparing(DailyRate::date))
+            .toList();
+    }
+
+    /**
+     * 시간순 정렬된 이력을 읽으면서 일별로 집계 (하루의 마지막 데이터 사용, 한 번에 하루치만 보관)
+     * @param histories 시각 오름차순 환율 이력
+     * @return 일별 환율 (날짜 오름차순)
+     */
+    public static Iterator<DailyRate> fromSortedHistories(Iterator<ExchangeRateHistory> histories) {
+        return new Iterator<>() {
+            private ExchangeRateHistory pending = histories.hasNext() ? histories.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return pending != null;
+            }
+
+            @Override
+            public DailyRate next() {
+                if (pending == null) {
+                    throw new NoSuchElementException();
+                }
+                ExchangeRateHistory last = pending;
+                LocalDate date = last.getTimestamp().toLocalDate();
+                pending = null;
+                while (histories.hasNext()) {
+                    ExchangeRateHistory history = histories.next();
+                    if (!history.getTimestamp().toLocalDate().equals(date)) {
+                        pending = history;
+                        break;
+                    }
+                    last = history;
+                }
+                return new DailyRate(date, last.getRate());
+            }
+        };
+    }
 }
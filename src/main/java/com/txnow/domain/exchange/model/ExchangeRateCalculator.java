@@ -5,9 +5,19 @@ import java.math.RoundingMode;
 
 /**
  * 환율 계산 유틸리티 클래스
+ * long 오버로드는 {@link FixedPoint} 고정소수점 값을 받아 객체 할당 없이 계산하며,
+ * BigDecimal 버전과 동일한 HALF_UP 반올림 결과를 반환한다.
  */
 public final class ExchangeRateCalculator {
 
+    /**
+     * 변환 금액 scale
+     */
+    public static final int CONVERTED_AMOUNT_SCALE = 2;
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+    private static final long PERCENT_RATIO_UNIT = FixedPoint.pow10(FixedPoint.PERCENT_SCALE + 2);
+
     private ExchangeRateCalculator() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
@@ -19,7 +29,43 @@ public final class ExchangeRateCalculator {
      * @return 변환된 금액 (소수점 둘째 자리 반올림)
      */
     public static BigDecimal calculateConvertedAmount(BigDecimal amount, BigDecimal exchangeRate) {
-        return amount.multiply(exchangeRate).setScale(2, RoundingMode.HALF_UP);
+        return amount.multiply(exchangeRate).setScale(CONVERTED_AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 통화 단위 금액을 고정소수점으로 변환하여 계산합니다.
+     * 금액이 통화 소수점 자리수를 넘거나 long 범위를 벗어나면 BigDecimal 로 계산합니다.
+     * @param amount 변환할 금액
+     * @param currency 금액의 통화 (소수점 자리수 기준)
+     * @param exchangeRate 적용할 환율
+     * @return 변환된 금액 (소수점 둘째 자리 반올림)
+     */
+    public static BigDecimal calculateConvertedAmount(BigDecimal amount, Currency currency, BigDecimal exchangeRate) {
+        if (amount.scale() > currency.getDecimalPlaces() || !FixedPoint.isExactRate(exchangeRate)) {
+            return calculateConvertedAmount(amount, exchangeRate);
+        }
+
+        try {
+            long scaledAmount = FixedPoint.toScaledAmount(amount, currency);
+            long scaledRate = FixedPoint.toScaledRate(exchangeRate);
+            long converted = calculateConvertedAmount(scaledAmount, currency.getDecimalPlaces(), scaledRate);
+            return FixedPoint.toBigDecimal(converted, CONVERTED_AMOUNT_SCALE);
+        } catch (ArithmeticException e) {
+            return calculateConvertedAmount(amount, exchangeRate);
+        }
+    }
+
+    /**
+     * 고정소수점 금액 변환
+     * @param scaledAmount amountScale 기준 금액
+     * @param amountScale 금액 scale
+     * @param scaledRate {@link FixedPoint#RATE_SCALE} 기준 환율
+     * @return {@link #CONVERTED_AMOUNT_SCALE} 기준 변환 금액
+     * @throws ArithmeticException long 범위를 벗어나는 경우
+     */
+    public static long calculateConvertedAmount(long scaledAmount, int amountScale, long scaledRate) {
+        long product = Math.multiplyExact(scaledAmount, scaledRate);
+        return FixedPoint.rescale(product, amountScale + FixedPoint.RATE_SCALE, CONVERTED_AMOUNT_SCALE);
     }
 
     /**
@@ -35,7 +81,35 @@ public final class ExchangeRateCalculator {
 
         return currentRate.subtract(previousRate)
             .divide(previousRate, 4, RoundingMode.HALF_UP)
-            .multiply(new BigDecimal("100"))
-            .setScale(2, RoundingMode.HALF_UP);
+            .multiply(ONE_HUNDRED)
+            .setScale(FixedPoint.PERCENT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 고정소수점 환율 변동률
+     * 비율을 소수점 4자리로 반올림한 뒤 백분율로 환산하므로 BigDecimal 버전과 결과가 같습니다.
+     * @param currentRate {@link FixedPoint#RATE_SCALE} 기준 현재 환율
+     * @param previousRate {@link FixedPoint#RATE_SCALE} 기준 이전 환율
+     * @return {@link FixedPoint#PERCENT_SCALE} 기준 변동률 (백분율)
+     */
+    public static long calculateChangePercentage(long currentRate, long previousRate) {
+        if (previousRate == 0) {
+            return 0;
+        }
+
+        return FixedPoint.divideHalfUp(
+            Math.multiplyExact(currentRate - previousRate, PERCENT_RATIO_UNIT),
+            previousRate
+        );
+    }
+
+    /**
+     * 고정소수점 평균 환율
+     * @param scaledSum {@link FixedPoint#RATE_SCALE} 기준 환율 합계
+     * @param count 데이터 개수
+     * @return {@link FixedPoint#RATE_SCALE} 기준 평균 (HALF_UP)
+     */
+    public static long calculateAverage(long scaledSum, int count) {
+        return FixedPoint.divideHalfUp(scaledSum, count);
     }
-}
\ No newline at end of file
+}
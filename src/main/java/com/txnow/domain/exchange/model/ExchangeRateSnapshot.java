@@ -0,0 +1,51 @@
+package com.txnow.domain.exchange.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 전체 통화 현재 환율의 불변 스냅샷
+ * 환율이 바뀔 때마다 버전을 1 올린 새 스냅샷을 만들며, 같은 버전은 항상 같은 환율을 의미한다.
+ * @param version 스냅샷 버전 (0 은 환율이 없는 초기 스냅샷)
+ * @param matrix KRW 기준 교차 환율 행렬
+ * @param publishedAt 스냅샷 생성 시각
+ */
+public record ExchangeRateSnapshot(
+    long version,
+    CrossRateMatrix matrix,
+    LocalDateTime publishedAt
+) {
+    public ExchangeRateSnapshot {
+        Objects.requireNonNull(matrix, "Matrix cannot be null");
+        Objects.requireNonNull(publishedAt, "Published time cannot be null");
+    }
+
+    public static ExchangeRateSnapshot initial() {
+        return new ExchangeRateSnapshot(0, CrossRateMatrix.empty(), LocalDateTime.now());
+    }
+
+    /**
+     * 특정 통화의 KRW 환율을 반영한 다음 버전 스냅샷
+     */
+    public ExchangeRateSnapshot withKrwRate(Currency currency, BigDecimal krwRate, LocalDate rateDate) {
+        return new ExchangeRateSnapshot(
+            version + 1,
+            matrix.withKrwRate(currency, krwRate, rateDate),
+            LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 1 from 당 to 환율 - O(1)
+     */
+    public Optional<BigDecimal> rate(Currency from, Currency to) {
+        return matrix.rate(from, to);
+    }
+
+    public Optional<LocalDate> rateDate(Currency currency) {
+        return matrix.rateDate(currency);
+    }
+}
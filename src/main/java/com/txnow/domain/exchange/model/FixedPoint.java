@@ -0,0 +1,118 @@
+package com.txnow.domain.exchange.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * scaled long 기반 고정소수점 표현
+ * - 환율: 소수점 4자리 (exchange_rate_history.rate 컬럼 scale 과 동일)
+ * - 금액: 통화별 소수점 자리수 ({@link Currency#getDecimalPlaces()})
+ * 반올림은 모두 {@link RoundingMode#HALF_UP} 과 동일한 결과를 보장한다.
+ * BigDecimal 변환은 API 경계에서만 수행하고, 계산 경로에서는 long 만 사용한다.
+ */
+public final class FixedPoint {
+
+    /**
+     * 환율 scale (1 통화당 KRW, 소수점 4자리)
+     */
+    public static final int RATE_SCALE = 4;
+
+    /**
+     * 변동률(%) scale
+     */
+    public static final int PERCENT_SCALE = 2;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+
+    private FixedPoint() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 환율을 scale 4 고정소수점으로 변환 (소수점 4자리 초과분은 HALF_UP)
+     * @throws ArithmeticException long 범위를 벗어나는 경우
+     */
+    public static long toScaledRate(BigDecimal rate) {
+        if (rate.scale() <= RATE_SCALE) {
+            // 소수점 이동만으로 정수가 되므로 BigInteger 할당 없이 변환
+            return rate.movePointRight(RATE_SCALE).longValueExact();
+        }
+        return rate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 환율이 scale 4 고정소수점으로 손실 없이 표현 가능한지 확인
+     */
+    public static boolean isExactRate(BigDecimal rate) {
+        return rate.scale() <= RATE_SCALE && rate.precision() - rate.scale() <= 14;
+    }
+
+    /**
+     * 금액을 통화 소수점 자리수 기준 고정소수점으로 변환
+     * @throws ArithmeticException 통화 소수점 자리수를 초과하거나 long 범위를 벗어나는 경우
+     */
+    public static long toScaledAmount(BigDecimal amount, Currency currency) {
+        return amount.setScale(currency.getDecimalPlaces(), RoundingMode.UNNECESSARY)
+            .unscaledValue()
+            .longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long unscaled, int scale) {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * 정수 나눗셈 (HALF_UP, 0에서 먼 방향으로 반올림)
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        long absRemainder = Math.abs(remainder);
+        if (absRemainder >= Math.abs(divisor) - absRemainder) {
+            return (dividend ^ divisor) < 0 ? quotient - 1 : quotient + 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * scale 변경 (축소 시 HALF_UP)
+     * @throws ArithmeticException 확대 시 long 범위를 벗어나는 경우
+     */
+    public static long rescale(long unscaled, int fromScale, int toScale) {
+        if (fromScale == toScale) {
+            return unscaled;
+        }
+        if (toScale > fromScale) {
+            return Math.multiplyExact(unscaled, pow10(toScale - fromScale));
+        }
+        return divideHalfUp(unscaled, pow10(fromScale - toScale));
+    }
+
+    public static long pow10(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+}
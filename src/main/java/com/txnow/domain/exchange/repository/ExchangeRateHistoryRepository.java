@@ -5,6 +5,8 @@ import com.txnow.domain.exchange.model.ExchangeRateHistory;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public interface ExchangeRateHistoryRepository {
 
@@ -21,6 +23,19 @@ public interface ExchangeRateHistoryRepository {
         LocalDateTime endTime
     );
 
+    /**
+     * 특정 통화의 시간대별 환율 이력을 묶음 단위로 순차 조회 (전체 결과를 메모리에 올리지 않음)
+     * 스트림은 consumer 실행 중에만 유효하며, consumer 처리 중에는 DB 커넥션을 점유하지 않는다.
+     * @param consumer 시간순(오름차순) 환율 이력 스트림 처리
+     * @return consumer 결과
+     */
+    <R> R streamByCurrencyAndTimestampBetween(
+        Currency currency,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Function<Stream<ExchangeRateHistory>, R> consumer
+    );
+
     /**
      * 특정 통화의 특정 기간 내 가장 최근 환율 조회
      * @param currency 통화
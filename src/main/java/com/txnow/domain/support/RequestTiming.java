@@ -0,0 +1,114 @@
+package com.txnow.domain.support;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 계층별 처리 시간 기록 (Server-Timing 응답 헤더 / 요청 timing 로그용)
+ * 요청 스레드에 context 가 시작된 경우에만 기록하며, 없으면 ThreadLocal 조회 외 비용이 없다.
+ * 같은 요청의 다른 스레드(비동기 실행기)에서 수행된 작업은 기록되지 않는다.
+ */
+public final class RequestTiming {
+
+    /**
+     * 기록 단계 (Server-Timing metric 이름)
+     * 단계 구간이 겹치면 (예: 차트 변환 중 다음 묶음 DB 조회) 안쪽 단계 시간은 바깥 단계에서 제외한다.
+     */
+    public enum Stage {
+        REDIS,
+        DB,
+        BOK,
+        MAPPER;
+
+        public String code() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt;
+    private final long[] nanos = new long[STAGES.length];
+    private final int[] counts = new int[STAGES.length];
+    private Stage servedBy;
+    // 진행 중인 time() 구간 안에서 기록된 다른 단계 시간 (바깥 단계에서 제외)
+    private long nestedNanos;
+
+    private RequestTiming(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * 현재 스레드에 새 context 시작
+     */
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static void record(Stage stage, long elapsedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(stage, elapsedNanos);
+            timing.nestedNanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * 데이터를 반환한 계층 기록 (한 요청에서 여러 번 조회하면 가장 하위 계층)
+     */
+    public static void served(Stage stage) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && (timing.servedBy == null || timing.servedBy.ordinal() < stage.ordinal())) {
+            timing.servedBy = stage;
+        }
+    }
+
+    public static <T> T time(Stage stage, Supplier<T> work) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return work.get();
+        }
+
+        long outerNestedNanos = timing.nestedNanos;
+        timing.nestedNanos = 0;
+        long startedAt = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            timing.add(stage, elapsedNanos - timing.nestedNanos);
+            timing.nestedNanos = outerNestedNanos + elapsedNanos;
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    public long nanos(Stage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    public int count(Stage stage) {
+        return counts[stage.ordinal()];
+    }
+
+    /**
+     * @return Provider 계층 조회 없이 메모리(인덱스, 스냅샷, 로컬 캐시)에서 응답했으면 empty
+     */
+    public Optional<Stage> servedBy() {
+        return Optional.ofNullable(servedBy);
+    }
+
+    private void add(Stage stage, long elapsedNanos) {
+        nanos[stage.ordinal()] += elapsedNanos;
+        counts[stage.ordinal()]++;
+    }
+}
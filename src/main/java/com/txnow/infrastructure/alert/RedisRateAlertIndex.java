@@ -0,0 +1,91 @@
+package com.txnow.infrastructure.alert;
+
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.alert.repository.RateAlertIndex;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.FixedPoint;
+import com.txnow.infrastructure.cache.CacheKeyGenerator;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Sorted Set 기반 알림 기준값 인덱스
+ * 통화/방향별 ZSET 에 member = 알림 id, score = 고정소수점 기준 환율로 저장한다.
+ * - ABOVE: score <= 새 환율 구간, BELOW: score >= 새 환율 구간만 조회 (O(log n + k))
+ * - 조회와 제거를 Lua 스크립트로 한 번에 수행하여 여러 노드가 같은 알림을 중복으로 꺼내지 않는다.
+ * 고정소수점 환율(소수점 4자리)은 double 로 정확히 표현되므로 경계값 비교 오차가 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRateAlertIndex implements RateAlertIndex {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>("""
+        local ids = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[2], 'LIMIT', 0, ARGV[3])
+        if #ids > 0 then
+            redis.call('ZREM', KEYS[1], unpack(ids))
+        end
+        return ids
+        """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+
+    @Override
+    public void add(RateAlert alert) {
+        redisTemplate.opsForZSet().add(keyOf(alert.getCurrency(), alert.getDirection()),
+            String.valueOf(alert.getId()), scoreOf(alert.getThresholdRate()));
+    }
+
+    @Override
+    public void addAll(Collection<RateAlert> alerts) {
+        Map<String, Set<TypedTuple<String>>> tuplesByKey = new HashMap<>();
+        for (RateAlert alert : alerts) {
+            tuplesByKey.computeIfAbsent(keyOf(alert.getCurrency(), alert.getDirection()), key -> new HashSet<>())
+                .add(new DefaultTypedTuple<>(String.valueOf(alert.getId()), scoreOf(alert.getThresholdRate())));
+        }
+        tuplesByKey.forEach((key, tuples) -> redisTemplate.opsForZSet().add(key, tuples));
+    }
+
+    @Override
+    public void remove(RateAlert alert) {
+        redisTemplate.opsForZSet().remove(keyOf(alert.getCurrency(), alert.getDirection()),
+            String.valueOf(alert.getId()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> pollTriggered(Currency currency, AlertDirection direction, BigDecimal rate, int limit) {
+        String score = String.valueOf(FixedPoint.toScaledRate(rate));
+        String min = direction == AlertDirection.ABOVE ? "-inf" : score;
+        String max = direction == AlertDirection.ABOVE ? score : "+inf";
+
+        List<String> ids = redisTemplate.execute(POLL_SCRIPT, List.of(keyOf(currency, direction)),
+            min, max, String.valueOf(limit));
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    private String keyOf(Currency currency, AlertDirection direction) {
+        return cacheKeyGenerator.rateAlertIndexKey(currency.name(), direction.name());
+    }
+
+    private static double scoreOf(BigDecimal rate) {
+        return FixedPoint.toScaledRate(rate);
+    }
+}
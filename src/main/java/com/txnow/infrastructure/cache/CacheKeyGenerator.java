@@ -37,6 +37,14 @@ public class CacheKeyGenerator {
         return chartDataKey(currencyCode, period);
     }
 
+    /**
+     * 통화의 환율 히스토리/차트 키 SCAN 패턴
+     * 예: fxnow:chart:USD:*
+     */
+    public String exchangeRateHistoryKeyPattern(String currencyCode) {
+        return chartDataKey(currencyCode, "*");
+    }
+
     /**
      * BOK API Rate Limit Sorted Set 키
      * 예: fxnow:bok_api:rate_limit
@@ -44,4 +52,20 @@ public class CacheKeyGenerator {
     public String bokApiRateLimitKey() {
         return PREFIX + "bok_api:rate_limit";
     }
-}
\ No newline at end of file
+
+    /**
+     * 환율 알림 기준값 Sorted Set 키
+     * 예: fxnow:rate_alert:USD:ABOVE
+     */
+    public String rateAlertIndexKey(String currencyCode, String direction) {
+        return PREFIX + "rate_alert:" + currencyCode + ":" + direction;
+    }
+
+    /**
+     * 클라이언트 요청 쿼터 window 카운터 키
+     * 예: fxnow:quota:standard:ip-127.0.0.1:29150721
+     */
+    public String clientQuotaKey(String tier, String clientId, long window) {
+        return PREFIX + "quota:" + tier + ":" + clientId + ":" + window;
+    }
+}
@@ -0,0 +1,130 @@
+package com.txnow.infrastructure.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 실행기 설정
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리, @Scheduled 작업과 함께 가상 스레드로 실행한다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 여러 통화 환율 이력 동시 조회용 (Provider I/O)
+     * 크기가 고정된 풀과 큐를 사용하고, 큐가 가득 차면 호출 스레드에서 실행하여 요청 스레드에 부하를 되돌린다.
+     */
+    @Bean(name = "exchangeRateFetchExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor exchangeRateFetchExecutor(
+        @Value("${exchange-rate.fetch.pool-size:8}") int poolSize,
+        @Value("${exchange-rate.fetch.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("rate-fetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드: 작업마다 가상 스레드 생성
+     * 풀 크기 대신 동시 실행 수를 제한하여 DB 커넥션 풀/Redis 에 가는 부하를 제한한다. (초과 시 호출 스레드 대기)
+     */
+    @Bean(name = "exchangeRateFetchExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualExchangeRateFetchExecutor(
+        @Value("${exchange-rate.fetch.virtual-concurrency-limit:32}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("rate-fetch-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(10_000);
+        return executor;
+    }
+
+    /**
+     * 기간 프리셋 차트 캐시 재생성용 (동기화 후 통화별 재생성, 단일 스레드)
+     * 큐가 가득 차면 버린다: 누락된 항목은 조회 시 생성되고 다음 동기화에서 다시 재생성된다.
+     */
+    @Bean(name = "chartPeriodRefreshExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor chartPeriodRefreshExecutor(
+        @Value("${cache.chart-period.refresh-queue-capacity:100}") int queueCapacity
+    ) {
+        return singleWorkerDiscardingExecutor(queueCapacity, null);
+    }
+
+    /**
+     * 가상 스레드 모드: 같은 단일 작업자 + 버리기 정책을 가상 스레드 작업자로 실행
+     * SimpleAsyncTaskExecutor 의 동시 실행 제한은 제출 스레드(요청/스케줄러)를 대기시키므로 사용하지 않는다.
+     */
+    @Bean(name = "chartPeriodRefreshExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualChartPeriodRefreshExecutor(
+        @Value("${cache.chart-period.refresh-queue-capacity:100}") int queueCapacity
+    ) {
+        return singleWorkerDiscardingExecutor(queueCapacity, Thread.ofVirtual().name("chart-period-", 0).factory());
+    }
+
+    /**
+     * @param threadFactory null 이면 "chart-period-" 플랫폼 스레드
+     */
+    private static ThreadPoolTaskExecutor singleWorkerDiscardingExecutor(int queueCapacity, ThreadFactory threadFactory) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chart-period-");
+        executor.setThreadFactory(threadFactory);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 환율 알림 발송용 (발송 처리 DB 갱신 + 알림 채널 전달)
+     * 큐가 가득 차면 환율 갱신 이벤트 스레드에서 실행하여 알림을 버리지 않는다.
+     */
+    @Bean(name = "rateAlertNotifyExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor rateAlertNotifyExecutor(
+        @Value("${rate-alert.notify.pool-size:4}") int poolSize,
+        @Value("${rate-alert.notify.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("rate-alert-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "rateAlertNotifyExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualRateAlertNotifyExecutor(
+        @Value("${rate-alert.notify.virtual-concurrency-limit:16}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("rate-alert-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(10_000);
+        return executor;
+    }
+}
@@ -3,9 +3,11 @@ package com.txnow.infrastructure.config;
 import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
 import com.txnow.infrastructure.cache.CacheKeyGenerator;
 import com.txnow.infrastructure.external.bok.BokApiClient;
+import com.txnow.infrastructure.metrics.ProviderMetrics;
 import com.txnow.infrastructure.provider.CachedExchangeRateProvider;
 import com.txnow.infrastructure.provider.DatabaseExchangeRateProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -23,6 +25,8 @@ public class ExchangeRateProviderConfig {
     private final ExchangeRateHistoryRepository historyRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheKeyGenerator cacheKeyGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProviderMetrics providerMetrics;
 
     /**
      * L2 Cache: Database
@@ -31,7 +35,9 @@ public class ExchangeRateProviderConfig {
     public DatabaseExchangeRateProvider databaseExchangeRateProvider() {
         return new DatabaseExchangeRateProvider(
             bokApiClient,
-            historyRepository
+            historyRepository,
+            eventPublisher,
+            providerMetrics
         );
     }
 
@@ -46,7 +52,8 @@ public class ExchangeRateProviderConfig {
         return new CachedExchangeRateProvider(
             databaseProvider,
             redisTemplate,
-            cacheKeyGenerator
+            cacheKeyGenerator,
+            providerMetrics
         );
     }
 }
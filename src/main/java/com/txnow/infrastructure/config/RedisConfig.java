@@ -3,6 +3,8 @@ package com.txnow.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.txnow.domain.exchange.model.ChartPeriod;
+import com.txnow.infrastructure.jfr.JfrRedisSerializer;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -11,8 +13,10 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -37,8 +41,9 @@ public class RedisConfig {
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
 
-        // Value Serializer: JSON
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper());
+        // Value Serializer: JSON (JFR 직렬화 이벤트 기록)
+        RedisSerializer<Object> jsonSerializer =
+            new JfrRedisSerializer<>(new GenericJackson2JsonRedisSerializer(objectMapper()));
         template.setValueSerializer(jsonSerializer);
         template.setHashValueSerializer(jsonSerializer);
 
@@ -59,7 +64,7 @@ public class RedisConfig {
                 )
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer(objectMapper())
+                                new JfrRedisSerializer<>(new GenericJackson2JsonRedisSerializer(objectMapper()))
                         )
                 );
 
@@ -70,17 +75,18 @@ public class RedisConfig {
         cacheConfigurations.put("exchangeRates",
                 defaultConfig.entryTtl(Duration.ofHours(24)));
 
-        // 차트 1일: 5분
-        cacheConfigurations.put("chartData1d",
-                defaultConfig.entryTtl(Duration.ofMinutes(5)));
-
-        // 차트 1주: 30분
-        cacheConfigurations.put("chartData1w",
-                defaultConfig.entryTtl(Duration.ofMinutes(30)));
-
-        // 차트 1개월: 1시간
-        cacheConfigurations.put("chartData1m",
-                defaultConfig.entryTtl(Duration.ofHours(1)));
+        // 기간 프리셋 차트 (1d/1w/1m/3m/1y/5y): 동기화마다 다시 생성해 교체하므로
+        // TTL 은 주말/연휴 동안 갱신되지 않는 항목을 유지하고 사용하지 않는 키만 정리하는 용도
+        // 키는 CacheKeyGenerator.chartDataKey 그대로 사용하고, 값은 사용처에서 타입을 지정해 직렬화한 JSON
+        RedisCacheConfiguration chartDataConfig = defaultConfig
+                .entryTtl(Duration.ofDays(5))
+                .disableKeyPrefix()
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.byteArray())
+                );
+        for (ChartPeriod period : ChartPeriod.values()) {
+            cacheConfigurations.put(chartDataCacheName(period), chartDataConfig);
+        }
 
         // 통화 목록: 24시간
         cacheConfigurations.put("currencies",
@@ -92,6 +98,24 @@ public class RedisConfig {
                 .build();
     }
 
+    /**
+     * 기간 프리셋 차트 캐시 이름
+     * 예: chartData1w
+     */
+    public static String chartDataCacheName(ChartPeriod period) {
+        return "chartData" + period.code();
+    }
+
+    /**
+     * Redis pub/sub 수신 컨테이너 (노드 간 실시간 환율 전파)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     /**
      * Jackson ObjectMapper 설정
      * LocalDateTime 등의 Java 8 Time API 직렬화 지원
@@ -15,7 +15,7 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.cors.allowed-origins:http://localhost:3000}")
     private String[] allowedOrigins;
 
-    @Value("${app.cors.allowed-headers:Content-Type,Authorization,X-Requested-With}")
+    @Value("${app.cors.allowed-headers:Content-Type,Authorization,X-Requested-With,X-API-Key}")
     private String[] allowedHeaders;
 
     @Value("${app.cors.max-age:3600}")
@@ -5,40 +5,63 @@ import com.txnow.domain.exchange.exception.ExchangeRateUnavailableException;
 import com.txnow.domain.exchange.model.Currency;
 import com.txnow.domain.exchange.model.DailyRate;
 import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import com.txnow.infrastructure.jfr.BokApiCallEvent;
+import com.txnow.infrastructure.jfr.RateLimitPermitEvent;
+import com.txnow.infrastructure.metrics.ProviderLookup;
+import com.txnow.infrastructure.metrics.ProviderMetrics;
+import com.txnow.infrastructure.metrics.ProviderOperation;
+import com.txnow.infrastructure.metrics.ProviderResult;
+import com.txnow.infrastructure.metrics.ProviderTier;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
 public class BokApiClient implements ExchangeRateProvider {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String RESPONSE_BYTES_ATTRIBUTE = BokApiClient.class.getName() + ".responseBytes";
 
     private final String apiKey;
     private final String statCode;
+    private final Duration timeout;
     private final WebClient webClient;
     private final BokApiRateLimiter rateLimiter;
+    private final ProviderMetrics metrics;
 
     public BokApiClient(
         @Value("${bok.api.base-url}") String baseUrl,
         @Value("${bok.api.key}") String apiKey,
         @Value("${bok.api.stat-code}") String statCode,
-        BokApiRateLimiter rateLimiter
+        @Value("${bok.api.timeout:5s}") Duration timeout,
+        BokApiRateLimiter rateLimiter,
+        ProviderMetrics metrics
     ) {
         this.apiKey = apiKey;
         this.statCode = statCode;
+        this.timeout = timeout;
         this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
         this.webClient = WebClient.builder()
             .baseUrl(baseUrl)
+            .filter(BokApiClient::countResponseBytes)
             .build();
     }
 
@@ -52,18 +75,11 @@ public class BokApiClient implements ExchangeRateProvider {
         LocalDate today = LocalDate.now();
 
         // Rate limit check
-        rateLimiter.acquirePermit();
+        acquirePermit();
 
-        // API 호출
+        // API 호출 및 응답 검증
         String url = buildApiUrl(bokCode, today, today, 1);
-        BokApiResponse response = webClient.get()
-            .uri(url)
-            .retrieve()
-            .bodyToMono(BokApiResponse.class)
-            .block();
-
-        // 응답 검증
-        BokApiResponse validatedResponse = validateApiResponse(response, bokCode);
+        BokApiResponse validatedResponse = fetchAndValidate(url, currency, ProviderOperation.CURRENT);
         if (validatedResponse == null) {
             // INFO-200: 공휴일 등 정상적인 데이터 부재
             log.info("BOK API has no data for {} (holiday). Returning null for DB fallback.", currency);
@@ -86,20 +102,13 @@ public class BokApiClient implements ExchangeRateProvider {
         log.info("Fetching history from BOK API: {} from {} to {}", currency, startDate, endDate);
 
         // Rate limiting
-        rateLimiter.acquirePermit();
+        acquirePermit();
 
         // 날짜 범위로부터 데이터 개수 계산 (여유분 +10일)
         int count = (int) ChronoUnit.DAYS.between(startDate, endDate) + 10;
 
         String url = buildApiUrl(bokCode, startDate, endDate, count);
-        BokApiResponse response = webClient.get()
-            .uri(url)
-            .retrieve()
-            .bodyToMono(BokApiResponse.class)
-            .block();
-
-        // 응답 검증
-        BokApiResponse validatedResponse = validateApiResponse(response, bokCode);
+        BokApiResponse validatedResponse = fetchAndValidate(url, currency, ProviderOperation.HISTORY);
         if (validatedResponse == null) {
             // INFO-200: 데이터 없음 (차트 조회에서는 예외 발생)
             throw new ExchangeRateUnavailableException(
@@ -125,9 +134,95 @@ public class BokApiClient implements ExchangeRateProvider {
         }
 
         dailyRates.sort(Comparator.comparing(DailyRate::date));
+        metrics.recordPayload(ProviderTier.BOK, ProviderOperation.HISTORY, dailyRates.size());
         return dailyRates;
     }
 
+    /**
+     * Rate limit permit 확인 (확인 시간을 granted/rejected 로 기록)
+     */
+    private void acquirePermit() {
+        RateLimitPermitEvent event = new RateLimitPermitEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
+        boolean granted = false;
+        try {
+            rateLimiter.acquirePermit();
+            granted = true;
+        } finally {
+            metrics.recordPermitWait(granted, System.nanoTime() - startedAt);
+            event.end();
+            if (event.shouldCommit()) {
+                event.granted = granted;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * BOK API 호출 및 응답 검증 (호출 시간과 결과를 기록)
+     * @return null if INFO-200 (holiday, no data available)
+     */
+    private BokApiResponse fetchAndValidate(String url, Currency currency, ProviderOperation operation) {
+        ProviderLookup lookup = metrics.startLookup();
+        ProviderResult result = ProviderResult.ERROR;
+        try {
+            BokApiResponse validatedResponse = validateApiResponse(fetch(url, currency), currency.getBokCode());
+            result = validatedResponse != null ? ProviderResult.HIT : ProviderResult.MISS;
+            return validatedResponse;
+        } finally {
+            metrics.recordLookup(ProviderTier.BOK, operation, currency, result, lookup);
+        }
+    }
+
+    /**
+     * BOK API 호출 (bok.api.timeout 까지 대기)
+     * 가상 스레드 모드에서도 carrier 스레드를 점유하지 않도록 synchronized 없이 block 한다.
+     * 응답 크기는 요청 속성의 카운터로 받는다. ({@link #countResponseBytes})
+     */
+    private BokApiResponse fetch(String url, Currency currency) {
+        BokApiCallEvent event = new BokApiCallEvent();
+        event.begin();
+        AtomicLong responseBytes = new AtomicLong();
+        boolean timedOut = false;
+        try {
+            return webClient.get()
+                .uri(url)
+                .attribute(RESPONSE_BYTES_ATTRIBUTE, responseBytes)
+                .retrieve()
+                .bodyToMono(BokApiResponse.class)
+                .timeout(timeout)
+                .block();
+        } catch (RuntimeException e) {
+            if (!(Exceptions.unwrap(e) instanceof TimeoutException)) {
+                throw e;
+            }
+            timedOut = true;
+            log.error("BOK API timeout for {} after {}ms", currency, timeout.toMillis());
+            throw new ExchangeRateUnavailableException(currency, "BOK API timeout after " + timeout.toMillis() + "ms");
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.currency = currency.name();
+                event.responseBytes = responseBytes.get();
+                event.timedOut = timedOut;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 요청 속성에 카운터가 있으면 수신한 응답 본문 byte 수를 누적 (codec 변경 없이 DataBuffer 단위로 계산)
+     */
+    private static Mono<ClientResponse> countResponseBytes(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).map(response -> request.attribute(RESPONSE_BYTES_ATTRIBUTE)
+            .map(AtomicLong.class::cast)
+            .map(counter -> response.mutate()
+                .body(body -> body.doOnNext(buffer -> counter.addAndGet(buffer.readableByteCount())))
+                .build())
+            .orElse(response));
+    }
+
     private String buildApiUrl(String currencyCode, LocalDate startDate, LocalDate endDate,
         int count) {
         return String.format("/StatisticSearch/%s/json/kr/%d/%d/%s/D/%s/%s/%s",
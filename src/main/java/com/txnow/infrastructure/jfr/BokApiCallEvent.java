@@ -0,0 +1,30 @@
+package com.txnow.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 한국은행 API HTTP 호출 (응답 수신까지, 역직렬화 제외)
+ */
+@Name("com.txnow.BokApiCall")
+@Label("BOK API Call")
+@Description("HTTP round trip to the BOK StatisticSearch API")
+@Category({"FXNow", "Provider"})
+@StackTrace(false)
+public class BokApiCallEvent extends Event {
+
+    @Label("Currency")
+    public String currency;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+
+    @Label("Timed Out")
+    public boolean timedOut;
+}
@@ -0,0 +1,26 @@
+package com.txnow.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 차트 응답 변환 (ExchangeChartMapper 호출 단위, 스트리밍 변환은 응답 기록 시간 포함)
+ * {@link ChartMappingEventAspect} 가 기록한다.
+ */
+@Name("com.txnow.ChartMapping")
+@Label("Chart Mapping")
+@Description("Conversion of daily rates into a chart result")
+@Category({"FXNow", "Chart"})
+@StackTrace(false)
+public class ChartMappingEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Currency")
+    public String currency;
+}
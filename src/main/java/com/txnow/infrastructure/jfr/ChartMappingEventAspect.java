@@ -0,0 +1,42 @@
+package com.txnow.infrastructure.jfr;
+
+import com.txnow.domain.exchange.model.Currency;
+import java.util.Arrays;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 차트 응답 변환(ExchangeChartMapper 공개 메서드) 호출을 {@link ChartMappingEvent} 로 기록
+ * application 계층이 jdk.jfr 에 의존하지 않도록 호출 경계에서 기록한다.
+ * - operation: 변환 메서드 이름, currency: 첫 번째 통화 인자
+ */
+@Aspect
+@Component
+public class ChartMappingEventAspect {
+
+    @Around("execution(public * com.txnow.application.exchange.ExchangeChartMapper.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ChartMappingEvent event = new ChartMappingEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.currency = Arrays.stream(joinPoint.getArgs())
+                    .filter(Currency.class::isInstance)
+                    .map(arg -> ((Currency) arg).name())
+                    .findFirst()
+                    .orElse(null);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.txnow.infrastructure.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 실행 중인 JFR 기록을 .jfr 파일로 내려받는 관리용 endpoint (GET /actuator/jfr)
+ * 진행 중인 모든 기록의 스냅샷을 임시 파일로 dump 하여 응답하고, 요청이 끝나면 파일을 삭제한다.
+ * (전송 완료뿐 아니라 HEAD 요청, 중단된 다운로드, 오류 응답에서도 삭제)
+ * 기록은 JVM 옵션(-XX:StartFlightRecording)으로 시작하며, 실행 중인 기록이 없으면 404 로 응답한다.
+ * 노출하려면 management.endpoints.web.exposure.include 에 jfr 를 추가한다.
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        if (!FlightRecorder.isAvailable() || !hasRunningRecording()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+
+        Path file = Files.createTempFile("fxnow-", ".jfr");
+        deleteOnRequestCompletion(file);
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.dump(file);
+        }
+
+        log.info("JFR snapshot dumped: {} bytes", Files.size(file));
+        return new WebEndpointResponse<>(new FileSystemResource(file), WebEndpointResponse.STATUS_OK);
+    }
+
+    private static boolean hasRunningRecording() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+            .anyMatch(recording -> recording.getState() == RecordingState.RUNNING);
+    }
+
+    /**
+     * 요청 완료 시(응답 기록 후) 임시 파일 삭제, 요청 밖에서 호출되면 JVM 종료 시 삭제
+     */
+    private static void deleteOnRequestCompletion(Path file) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            file.toFile().deleteOnExit();
+            return;
+        }
+        attributes.registerDestructionCallback(
+            JfrRecordingEndpoint.class.getName() + "." + file.getFileName(),
+            () -> delete(file),
+            RequestAttributes.SCOPE_REQUEST
+        );
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete JFR snapshot {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.txnow.infrastructure.jfr;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis 값 serializer 에 JFR 이벤트({@link RedisSerializationEvent}) 기록을 추가하는 decorator
+ * 이벤트가 비활성화된 경우 begin/end 외 비용이 없다.
+ */
+public class JfrRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+
+    public JfrRedisSerializer(RedisSerializer<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        RedisSerializationEvent event = new RedisSerializationEvent();
+        event.begin();
+        byte[] bytes = delegate.serialize(value);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "serialize";
+            event.valueType = value == null ? null : value.getClass().getName();
+            event.bytes = bytes == null ? 0 : bytes.length;
+            event.commit();
+        }
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        RedisSerializationEvent event = new RedisSerializationEvent();
+        event.begin();
+        T value = delegate.deserialize(bytes);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "deserialize";
+            event.valueType = value == null ? null : value.getClass().getName();
+            event.bytes = bytes == null ? 0 : bytes.length;
+            event.commit();
+        }
+        return value;
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return delegate.getTargetType();
+    }
+}
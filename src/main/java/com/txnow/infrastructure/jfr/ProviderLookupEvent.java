@@ -0,0 +1,31 @@
+package com.txnow.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Provider Decorator Chain 계층 조회 (Redis / DB / BOK)
+ */
+@Name("com.txnow.ProviderLookup")
+@Label("Provider Lookup")
+@Description("Lookup in a single exchange rate provider tier")
+@Category({"FXNow", "Provider"})
+@StackTrace(false)
+public class ProviderLookupEvent extends Event {
+
+    @Label("Tier")
+    public String tier;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Currency")
+    public String currency;
+
+    @Label("Result")
+    public String result;
+}
@@ -0,0 +1,22 @@
+package com.txnow.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * BOK API rate limit permit 확인 (Redis Sorted Set 왕복)
+ */
+@Name("com.txnow.RateLimitPermit")
+@Label("Rate Limit Permit")
+@Description("BOK API rate limit check before a call")
+@Category({"FXNow", "Provider"})
+@StackTrace(false)
+public class RateLimitPermitEvent extends Event {
+
+    @Label("Granted")
+    public boolean granted;
+}
@@ -0,0 +1,30 @@
+package com.txnow.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Redis 값 JSON 직렬화/역직렬화
+ */
+@Name("com.txnow.RedisSerialization")
+@Label("Redis Serialization")
+@Description("JSON (de)serialization of a Redis value")
+@Category({"FXNow", "Redis"})
+@StackTrace(false)
+public class RedisSerializationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Value Type")
+    public String valueType;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,113 @@
+package com.txnow.infrastructure.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측 지연 시간 기반 적응형 동시 처리 한도 (gradient 알고리즘)
+ * - 장기 RTT(지수 이동 평균) 대비 최근 RTT 가 길어지면 한도를 줄이고, 같거나 짧으면 여유분(√limit)만큼 늘린다.
+ *   gradient = clamp(tolerance × 장기 RTT / 최근 RTT, 0.5, 1.0)
+ *   새 한도 = limit × gradient + √limit (smoothing 비율로 반영)
+ * - 한도의 절반도 사용하지 않는 동안은 지연 시간이 한도와 무관하므로 갱신하지 않는다.
+ * - 실패(5xx) 응답은 지연 시간 없이 빠르게 끝나도 한도를 일정 비율 줄인다.
+ * 획득은 잠금 없이 CAS 로 판정하고, 한도 갱신만 동기화한다.
+ */
+public final class GradientConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                "Invalid concurrency limits: initial=" + initialLimit + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 처리 슬롯 획득 시도
+     * @return 현재 한도만큼 처리 중이면 false (즉시 거절 대상)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 완료: 슬롯 반환 및 지연 시간으로 한도 갱신
+     * @param rttNanos 요청 처리 시간
+     * @param dropped 과부하/장애로 실패한 요청 여부
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inflight.getAndDecrement();
+        if (dropped) {
+            backoff();
+        } else {
+            onSample(rttNanos, current);
+        }
+    }
+
+    /**
+     * 처리 완료: 슬롯만 반환하고 한도는 갱신하지 않음
+     * 처리 시간이 서버 부하가 아니라 응답 크기/클라이언트 수신 속도에 비례하는 요청(스트리밍 응답)용
+     */
+    public void releaseUnsampled() {
+        inflight.decrementAndGet();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtCompletion) {
+        double shortRtt = Math.max(1, rttNanos);
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+        }
+
+        // 지연이 해소된 뒤 장기 RTT 가 과거 높은 값에 오래 머물지 않도록 빠르게 낮춘다
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inflightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    private synchronized void backoff() {
+        limit = clamp(limit * DROP_BACKOFF);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
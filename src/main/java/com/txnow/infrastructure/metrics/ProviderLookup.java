@@ -0,0 +1,35 @@
+package com.txnow.infrastructure.metrics;
+
+import com.txnow.infrastructure.jfr.ProviderLookupEvent;
+
+/**
+ * 진행 중인 계층 조회 (시작 시각 + JFR 이벤트)
+ * {@link ProviderMetrics#startLookup()} 로 시작하고 {@link ProviderMetrics#recordLookup} 로 종료한다.
+ */
+public final class ProviderLookup {
+
+    private final long startedAt;
+    private final ProviderLookupEvent event;
+
+    ProviderLookup() {
+        this.event = new ProviderLookupEvent();
+        this.event.begin();
+        this.startedAt = System.nanoTime();
+    }
+
+    /**
+     * @return 조회 시간
+     */
+    long finish(ProviderTier tier, ProviderOperation operation, String currency, ProviderResult result) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        event.end();
+        if (event.shouldCommit()) {
+            event.tier = tier.code();
+            event.operation = operation.code();
+            event.currency = currency;
+            event.result = result.code();
+            event.commit();
+        }
+        return elapsedNanos;
+    }
+}
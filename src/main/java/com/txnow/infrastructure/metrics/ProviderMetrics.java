@@ -0,0 +1,116 @@
+package com.txnow.infrastructure.metrics;
+
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.support.RequestTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provider Decorator Chain 계층별 메트릭 (actuator /actuator/prometheus 로 노출)
+ * - fxnow.provider.requests: tier/operation/currency/result 별 hit/miss/error 건수
+ * - fxnow.provider.latency: tier/operation 별 계층 자체 조회 시간 (하위 계층 위임 시간 제외, percentile histogram)
+ * - fxnow.provider.payload.points: tier/operation 별 반환 일별 환율 개수
+ * - fxnow.bok.permit.wait: BOK API 호출 전 rate limit permit 확인 시간 (granted/rejected)
+ * 모든 meter 는 생성 시 등록해 두고 배열 인덱스로 조회하므로, 조회 경로에서 태그 조합/registry 탐색이 없다.
+ * 조회 시간과 데이터를 반환한 계층은 요청 timing context({@link RequestTiming})와 JFR 이벤트에도 함께 기록한다.
+ * 분위수는 애플리케이션에서 계산하지 않고 histogram bucket 으로 노출한다 (Prometheus histogram_quantile 로 집계).
+ */
+@Component
+public class ProviderMetrics {
+
+    private static final ProviderTier[] TIERS = ProviderTier.values();
+    private static final ProviderOperation[] OPERATIONS = ProviderOperation.values();
+    private static final ProviderResult[] RESULTS = ProviderResult.values();
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final Counter[][][][] requests;
+    private final Timer[][] latencies;
+    private final DistributionSummary[][] payloadPoints;
+    private final Timer permitGranted;
+    private final Timer permitRejected;
+
+    public ProviderMetrics(MeterRegistry registry) {
+        this.requests = new Counter[TIERS.length][OPERATIONS.length][RESULTS.length][CURRENCIES.length];
+        this.latencies = new Timer[TIERS.length][OPERATIONS.length];
+        this.payloadPoints = new DistributionSummary[TIERS.length][OPERATIONS.length];
+
+        for (ProviderTier tier : TIERS) {
+            for (ProviderOperation operation : OPERATIONS) {
+                for (ProviderResult result : RESULTS) {
+                    for (Currency currency : CURRENCIES) {
+                        requests[tier.ordinal()][operation.ordinal()][result.ordinal()][currency.ordinal()] =
+                            Counter.builder("fxnow.provider.requests")
+                                .description("Exchange rate provider lookups by tier and result")
+                                .tag("tier", tier.code())
+                                .tag("operation", operation.code())
+                                .tag("result", result.code())
+                                .tag("currency", currency.name())
+                                .register(registry);
+                    }
+                }
+
+                latencies[tier.ordinal()][operation.ordinal()] = Timer.builder("fxnow.provider.latency")
+                    .description("Lookup latency of a single provider tier")
+                    .tag("tier", tier.code())
+                    .tag("operation", operation.code())
+                    .publishPercentileHistogram()
+                    .register(registry);
+
+                payloadPoints[tier.ordinal()][operation.ordinal()] = DistributionSummary.builder("fxnow.provider.payload.points")
+                    .description("Daily rates returned by a provider tier")
+                    .baseUnit("points")
+                    .tag("tier", tier.code())
+                    .tag("operation", operation.code())
+                    .publishPercentileHistogram()
+                    .register(registry);
+            }
+        }
+
+        this.permitGranted = permitTimer(registry, "granted");
+        this.permitRejected = permitTimer(registry, "rejected");
+    }
+
+    /**
+     * 계층 조회 시작 (조회 직전에 호출)
+     */
+    public ProviderLookup startLookup() {
+        return new ProviderLookup();
+    }
+
+    public void recordLookup(
+        ProviderTier tier,
+        ProviderOperation operation,
+        Currency currency,
+        ProviderResult result,
+        ProviderLookup lookup
+    ) {
+        long elapsedNanos = lookup.finish(tier, operation, currency.name(), result);
+        requests[tier.ordinal()][operation.ordinal()][result.ordinal()][currency.ordinal()].increment();
+        latencies[tier.ordinal()][operation.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        RequestTiming.record(tier.timingStage(), elapsedNanos);
+        if (result == ProviderResult.HIT) {
+            RequestTiming.served(tier.timingStage());
+        }
+    }
+
+    public void recordPayload(ProviderTier tier, ProviderOperation operation, int points) {
+        payloadPoints[tier.ordinal()][operation.ordinal()].record(points);
+    }
+
+    public void recordPermitWait(boolean granted, long elapsedNanos) {
+        (granted ? permitGranted : permitRejected).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer permitTimer(MeterRegistry registry, String result) {
+        return Timer.builder("fxnow.bok.permit.wait")
+            .description("Time spent checking the BOK API rate limit before a call")
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
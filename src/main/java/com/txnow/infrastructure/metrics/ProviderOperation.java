@@ -0,0 +1,13 @@
+package com.txnow.infrastructure.metrics;
+
+/**
+ * Provider 조회 종류 (메트릭 operation 태그)
+ */
+public enum ProviderOperation {
+    CURRENT,
+    HISTORY;
+
+    public String code() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,17 @@
+package com.txnow.infrastructure.metrics;
+
+/**
+ * 계층별 조회 결과 (메트릭 result 태그)
+ * - HIT: 해당 계층에서 데이터를 반환 (BOK 은 데이터 수신)
+ * - MISS: 해당 계층에 데이터가 없어 다음 계층으로 위임 (BOK 은 공휴일 등 데이터 없음)
+ * - ERROR: 조회 중 예외
+ */
+public enum ProviderResult {
+    HIT,
+    MISS,
+    ERROR;
+
+    public String code() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,26 @@
+package com.txnow.infrastructure.metrics;
+
+import com.txnow.domain.support.RequestTiming;
+
+/**
+ * ExchangeRateProvider Decorator Chain 계층 (메트릭 tier 태그)
+ */
+public enum ProviderTier {
+    REDIS(RequestTiming.Stage.REDIS),
+    DATABASE(RequestTiming.Stage.DB),
+    BOK(RequestTiming.Stage.BOK);
+
+    private final RequestTiming.Stage timingStage;
+
+    ProviderTier(RequestTiming.Stage timingStage) {
+        this.timingStage = timingStage;
+    }
+
+    public RequestTiming.Stage timingStage() {
+        return timingStage;
+    }
+
+    public String code() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,109 @@
+package com.txnow.infrastructure.persistence.entity;
+
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.exchange.model.Currency;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * RateAlert JPA Entity
+ * Infrastructure Layer에서 JPA 영속성을 담당
+ */
+@Entity
+@Table(name = "rate_alert", indexes = {
+    @Index(name = "idx_rate_alert_client_id", columnList = "client_id"),
+    @Index(name = "idx_rate_alert_triggered_at_id", columnList = "triggered_at,id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RateAlertJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 알림 등록 클라이언트 식별자
+     */
+    @Column(name = "client_id", nullable = false, length = 64)
+    private String clientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Currency currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AlertDirection direction;
+
+    /**
+     * 기준 환율 (1 통화당 KRW)
+     */
+    @Column(name = "threshold_rate", nullable = false, precision = 19, scale = 4)
+    private BigDecimal thresholdRate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 알림 발송 시각 (null 이면 활성 알림)
+     */
+    @Column(name = "triggered_at")
+    private LocalDateTime triggeredAt;
+
+    @Column(name = "triggered_rate", precision = 19, scale = 4)
+    private BigDecimal triggeredRate;
+
+    @Builder
+    public RateAlertJpaEntity(Long id, String clientId, Currency currency, AlertDirection direction,
+                              BigDecimal thresholdRate, LocalDateTime createdAt,
+                              LocalDateTime triggeredAt, BigDecimal triggeredRate) {
+        this.id = id;
+        this.clientId = clientId;
+        this.currency = currency;
+        this.direction = direction;
+        this.thresholdRate = thresholdRate;
+        this.createdAt = createdAt;
+        this.triggeredAt = triggeredAt;
+        this.triggeredRate = triggeredRate;
+    }
+
+    /**
+     * Domain Entity로 변환
+     */
+    public RateAlert toDomain() {
+        return RateAlert.builder()
+            .id(this.id)
+            .clientId(this.clientId)
+            .currency(this.currency)
+            .direction(this.direction)
+            .thresholdRate(this.thresholdRate)
+            .createdAt(this.createdAt)
+            .triggeredAt(this.triggeredAt)
+            .triggeredRate(this.triggeredRate)
+            .build();
+    }
+
+    /**
+     * Domain Entity로부터 JPA Entity 생성
+     */
+    public static RateAlertJpaEntity fromDomain(RateAlert domain) {
+        return RateAlertJpaEntity.builder()
+            .id(domain.getId())
+            .clientId(domain.getClientId())
+            .currency(domain.getCurrency())
+            .direction(domain.getDirection())
+            .thresholdRate(domain.getThresholdRate())
+            .createdAt(domain.getCreatedAt())
+            .triggeredAt(domain.getTriggeredAt())
+            .triggeredRate(domain.getTriggeredRate())
+            .build();
+    }
+}
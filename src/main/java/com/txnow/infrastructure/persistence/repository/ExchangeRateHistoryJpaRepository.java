@@ -2,7 +2,10 @@ package com.txnow.infrastructure.persistence.repository;
 
 import com.txnow.domain.exchange.model.Currency;
 import com.txnow.infrastructure.persistence.entity.ExchangeRateHistoryJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,6 +25,21 @@ public interface ExchangeRateHistoryJpaRepository extends JpaRepository<Exchange
         LocalDateTime endTime
     );
 
+    /**
+     * 특정 통화의 시간대별 환율 이력을 (timestamp, id) 이후부터 한 묶음 조회 (오름차순, keyset 페이지)
+     */
+    @Query("SELECT h FROM ExchangeRateHistoryJpaEntity h "
+        + "WHERE h.currency = :currency AND h.timestamp <= :endTime "
+        + "AND (h.timestamp > :afterTime OR (h.timestamp = :afterTime AND h.id > :afterId)) "
+        + "ORDER BY h.timestamp ASC, h.id ASC")
+    List<ExchangeRateHistoryJpaEntity> findChunkAfter(
+        @Param("currency") Currency currency,
+        @Param("afterTime") LocalDateTime afterTime,
+        @Param("afterId") Long afterId,
+        @Param("endTime") LocalDateTime endTime,
+        Pageable pageable
+    );
+
     /**
      * 특정 통화의 시간대별 환율 이력 조회 (내림차순, limit 1)
      */
@@ -3,13 +3,18 @@ package com.txnow.infrastructure.persistence.repository;
 import com.txnow.domain.exchange.model.Currency;
 import com.txnow.domain.exchange.model.ExchangeRateHistory;
 import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
+import com.txnow.domain.support.RequestTiming;
 import com.txnow.infrastructure.persistence.entity.ExchangeRateHistoryJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -17,6 +22,9 @@ public class ExchangeRateHistoryRepositoryImpl implements ExchangeRateHistoryRep
 
     private final ExchangeRateHistoryJpaRepository jpaRepository;
 
+    @Value("${exchange-rate.history.stream-chunk-size:1000}")
+    private int streamChunkSize;
+
     @Override
     public List<ExchangeRateHistory> findByCurrencyAndTimestampBetween(
         Currency currency,
@@ -30,6 +38,44 @@ public class ExchangeRateHistoryRepositoryImpl implements ExchangeRateHistoryRep
             .collect(Collectors.toList());
     }
 
+    /**
+     * (timestamp, id) keyset 으로 stream-chunk-size 행씩 나누어 조회하고, consumer 가 앞 묶음을 다 읽은 뒤 다음 묶음을 조회한다.
+     * 묶음 조회마다 커넥션을 반납하므로 consumer 가 느린 클라이언트에 기록하는 동안 커넥션/트랜잭션을 점유하지 않는다.
+     * 요청 timing 의 DB 시간은 묶음 조회 구간만 기록한다 (consumer 의 변환/응답 기록 시간 제외).
+     */
+    @Override
+    public <R> R streamByCurrencyAndTimestampBetween(
+        Currency currency,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Function<Stream<ExchangeRateHistory>, R> consumer
+    ) {
+        // 첫 묶음은 startTime 을 포함하도록 id 0 이후부터 조회
+        Stream<ExchangeRateHistory> histories = Stream.iterate(
+                findChunkAfter(currency, startTime, 0L, endTime),
+                chunk -> !chunk.isEmpty(),
+                chunk -> chunk.size() < streamChunkSize
+                    ? List.of()
+                    : findChunkAfter(currency, chunk.getLast().getTimestamp(), chunk.getLast().getId(), endTime))
+            .flatMap(List::stream)
+            .map(ExchangeRateHistoryJpaEntity::toDomain);
+        R result = consumer.apply(histories);
+        if (result != null) {
+            RequestTiming.served(RequestTiming.Stage.DB);
+        }
+        return result;
+    }
+
+    private List<ExchangeRateHistoryJpaEntity> findChunkAfter(
+        Currency currency,
+        LocalDateTime afterTime,
+        long afterId,
+        LocalDateTime endTime
+    ) {
+        return RequestTiming.time(RequestTiming.Stage.DB, () ->
+            jpaRepository.findChunkAfter(currency, afterTime, afterId, endTime, PageRequest.of(0, streamChunkSize)));
+    }
+
     @Override
     public ExchangeRateHistory findExchangeRateByTimestamp(
         Currency currency,
@@ -0,0 +1,39 @@
+package com.txnow.infrastructure.persistence.repository;
+
+import com.txnow.infrastructure.persistence.entity.RateAlertJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RateAlert JPA Repository
+ * Infrastructure Layer에서 JPA 영속성을 담당
+ */
+public interface RateAlertJpaRepository extends JpaRepository<RateAlertJpaEntity, Long> {
+
+    List<RateAlertJpaEntity> findByClientIdOrderByIdDesc(String clientId);
+
+    /**
+     * 활성 알림 id 순 조회 (keyset 페이지)
+     */
+    List<RateAlertJpaEntity> findByTriggeredAtIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 아직 발송되지 않은 알림만 발송 처리 (중복 발송 방지)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RateAlertJpaEntity a SET a.triggeredAt = :triggeredAt, a.triggeredRate = :triggeredRate "
+        + "WHERE a.id IN :ids AND a.triggeredAt IS NULL")
+    int markTriggered(
+        @Param("ids") Collection<Long> ids,
+        @Param("triggeredRate") BigDecimal triggeredRate,
+        @Param("triggeredAt") LocalDateTime triggeredAt
+    );
+}
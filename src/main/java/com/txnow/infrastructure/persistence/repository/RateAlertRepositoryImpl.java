@@ -0,0 +1,67 @@
+package com.txnow.infrastructure.persistence.repository;
+
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.alert.repository.RateAlertRepository;
+import com.txnow.infrastructure.persistence.entity.RateAlertJpaEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RateAlertRepositoryImpl implements RateAlertRepository {
+
+    private final RateAlertJpaRepository jpaRepository;
+
+    @Override
+    public RateAlert save(RateAlert alert) {
+        return jpaRepository.save(RateAlertJpaEntity.fromDomain(alert)).toDomain();
+    }
+
+    @Override
+    public Optional<RateAlert> findById(Long id) {
+        return jpaRepository.findById(id).map(RateAlertJpaEntity::toDomain);
+    }
+
+    @Override
+    public List<RateAlert> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids)
+            .stream()
+            .map(RateAlertJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<RateAlert> findByClientId(String clientId) {
+        return jpaRepository.findByClientIdOrderByIdDesc(clientId)
+            .stream()
+            .map(RateAlertJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<RateAlert> findActive(long afterId, int limit) {
+        return jpaRepository.findByTriggeredAtIsNullAndIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit))
+            .stream()
+            .map(RateAlertJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public int markTriggered(Collection<Long> ids, BigDecimal triggeredRate, LocalDateTime triggeredAt) {
+        return jpaRepository.markTriggered(ids, triggeredRate, triggeredAt);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jpaRepository.deleteById(id);
+    }
+}
@@ -1,16 +1,30 @@
 package com.txnow.infrastructure.provider;
 
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
 import com.txnow.domain.exchange.model.Currency;
 import com.txnow.domain.exchange.model.DailyRate;
 import com.txnow.domain.exchange.provider.ExchangeRateProvider;
 import com.txnow.infrastructure.cache.CacheKeyGenerator;
+import com.txnow.infrastructure.metrics.ProviderLookup;
+import com.txnow.infrastructure.metrics.ProviderMetrics;
+import com.txnow.infrastructure.metrics.ProviderOperation;
+import com.txnow.infrastructure.metrics.ProviderResult;
+import com.txnow.infrastructure.metrics.ProviderTier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -21,6 +35,7 @@ public class CachedExchangeRateProvider implements ExchangeRateProvider {
     private final ExchangeRateProvider delegate;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheKeyGenerator cacheKeyGenerator;
+    private final ProviderMetrics metrics;
 
     @Value("${cache.exchange-rate.ttl-seconds:86400}")
     private long ttlSeconds;
@@ -33,7 +48,18 @@ public class CachedExchangeRateProvider implements ExchangeRateProvider {
         }
 
         // L1: Redis 캐시 조회
-        BigDecimal cachedRate = getFromRedisCache(currency);
+        ProviderLookup lookup = metrics.startLookup();
+        BigDecimal cachedRate;
+        try {
+            cachedRate = getFromRedisCache(currency);
+        } catch (RuntimeException e) {
+            metrics.recordLookup(ProviderTier.REDIS, ProviderOperation.CURRENT, currency, ProviderResult.ERROR,
+                lookup);
+            throw e;
+        }
+        metrics.recordLookup(ProviderTier.REDIS, ProviderOperation.CURRENT, currency,
+            cachedRate != null ? ProviderResult.HIT : ProviderResult.MISS, lookup);
+
         if (cachedRate != null) {
             log.debug("Cache HIT (Redis): {}", currency);
             return cachedRate;
@@ -54,8 +80,14 @@ public class CachedExchangeRateProvider implements ExchangeRateProvider {
     public List<DailyRate> getExchangeRateHistory(Currency currency, LocalDate startDate, LocalDate endDate) {
         // L1: Redis 캐시 조회
         String dateRangeKey = startDate + "_" + endDate;
+        ProviderLookup lookup = metrics.startLookup();
         List<DailyRate> cachedHistory = getHistoryFromRedisCache(currency, dateRangeKey);
-        if (cachedHistory != null && !cachedHistory.isEmpty()) {
+        boolean hit = cachedHistory != null && !cachedHistory.isEmpty();
+        metrics.recordLookup(ProviderTier.REDIS, ProviderOperation.HISTORY, currency,
+            hit ? ProviderResult.HIT : ProviderResult.MISS, lookup);
+
+        if (hit) {
+            metrics.recordPayload(ProviderTier.REDIS, ProviderOperation.HISTORY, cachedHistory.size());
             log.debug("Cache HIT (Redis): {} - {} to {}", currency, startDate, endDate);
             return cachedHistory;
         }
@@ -71,6 +103,59 @@ public class CachedExchangeRateProvider implements ExchangeRateProvider {
         return history;
     }
 
+    /**
+     * 새 환율(보정 포함) 저장 시 해당 일자를 포함하는 히스토리 캐시와 당일 환율 캐시 제거
+     * 제거하지 않으면 TTL 동안 보정 전 이력이 Redis 에서 계속 조회된다.
+     * 인덱스 갱신 등 다른 리스너보다 먼저 실행하여 이후 재조회가 DB 에서 새 이력을 읽게 한다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExchangeRateUpdated(ExchangeRateUpdatedEvent event) {
+        try {
+            Currency currency = event.currency();
+            List<String> staleKeys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions()
+                .match(cacheKeyGenerator.exchangeRateHistoryKeyPattern(currency.name()))
+                .count(1000)
+                .build();
+            try (Cursor<String> keys = redisTemplate.scan(options)) {
+                keys.forEachRemaining(key -> {
+                    if (historyKeyContains(key, event.date())) {
+                        staleKeys.add(key);
+                    }
+                });
+            }
+            if (event.date().equals(LocalDate.now())) {
+                staleKeys.add(cacheKeyGenerator.exchangeRateKey(currency.name()));
+            }
+
+            if (!staleKeys.isEmpty()) {
+                redisTemplate.delete(staleKeys);
+                log.debug("Evicted Redis caches for {} {}: {}", currency, event.date(), staleKeys.size());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to evict Redis caches for {} {}: {}", event.currency(), event.date(), e.getMessage());
+        }
+    }
+
+    /**
+     * 히스토리 키(...:{startDate}_{endDate}) 구간이 date 를 포함하는지 확인
+     */
+    private static boolean historyKeyContains(String key, LocalDate date) {
+        String dateRange = key.substring(key.lastIndexOf(':') + 1);
+        int separator = dateRange.indexOf('_');
+        if (separator < 0) {
+            return false;
+        }
+        try {
+            LocalDate startDate = LocalDate.parse(dateRange.substring(0, separator));
+            LocalDate endDate = LocalDate.parse(dateRange.substring(separator + 1));
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
     /**
      * Redis에서 환율 조회
      */
@@ -1,17 +1,24 @@
 package com.txnow.infrastructure.provider;
 
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
 import com.txnow.domain.exchange.exception.ExchangeRateNotFoundException;
 import com.txnow.domain.exchange.model.Currency;
 import com.txnow.domain.exchange.model.ExchangeRateHistory;
 import com.txnow.domain.exchange.model.DailyRate;
 import com.txnow.domain.exchange.provider.ExchangeRateProvider;
 import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
+import com.txnow.infrastructure.metrics.ProviderLookup;
+import com.txnow.infrastructure.metrics.ProviderMetrics;
+import com.txnow.infrastructure.metrics.ProviderOperation;
+import com.txnow.infrastructure.metrics.ProviderResult;
+import com.txnow.infrastructure.metrics.ProviderTier;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 
 /**
  * L2 Cache: Database
@@ -22,13 +29,24 @@ public class DatabaseExchangeRateProvider implements ExchangeRateProvider {
 
     private final ExchangeRateProvider delegate;
     private final ExchangeRateHistoryRepository historyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProviderMetrics metrics;
 
     @Override
     public BigDecimal getCurrentExchangeRate(Currency currency) {
         // 1. 오늘 환울 확인
         LocalDateTime today = LocalDateTime.now().toLocalDate().atStartOfDay();
-        ExchangeRateHistory todayData = historyRepository
-            .findExchangeRateByTimestamp(currency, today, today.plusDays(1));
+        ProviderLookup lookup = metrics.startLookup();
+        ExchangeRateHistory todayData;
+        try {
+            todayData = historyRepository.findExchangeRateByTimestamp(currency, today, today.plusDays(1));
+        } catch (RuntimeException e) {
+            metrics.recordLookup(ProviderTier.DATABASE, ProviderOperation.CURRENT, currency, ProviderResult.ERROR,
+                lookup);
+            throw e;
+        }
+        metrics.recordLookup(ProviderTier.DATABASE, ProviderOperation.CURRENT, currency,
+            todayData != null ? ProviderResult.HIT : ProviderResult.MISS, lookup);
 
         if (todayData != null) {
             log.debug("Cache HIT (DB - Today): {}", currency);
@@ -50,6 +68,7 @@ public class DatabaseExchangeRateProvider implements ExchangeRateProvider {
                 .build();
 
             historyRepository.save(history);
+            eventPublisher.publishEvent(new ExchangeRateUpdatedEvent(currency, today.toLocalDate(), rate));
             return rate;
         }
 
@@ -75,35 +94,27 @@ public class DatabaseExchangeRateProvider implements ExchangeRateProvider {
         LocalDateTime startTime = startDate.atStartOfDay();
         LocalDateTime endTime = endDate.atTime(23, 59, 59);
 
-        List<ExchangeRateHistory> historyList = historyRepository
-            .findByCurrencyAndTimestampBetween(currency, startTime, endTime);
+        ProviderLookup lookup = metrics.startLookup();
+        List<ExchangeRateHistory> historyList;
+        try {
+            historyList = historyRepository.findByCurrencyAndTimestampBetween(currency, startTime, endTime);
+        } catch (RuntimeException e) {
+            metrics.recordLookup(ProviderTier.DATABASE, ProviderOperation.HISTORY, currency, ProviderResult.ERROR,
+                lookup);
+            throw e;
+        }
+        metrics.recordLookup(ProviderTier.DATABASE, ProviderOperation.HISTORY, currency,
+            historyList.isEmpty() ? ProviderResult.MISS : ProviderResult.HIT, lookup);
 
         if (historyList.isEmpty()) {
             // DB에 데이터 없으면 API 호출
             return delegate.getExchangeRateHistory(currency, startDate, endDate);
         }
 
-        List<DailyRate> dailyRates = convertToDailyRates(historyList);
+        List<DailyRate> dailyRates = DailyRate.fromHistories(historyList);
+        metrics.recordPayload(ProviderTier.DATABASE, ProviderOperation.HISTORY, dailyRates.size());
         log.debug("Cache HIT (DB - Chart): {} - {} to {} ({} days)",
             currency, startDate, endDate, dailyRates.size());
         return dailyRates;
     }
-
-    /**
-     * 30분 단위 데이터를 일별로 집계 (하루의 마지막 데이터 사용)
-     */
-    private List<DailyRate> convertToDailyRates(List<ExchangeRateHistory> historyList) {
-        return historyList.stream()
-            .collect(java.util.stream.Collectors.groupingBy(
-                h -> h.getTimestamp().toLocalDate(),
-                java.util.stream.Collectors.maxBy(
-                    java.util.Comparator.comparing(ExchangeRateHistory::getTimestamp)
-                )
-            ))
-            .entrySet().stream()
-            .filter(e -> e.getValue().isPresent())
-            .map(e -> new DailyRate(e.getKey(), e.getValue().get().getRate()))
-            .sorted(java.util.Comparator.comparing(DailyRate::date))
-            .toList();
-    }
 }
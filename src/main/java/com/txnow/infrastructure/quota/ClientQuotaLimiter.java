@@ -0,0 +1,161 @@
+package com.txnow.infrastructure.quota;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.txnow.infrastructure.cache.CacheKeyGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트(API 키 또는 IP)별 요청 쿼터
+ * - 요청 경로: 로컬 토큰 버킷으로만 판정 (Redis 왕복 없음)
+ * - 주기적 동기화: 버킷별 미반영 사용량을 Redis window 카운터에 INCRBY 로 합산하고,
+ *   결과(클러스터 전체 사용량)로 각 버킷의 남은 허용량을 갱신한다.
+ * 동기화 사이 초과 허용량은 최대 (노드 수 × 동기화 주기 동안의 사용량) 으로 제한된다.
+ * Redis 장애 시에는 로컬 버킷 한도만 적용된다.
+ */
+@Slf4j
+@Component
+public class ClientQuotaLimiter {
+
+    /**
+     * ClientQuotaFilter 가 식별한 클라이언트 id 를 담는 요청 속성
+     */
+    public static final String CLIENT_ATTRIBUTE = ClientQuotaLimiter.class.getName() + ".client";
+
+    private static final long WINDOW_SECONDS = 60;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(WINDOW_SECONDS);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    private final long standardBurst;
+    private final long standardLimitPerMinute;
+    private final long expensiveBurst;
+    private final long expensiveLimitPerMinute;
+
+    public ClientQuotaLimiter(
+        StringRedisTemplate redisTemplate,
+        CacheKeyGenerator cacheKeyGenerator,
+        @Value("${quota.max-clients:100000}") long maxClients,
+        @Value("${quota.standard.burst:60}") long standardBurst,
+        @Value("${quota.standard.limit-per-minute:300}") long standardLimitPerMinute,
+        @Value("${quota.expensive.burst:10}") long expensiveBurst,
+        @Value("${quota.expensive.limit-per-minute:30}") long expensiveLimitPerMinute
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxClients)
+            .expireAfterAccess(Duration.ofSeconds(WINDOW_SECONDS * 2))
+            .build();
+        this.standardBurst = standardBurst;
+        this.standardLimitPerMinute = standardLimitPerMinute;
+        this.expensiveBurst = expensiveBurst;
+        this.expensiveLimitPerMinute = expensiveLimitPerMinute;
+    }
+
+    /**
+     * 쿼터 1건 차감 시도 (로컬 판정)
+     */
+    public QuotaDecision tryAcquire(String clientId, QuotaTier tier) {
+        long nowNanos = System.nanoTime();
+        long epochSecond = Instant.now().getEpochSecond();
+        long window = epochSecond / WINDOW_SECONDS;
+
+        TokenBucket bucket = buckets.get(new BucketKey(clientId, tier), key -> newBucket(tier, nowNanos));
+        if (bucket.tryConsume(nowNanos, window)) {
+            return new QuotaDecision(true, bucket.remaining(), 0);
+        }
+
+        long nanosUntilWindowEnd = TimeUnit.SECONDS.toNanos((window + 1) * WINDOW_SECONDS - epochSecond);
+        long retryAfterSeconds = Math.max(1,
+            TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilAvailable(nowNanos, nanosUntilWindowEnd) + 999_999_999));
+        return new QuotaDecision(false, 0, retryAfterSeconds);
+    }
+
+    /**
+     * 캐시 미스로 비용이 큰 작업을 수행하기 직전에 EXPENSIVE 쿼터 차감
+     * 필터를 거치지 않은 요청(클라이언트 미식별)은 차감하지 않는다.
+     * @throws QuotaExceededException 쿼터 초과 시
+     */
+    public void acquireExpensive(HttpServletRequest request) {
+        if (!(request.getAttribute(CLIENT_ATTRIBUTE) instanceof String clientId)) {
+            return;
+        }
+
+        QuotaDecision decision = tryAcquire(clientId, QuotaTier.EXPENSIVE);
+        if (!decision.allowed()) {
+            throw new QuotaExceededException(QuotaTier.EXPENSIVE, decision.retryAfterSeconds());
+        }
+    }
+
+    /**
+     * 로컬 사용량을 Redis window 카운터에 합산하고 클러스터 사용량을 버킷에 반영
+     */
+    @Scheduled(
+        fixedDelayString = "${quota.reconcile-interval-ms:1000}",
+        initialDelayString = "${quota.reconcile-interval-ms:1000}"
+    )
+    public void reconcile() {
+        long window = Instant.now().getEpochSecond() / WINDOW_SECONDS;
+
+        List<Map.Entry<BucketKey, TokenBucket>> active = new ArrayList<>();
+        List<Long> drained = new ArrayList<>();
+        for (Map.Entry<BucketKey, TokenBucket> entry : buckets.asMap().entrySet()) {
+            if (entry.getValue().window() == window) {
+                active.add(entry);
+                drained.add(entry.getValue().drainUnsynced(window));
+            }
+        }
+        if (active.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (int i = 0; i < active.size(); i++) {
+                    BucketKey key = active.get(i).getKey();
+                    String redisKey = cacheKeyGenerator.clientQuotaKey(key.tier().code(), key.clientId(), window);
+                    stringConnection.incrBy(redisKey, drained.get(i));
+                    stringConnection.expire(redisKey, WINDOW_SECONDS * 2);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < active.size(); i++) {
+                if (results.get(i * 2) instanceof Long clusterUsed) {
+                    active.get(i).getValue().applyClusterUsage(window, clusterUsed);
+                }
+            }
+        } catch (Exception e) {
+            for (int i = 0; i < active.size(); i++) {
+                active.get(i).getValue().restoreUnsynced(window, drained.get(i));
+            }
+            log.warn("Failed to reconcile client quotas with Redis, applying local limits only: {}", e.getMessage());
+        }
+    }
+
+    private TokenBucket newBucket(QuotaTier tier, long nowNanos) {
+        return switch (tier) {
+            case STANDARD -> new TokenBucket(standardBurst, standardLimitPerMinute, WINDOW_NANOS, nowNanos);
+            case EXPENSIVE -> new TokenBucket(expensiveBurst, expensiveLimitPerMinute, WINDOW_NANOS, nowNanos);
+        };
+    }
+
+    private record BucketKey(String clientId, QuotaTier tier) {}
+}
@@ -0,0 +1,12 @@
+package com.txnow.infrastructure.quota;
+
+/**
+ * 쿼터 판정 결과
+ * @param remaining 이 노드에서 즉시 사용할 수 있는 남은 요청 수 (클러스터 남은 허용량 반영)
+ * @param retryAfterSeconds 거부된 경우 다시 요청할 수 있을 때까지의 예상 대기 시간
+ */
+public record QuotaDecision(
+    boolean allowed,
+    long remaining,
+    long retryAfterSeconds
+) {}
@@ -0,0 +1,24 @@
+package com.txnow.infrastructure.quota;
+
+/**
+ * 클라이언트 요청 쿼터 초과 시 발생하는 예외 (HTTP 429)
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    private final QuotaTier tier;
+    private final long retryAfterSeconds;
+
+    public QuotaExceededException(QuotaTier tier, long retryAfterSeconds) {
+        super("Request quota exceeded (" + tier.code() + "). Retry after " + retryAfterSeconds + " seconds");
+        this.tier = tier;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public QuotaTier getTier() {
+        return tier;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
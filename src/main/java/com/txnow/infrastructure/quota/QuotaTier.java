@@ -0,0 +1,15 @@
+package com.txnow.infrastructure.quota;
+
+/**
+ * 요청 쿼터 등급
+ * - STANDARD: 모든 API 요청 (서블릿 필터에서 차감)
+ * - EXPENSIVE: 캐시 미스로 조회/직렬화가 발생하는 차트 구간 요청 (실제 미스 직전에 차감)
+ */
+public enum QuotaTier {
+    STANDARD,
+    EXPENSIVE;
+
+    public String code() {
+        return name().toLowerCase();
+    }
+}
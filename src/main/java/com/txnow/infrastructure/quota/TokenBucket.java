@@ -0,0 +1,114 @@
+package com.txnow.infrastructure.quota;
+
+/**
+ * 클라이언트/등급별 로컬 토큰 버킷 (노드 안에서 I/O 없이 판정)
+ * - burst 만큼 쌓이고 limitPerWindow / window 속도로 채워진다.
+ * - 클러스터 전체 사용량은 주기적 동기화로 받아, 현재 window 의 클러스터 남은 허용량으로 함께 제한한다.
+ *   동기화 사이에 다른 노드가 사용한 양은 다음 동기화에서 반영된다.
+ */
+final class TokenBucket {
+
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final long burst;
+    private final long limitPerWindow;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long refilledAt;
+
+    private long window = Long.MIN_VALUE;
+    private long clusterRemaining = UNKNOWN;
+    private long unsynced;
+
+    TokenBucket(long burst, long limitPerWindow, long windowNanos, long nowNanos) {
+        this.burst = burst;
+        this.limitPerWindow = limitPerWindow;
+        this.tokensPerNano = (double) limitPerWindow / windowNanos;
+        this.tokens = burst;
+        this.refilledAt = nowNanos;
+    }
+
+    /**
+     * 토큰 1개 차감 시도
+     * @param window 현재 클러스터 window 번호 (바뀌면 이전 window 의 클러스터 사용량은 버린다)
+     */
+    synchronized boolean tryConsume(long nowNanos, long window) {
+        refill(nowNanos);
+        if (this.window != window) {
+            this.window = window;
+            clusterRemaining = UNKNOWN;
+            unsynced = 0;
+        }
+
+        if (tokens < 1 || clusterRemaining < 1) {
+            return false;
+        }
+
+        tokens -= 1;
+        unsynced++;
+        if (clusterRemaining != UNKNOWN) {
+            clusterRemaining--;
+        }
+        return true;
+    }
+
+    synchronized long remaining() {
+        return Math.min((long) tokens, clusterRemaining);
+    }
+
+    /**
+     * 로컬 토큰이 1개 쌓일 때까지의 시간 (클러스터 허용량 소진 시는 window 종료까지)
+     */
+    synchronized long nanosUntilAvailable(long nowNanos, long nanosUntilWindowEnd) {
+        if (clusterRemaining < 1) {
+            return nanosUntilWindowEnd;
+        }
+        refill(nowNanos);
+        return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    synchronized long window() {
+        return window;
+    }
+
+    /**
+     * 마지막 동기화 이후 이 노드의 사용량을 꺼내고 0 으로 초기화
+     * @return window 가 이미 바뀐 경우 0
+     */
+    synchronized long drainUnsynced(long window) {
+        if (this.window != window) {
+            return 0;
+        }
+        long drained = unsynced;
+        unsynced = 0;
+        return drained;
+    }
+
+    /**
+     * 동기화 실패 시 꺼낸 사용량을 되돌려 다음 동기화에 포함
+     */
+    synchronized void restoreUnsynced(long window, long count) {
+        if (this.window == window) {
+            unsynced += count;
+        }
+    }
+
+    /**
+     * 동기화 결과 반영: 클러스터 사용량(동기화 이후 이 노드 사용량 제외)으로 남은 허용량 갱신
+     */
+    synchronized void applyClusterUsage(long window, long clusterUsed) {
+        if (this.window != window) {
+            return;
+        }
+        clusterRemaining = Math.max(0, limitPerWindow - clusterUsed - unsynced);
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * tokensPerNano);
+            refilledAt = nowNanos;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.txnow.infrastructure.scheduler;
 
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
 import com.txnow.domain.exchange.model.Currency;
 import com.txnow.domain.exchange.model.ExchangeRateHistory;
 import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
@@ -8,6 +9,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +24,12 @@ public class ExchangeRateScheduler {
 
     private final BokApiClient bokApiClient;
     private final ExchangeRateHistoryRepository historyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일일 동기화 시각 (평일 오전 11:30, 한국은행 데이터 갱신 후)
+     */
+    public static final String SYNC_CRON = "0 30 11 * * MON-FRI";
 
     private static final Currency[] SUPPORTED_CURRENCIES = {Currency.USD, Currency.EUR,
         Currency.JPY, Currency.CNY};
@@ -29,7 +37,7 @@ public class ExchangeRateScheduler {
     /**
      * 평일 오전 11:30에 실행 (한국은행 데이터 갱신 후)
      */
-    @Scheduled(cron = "0 30 11 * * MON-FRI")
+    @Scheduled(cron = SYNC_CRON)
     @Transactional
     public void setDailyExchangeRates() {
         LocalDate today = LocalDate.now();
@@ -72,6 +80,7 @@ public class ExchangeRateScheduler {
                 .build();
 
             historyRepository.save(history);
+            eventPublisher.publishEvent(new ExchangeRateUpdatedEvent(currency, today, currentRate));
             log.info("Saved exchange rate for {}: {}", currency, currentRate);
         }
 
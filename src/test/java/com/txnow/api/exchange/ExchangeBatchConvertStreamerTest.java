@@ -0,0 +1,138 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.txnow.application.exchange.ExchangeRateConverter;
+import com.txnow.domain.exchange.exception.ExchangeRateNotFoundException;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeBatchConvertStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExchangeBatchConvertStreamer streamer = new ExchangeBatchConvertStreamer(objectMapper, 1_000);
+
+    private final ExchangeRateSnapshot snapshot = ExchangeRateSnapshot.initial()
+        .withKrwRate(Currency.USD, new BigDecimal("1320.5000"), LocalDate.of(2024, 3, 15))
+        .withKrwRate(Currency.EUR, new BigDecimal("1440.2500"), LocalDate.of(2024, 3, 15));
+
+    @Test
+    void convert_ShouldWriteResultPerItemInOrder() throws Exception {
+        // Given
+        String body = """
+            [
+              {"from":"USD","to":"KRW","amount":100},
+              {"from":"USD","to":"EUR","amount":10.25},
+              {"from":"XYZ","to":"KRW","amount":1},
+              {"from":"USD","to":"KRW","amount":-1},
+              {"from":"JPY","to":"KRW","amount":1000}
+            ]
+            """;
+
+        // When
+        JsonNode response = convert(body, currency -> {
+            throw new ExchangeRateNotFoundException(currency);
+        });
+
+        // Then
+        assertTrue(response.get("success").asBoolean());
+        JsonNode data = response.get("data");
+        assertEquals(snapshot.version(), data.get("rateVersion").asLong());
+        assertEquals("2024-03-15", data.get("rateDate").asText());
+        assertEquals(5, data.get("count").asInt());
+        assertEquals(3, data.get("failed").asInt());
+
+        JsonNode results = data.get("results");
+        assertEquals("132050.00", results.get(0).get("convertedAmount").asText());
+        assertEquals("9.40", results.get(1).get("convertedAmount").asText());
+        assertEquals("INVALID_REQUEST", results.get(2).get("errorCode").asText());
+        assertEquals("INVALID_REQUEST", results.get(3).get("errorCode").asText());
+        assertEquals("EXCHANGE_RATE_NOT_FOUND", results.get(4).get("errorCode").asText());
+        assertEquals(4, results.get(4).get("index").asInt());
+    }
+
+    @Test
+    void convert_ShouldCloseEnvelopeWhenBodyIsMalformed() throws Exception {
+        // When
+        JsonNode response = convert("[{\"from\":\"USD\",\"to\":\"KRW\",\"amount\":1}, {\"from\":", currency -> null);
+
+        // Then
+        assertFalse(response.get("success").asBoolean());
+        assertEquals("INVALID_REQUEST", response.get("errorCode").asText());
+        assertEquals(1, response.get("data").get("results").size());
+    }
+
+    @Test
+    void convert_ShouldLoadFailingCurrencyOnceAndReportErrorPerItem() throws Exception {
+        // Given
+        String body = """
+            [
+              {"from":"JPY","to":"KRW","amount":1000},
+              {"from":"USD","to":"KRW","amount":1},
+              {"from":"JPY","to":"USD","amount":500}
+            ]
+            """;
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        JsonNode response = convert(body, currency -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("provider down");
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertTrue(response.get("success").asBoolean());
+        JsonNode results = response.get("data").get("results");
+        assertEquals(2, response.get("data").get("failed").asInt());
+        assertEquals("INTERNAL_ERROR", results.get(0).get("errorCode").asText());
+        assertEquals("1320.50", results.get(1).get("convertedAmount").asText());
+        assertEquals("INTERNAL_ERROR", results.get(2).get("errorCode").asText());
+    }
+
+    @Test
+    void convert_ShouldMarkRateVersionNull_WhenRateComesFromProvider() throws Exception {
+        // Given
+        String body = """
+            [
+              {"from":"USD","to":"KRW","amount":1},
+              {"from":"JPY","to":"KRW","amount":100}
+            ]
+            """;
+
+        // When
+        JsonNode response = convert(body, currency -> new BigDecimal("9.0000"));
+
+        // Then
+        JsonNode results = response.get("data").get("results");
+        assertFalse(results.get(0).has("rateVersion"));
+        assertTrue(results.get(1).get("rateVersion").isNull());
+        assertEquals("900.00", results.get(1).get("convertedAmount").asText());
+    }
+
+    private JsonNode convert(String body, Function<Currency, BigDecimal> loader) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamer.convert(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+            output,
+            ExchangeRateConverter.of(snapshot, loader)
+        );
+        return objectMapper.reader()
+            .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+            .readTree(output.toByteArray());
+    }
+}
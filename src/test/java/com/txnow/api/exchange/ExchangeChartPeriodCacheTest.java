@@ -0,0 +1,121 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.txnow.application.exchange.ExchangeRateService;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartRangeResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeChartDataPoint;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeChartStatistics;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult.ExchangeCurrentRate;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeDataVersionResult;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.ChartPeriod;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.infrastructure.cache.CacheKeyGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExchangeChartPeriodCacheTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2024, 3, 15);
+
+    private final ExchangeRateService exchangeRateService = mock(ExchangeRateService.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ExchangeChartPeriodCache cache = new ExchangeChartPeriodCache(
+        exchangeRateService, cacheManager, new CacheKeyGenerator(), objectMapper, Runnable::run);
+
+    @Test
+    void get_ShouldShareSerializedEntryForSameCanonicalRange() {
+        // Given
+        ExchangeChartRangeResult range = new ExchangeChartRangeResult(END_DATE.minusWeeks(1), END_DATE);
+        when(exchangeRateService.getExchangeRateChart(any())).thenReturn(chart());
+
+        // When
+        ExchangeChartResult first = cache.get(Currency.USD, ChartPeriod.ONE_WEEK, range);
+        ExchangeChartResult second = cache.get(Currency.USD, ChartPeriod.ONE_WEEK, range);
+
+        // Then
+        verify(exchangeRateService, times(1)).getExchangeRateChart(any());
+        assertEquals(first, second);
+        assertNotNull(cacheManager.getCache("chartData1w").get("fxnow:chart:USD:1w", byte[].class));
+    }
+
+    @Test
+    void get_ShouldReloadWhenCanonicalEndDateMoved() {
+        // Given
+        when(exchangeRateService.getExchangeRateChart(any())).thenReturn(chart());
+        cache.get(Currency.USD, ChartPeriod.ONE_WEEK, new ExchangeChartRangeResult(END_DATE.minusWeeks(1), END_DATE));
+
+        // When
+        LocalDate nextDate = END_DATE.plusDays(3);
+        cache.get(Currency.USD, ChartPeriod.ONE_WEEK, new ExchangeChartRangeResult(nextDate.minusWeeks(1), nextDate));
+
+        // Then
+        verify(exchangeRateService, times(2)).getExchangeRateChart(any());
+    }
+
+    @Test
+    void get_ShouldReloadWhenRangeDataWasCorrected() {
+        // Given
+        ExchangeChartRangeResult range = new ExchangeChartRangeResult(END_DATE.minusWeeks(1), END_DATE);
+        when(exchangeRateService.getExchangeRateChart(any())).thenReturn(chart());
+        when(exchangeRateService.findDataVersion(any(), any(), any(), anyBoolean()))
+            .thenReturn(Optional.of(new ExchangeDataVersionResult("USD:1a;", Instant.EPOCH, true)));
+        cache.get(Currency.USD, ChartPeriod.ONE_WEEK, range);
+
+        // When: 같은 종료일, 구간 내 일자 보정
+        when(exchangeRateService.findDataVersion(any(), any(), any(), anyBoolean()))
+            .thenReturn(Optional.of(new ExchangeDataVersionResult("USD:2b;", Instant.EPOCH, true)));
+        cache.get(Currency.USD, ChartPeriod.ONE_WEEK, range);
+        cache.get(Currency.USD, ChartPeriod.ONE_WEEK, range);
+
+        // Then
+        verify(exchangeRateService, times(2)).getExchangeRateChart(any());
+    }
+
+    @Test
+    void onExchangeRateUpdated_ShouldRebuildEveryPeriodOfCurrency() {
+        // Given
+        when(exchangeRateService.resolveChartPeriod(eq(Currency.USD), any())).thenAnswer(invocation -> {
+            ChartPeriod period = invocation.getArgument(1);
+            return new ExchangeChartRangeResult(period.startDate(END_DATE), END_DATE);
+        });
+        when(exchangeRateService.getExchangeRateChart(any())).thenReturn(chart());
+
+        // When
+        cache.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(
+            Currency.USD, END_DATE, new BigDecimal("1320.0000")));
+
+        // Then
+        verify(exchangeRateService, times(ChartPeriod.values().length)).getExchangeRateChart(any());
+        for (ChartPeriod period : ChartPeriod.values()) {
+            assertNotNull(cacheManager.getCache("chartData" + period.code()).get("fxnow:chart:USD:" + period.code()));
+        }
+    }
+
+    private static ExchangeChartResult chart() {
+        return new ExchangeChartResult(
+            Currency.USD,
+            Currency.KRW,
+            "2024-03-08 ~ 2024-03-15",
+            new ExchangeCurrentRate(new BigDecimal("1320.0000"), new BigDecimal("10.0000"), new BigDecimal("0.76")),
+            LocalDateTime.of(2024, 3, 15, 11, 30),
+            List.of(new ExchangeChartDataPoint("2024-03-15", null, new BigDecimal("1320.0000"), new BigDecimal("0.76"))),
+            new ExchangeChartStatistics(new BigDecimal("1320.0000"), new BigDecimal("1320.0000"), new BigDecimal("1320.0000")),
+            List.of()
+        );
+    }
+}
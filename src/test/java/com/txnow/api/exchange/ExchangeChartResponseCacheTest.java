@@ -0,0 +1,124 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.txnow.api.support.ApiResponse;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeChartResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExchangeChartResponseCache cache = new ExchangeChartResponseCache(objectMapper, 1 << 20, 3600, DataSize.ofBytes(0));
+
+    @Test
+    void write_ShouldSerializeOnceAndReuseBytesForSameKey() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        ApiResponse<Map<String, List<Integer>>> body = ApiResponse.success(Map.of("rates", List.of(1, 2, 3)));
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        cache.write("\"etag-1\"", false, first, () -> {
+            loads.incrementAndGet();
+            return body;
+        });
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        cache.write("\"etag-1\"", false, second, () -> {
+            loads.incrementAndGet();
+            return body;
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertArrayEquals(objectMapper.writeValueAsBytes(body), second.getContentAsByteArray());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(second.getContentAsByteArray().length, second.getContentLength());
+    }
+
+    @Test
+    void write_ShouldWriteGzipEncodedBody() throws Exception {
+        // Given
+        ApiResponse<Map<String, List<Integer>>> body = ApiResponse.success(Map.of("rates", List.of(1, 2, 3)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        cache.write("\"etag-1-gzip\"", true, response, () -> body);
+
+        // Then
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(body), input.readAllBytes());
+        }
+    }
+
+    @Test
+    void write_ShouldSkipGzipForBodyBelowMinSize() throws Exception {
+        // Given
+        ExchangeChartResponseCache thresholdCache =
+            new ExchangeChartResponseCache(objectMapper, 1 << 20, 3600, DataSize.ofKilobytes(2));
+        ApiResponse<Map<String, List<Integer>>> body = ApiResponse.success(Map.of("rates", List.of(1, 2, 3)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        thresholdCache.write("\"etag-1-gzip\"", true, response, () -> body);
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertArrayEquals(objectMapper.writeValueAsBytes(body), response.getContentAsByteArray());
+    }
+
+    @Test
+    void write_ShouldSerializeCborForColumnarFormat() throws Exception {
+        // Given
+        ApiResponse<Map<String, long[]>> body = ApiResponse.success(Map.of("rates", new long[]{13205000L, 13210000L}));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        cache.write("\"etag-1-cbor\"", ExchangeChartFormat.COLUMNAR_CBOR, false, response, () -> body);
+
+        // Then
+        assertEquals("application/cbor", response.getContentType());
+        assertEquals(objectMapper.writeValueAsString(body),
+            objectMapper.writeValueAsString(new CBORMapper().readTree(response.getContentAsByteArray())));
+    }
+
+    @Test
+    void onExchangeRateUpdated_ShouldEvictOnlyEntriesWhoseRangeContainsDate() throws Exception {
+        // Given: USD 1분기, USD 2분기 구간 응답
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        AtomicInteger loads = new AtomicInteger();
+        write("\"q1\"", new ExchangeChartResponseCache.DataScope(
+            List.of(Currency.USD), start, start.plusMonths(3).minusDays(1)), loads);
+        write("\"q2\"", new ExchangeChartResponseCache.DataScope(
+            List.of(Currency.USD), start.plusMonths(3), start.plusMonths(6).minusDays(1)), loads);
+
+        // When: 1분기 일자 보정
+        cache.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(Currency.USD, start.plusDays(10), BigDecimal.TEN));
+        write("\"q1\"", ExchangeChartResponseCache.DataScope.NONE, loads);
+        write("\"q2\"", ExchangeChartResponseCache.DataScope.NONE, loads);
+
+        // Then: 1분기만 다시 조회
+        assertEquals(3, loads.get());
+    }
+
+    private void write(String key, ExchangeChartResponseCache.DataScope scope, AtomicInteger loads) throws Exception {
+        cache.write(key, ExchangeChartFormat.JSON, false, new MockHttpServletResponse(), scope, () -> {
+            loads.incrementAndGet();
+            return ApiResponse.success(List.of(1));
+        }, () -> {});
+    }
+}
@@ -0,0 +1,52 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.txnow.api.exchange.dto.ExchangeResponse.ExchangeChartResponse;
+import com.txnow.api.support.ApiResponse;
+import com.txnow.application.exchange.ExchangeChartMapper;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeChartStreamerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ExchangeChartMapper mapper = new ExchangeChartMapper();
+    private final ExchangeChartStreamer streamer = new ExchangeChartStreamer(objectMapper);
+
+    @Test
+    void write_ShouldProduceSameJsonAsBufferedChartResponse() throws Exception {
+        // Given
+        List<DailyRate> dailyRates = List.of(
+            new DailyRate(LocalDate.of(2024, 1, 2), new BigDecimal("1300.0000")),
+            new DailyRate(LocalDate.of(2024, 1, 3), new BigDecimal("1313.0000")),
+            new DailyRate(LocalDate.of(2024, 1, 4), new BigDecimal("1306.4350"))
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        streamer.write(output, sink -> mapper.streamChart(
+            Currency.USD, Currency.KRW, "2024-01-02", "2024-01-04", dailyRates.iterator(), sink));
+
+        // Then
+        JsonNode streamed = objectMapper.readTree(output.toByteArray());
+        JsonNode buffered = objectMapper.readTree(objectMapper.writeValueAsBytes(ApiResponse.success(ExchangeChartResponse.from(
+            mapper.toChartResult(Currency.USD, Currency.KRW, "2024-01-02", "2024-01-04", dailyRates)))));
+
+        // lastUpdated 는 생성 시각이므로 비교에서 제외
+        ((ObjectNode) streamed.get("data")).remove("lastUpdated");
+        ((ObjectNode) buffered.get("data")).remove("lastUpdated");
+        assertEquals(buffered, streamed);
+        assertEquals(3, streamed.get("data").get("chartData").size());
+    }
+}
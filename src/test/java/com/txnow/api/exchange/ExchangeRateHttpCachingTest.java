@@ -0,0 +1,109 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.api.exchange.dto.ExchangeResponse.ExchangeChartResponse;
+import com.txnow.api.support.ApiResponse;
+import com.txnow.application.exchange.DownsampledChartCache;
+import com.txnow.application.exchange.ExchangeChartMapper;
+import com.txnow.application.exchange.ExchangeRateHistoryFetcher;
+import com.txnow.application.exchange.ExchangeRateService;
+import com.txnow.application.exchange.ExchangeRateSnapshotRegistry;
+import com.txnow.application.exchange.candle.CandleSeriesRegistry;
+import com.txnow.application.exchange.dto.ExchangeCommand.ExchangeChartCommand;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.application.exchange.indicator.IndicatorSeriesRegistry;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
+import com.txnow.infrastructure.quota.ClientQuotaLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExchangeRateHttpCachingTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 4);
+    private static final LocalDate END = START.plusDays(2);
+
+    private final ExchangeRateProvider provider = mock(ExchangeRateProvider.class);
+    private final RateRangeIndexRegistry indexRegistry =
+        new RateRangeIndexRegistry(mock(ExchangeRateHistoryRepository.class));
+
+    private ExchangeRateService exchangeRateService;
+    private ExchangeRateHttpCaching httpCaching;
+
+    @BeforeEach
+    void setUp() {
+        ExchangeRateHistoryFetcher historyFetcher = new ExchangeRateHistoryFetcher(provider, indexRegistry, Runnable::run);
+        exchangeRateService = new ExchangeRateService(
+            provider,
+            new ExchangeChartMapper(),
+            indexRegistry,
+            new DownsampledChartCache(100, 3600),
+            mock(CandleSeriesRegistry.class),
+            mock(IndicatorSeriesRegistry.class),
+            mock(ExchangeRateSnapshotRegistry.class),
+            historyFetcher,
+            mock(ExchangeRateHistoryRepository.class)
+        );
+        ExchangeChartResponseCache responseCache = new ExchangeChartResponseCache(
+            new ObjectMapper().findAndRegisterModules(), 1 << 20, 3600, DataSize.ofBytes(0));
+        httpCaching = new ExchangeRateHttpCaching(exchangeRateService, responseCache, mock(ClientQuotaLimiter.class));
+
+        for (int day = 0; day <= 2; day++) {
+            indexRegistry.onExchangeRateUpdated(
+                new ExchangeRateUpdatedEvent(Currency.USD, START.plusDays(day), BigDecimal.valueOf(1300 + day)));
+        }
+    }
+
+    @Test
+    void respond_ShouldChangeEtagAndBodyWhenRateInRangeIsCorrected() throws Exception {
+        // Given: Provider(Redis 이력 캐시)는 보정 전 이력을 계속 반환
+        when(provider.getExchangeRateHistory(any(), any(), any())).thenReturn(List.of(
+            new DailyRate(START, new BigDecimal("1300")),
+            new DailyRate(START.plusDays(1), new BigDecimal("1301")),
+            new DailyRate(START.plusDays(2), new BigDecimal("1302"))
+        ));
+        MockHttpServletResponse before = chart(null);
+
+        // When: 구간 내 일자 보정 후 이전 ETag 로 재요청
+        indexRegistry.onExchangeRateUpdated(
+            new ExchangeRateUpdatedEvent(Currency.USD, START.plusDays(1), new BigDecimal("1355")));
+        MockHttpServletResponse after = chart(before.getHeader(HttpHeaders.ETAG));
+
+        // Then
+        assertEquals(200, after.getStatus());
+        assertNotEquals(before.getHeader(HttpHeaders.ETAG), after.getHeader(HttpHeaders.ETAG));
+        assertFalse(before.getContentAsString().contains("1355"));
+        assertTrue(after.getContentAsString().contains("1355"));
+        verify(provider, never()).getExchangeRateHistory(any(), any(), any());
+    }
+
+    private MockHttpServletResponse chart(String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/exchange-rates/chart/USD");
+        request.setQueryString("startDate=" + START + "&endDate=" + END);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ExchangeChartCommand command = new ExchangeChartCommand(
+            Currency.USD, Currency.KRW, START.toString(), END.toString(), null, null);
+        httpCaching.respond(request, response, List.of(Currency.USD), START.toString(), END.toString(), false,
+            () -> ApiResponse.success(ExchangeChartResponse.from(exchangeRateService.getExchangeRateChart(command))));
+        return response;
+    }
+}
@@ -0,0 +1,154 @@
+package com.txnow.api.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.txnow.application.exchange.ExchangeRateSnapshotRegistry;
+import com.txnow.domain.alert.model.AlertClientToken;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExchangeRateStreamHandlerTest {
+
+    private final ExchangeRateSnapshotRegistry snapshotRegistry = mock(ExchangeRateSnapshotRegistry.class);
+    private final ExchangeRateStreamHandler handler = new ExchangeRateStreamHandler(
+        new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
+        snapshotRegistry, 2, 1000, 4096, 1);
+
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
+    @Test
+    void subscribe_ShouldSendCurrentRateAndReceiveSharedBroadcast() throws Exception {
+        // Given
+        when(snapshotRegistry.current()).thenReturn(ExchangeRateSnapshot.initial()
+            .withKrwRate(Currency.USD, new BigDecimal("1320.5000"), LocalDate.of(2024, 3, 15)));
+        WebSocketSession usd = openSession("1");
+        WebSocketSession eur = openSession("2");
+        handler.afterConnectionEstablished(usd);
+        handler.afterConnectionEstablished(eur);
+
+        // When
+        handler.handleTextMessage(usd, new TextMessage("{\"type\":\"subscribe\",\"currencies\":[\"USD\"]}"));
+        handler.handleTextMessage(eur, new TextMessage("{\"type\":\"subscribe\",\"currencies\":[\"EUR\"]}"));
+        TextMessage update = new TextMessage("{\"type\":\"rate\",\"currency\":\"USD\"}");
+        handler.broadcast(Currency.USD, update);
+
+        // Then
+        verify(usd, timeout(1000)).sendMessage(update);
+        verify(usd).sendMessage(argThat(message -> message.getPayload().toString()
+            .equals("{\"type\":\"rate\",\"currency\":\"USD\",\"date\":\"2024-03-15\",\"rate\":1320.5000}")));
+        verify(eur, never()).sendMessage(update);
+        assertEquals(1, handler.subscriberCount(Currency.USD));
+    }
+
+    @Test
+    void afterConnectionClosed_ShouldRemoveSubscriptions() throws Exception {
+        // Given
+        when(snapshotRegistry.current()).thenReturn(ExchangeRateSnapshot.initial());
+        WebSocketSession session = openSession("1");
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"subscribe\",\"currencies\":[\"USD\",\"JPY\"]}"));
+
+        // When
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        // Then
+        assertEquals(0, handler.subscriberCount(Currency.USD));
+        assertEquals(0, handler.subscriberCount(Currency.JPY));
+        assertEquals(0, handler.sessionCount());
+    }
+
+    @Test
+    void afterConnectionEstablished_ShouldRejectSessionsOverLimit() throws Exception {
+        // Given
+        handler.afterConnectionEstablished(openSession("1"));
+        handler.afterConnectionEstablished(openSession("2"));
+        WebSocketSession rejected = openSession("3");
+
+        // When
+        handler.afterConnectionEstablished(rejected);
+
+        // Then
+        verify(rejected).close(CloseStatus.SERVICE_OVERLOAD);
+        assertEquals(2, handler.sessionCount());
+    }
+
+    @Test
+    void handleTextMessage_ShouldReplyErrorForInvalidCurrency() throws Exception {
+        // Given
+        WebSocketSession session = openSession("1");
+        handler.afterConnectionEstablished(session);
+
+        // When
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"subscribe\",\"currencies\":[\"XYZ\"]}"));
+
+        // Then
+        verify(session).sendMessage(argThat(message -> message.getPayload().toString().contains("\"type\":\"error\"")));
+        assertEquals(0, handler.subscriberCount(Currency.USD));
+    }
+
+    @Test
+    void sendToClient_ShouldDeliverOnlyToRegisteredSessions() throws Exception {
+        // Given
+        WebSocketSession registered = openSession("1");
+        WebSocketSession other = openSession("2");
+        String token = AlertClientToken.issue();
+        String clientId = AlertClientToken.clientIdOf(token);
+        handler.afterConnectionEstablished(registered);
+        handler.afterConnectionEstablished(other);
+        handler.handleTextMessage(registered, new TextMessage("{\"type\":\"register\",\"token\":\"" + token + "\"}"));
+        TextMessage alert = new TextMessage("{\"type\":\"alert\",\"alertId\":1}");
+
+        // When
+        int sent = handler.sendToClient(clientId, alert);
+        handler.afterConnectionClosed(registered, CloseStatus.NORMAL);
+
+        // Then
+        assertEquals(1, sent);
+        verify(registered).sendMessage(alert);
+        verify(other, never()).sendMessage(alert);
+        assertEquals(0, handler.sendToClient(clientId, alert));
+    }
+
+    @Test
+    void register_ShouldRejectClientIdInsteadOfIssuedToken() throws Exception {
+        // Given
+        WebSocketSession session = openSession("1");
+        String clientId = AlertClientToken.clientIdOf(AlertClientToken.issue());
+        handler.afterConnectionEstablished(session);
+        TextMessage alert = new TextMessage("{\"type\":\"alert\",\"alertId\":1}");
+
+        // When
+        handler.handleTextMessage(session, new TextMessage(
+            "{\"type\":\"register\",\"clientId\":\"" + clientId + "\",\"token\":\"" + clientId + "\"}"));
+
+        // Then
+        verify(session).sendMessage(argThat(message -> message.getPayload().toString().contains("\"type\":\"error\"")));
+        assertEquals(0, handler.sendToClient(clientId, alert));
+    }
+
+    private static WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(attributes);
+        return session;
+    }
+}
@@ -0,0 +1,84 @@
+package com.txnow.api.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txnow.infrastructure.limit.GradientConcurrencyLimit;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new ObjectMapper(), 50, 10, 200, 1, 1, 100, 1);
+
+    @Test
+    void doFilter_ShouldRunBatchConversionInFixedBulkheadSeparateFromQuery() throws Exception {
+        // Given: 배치 변환 1건이 BULK 슬롯을 점유한 동안
+        MockHttpServletResponse nestedBatch = new MockHttpServletResponse();
+        MockHttpServletResponse nestedQuery = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse res) throws ServletException, IOException {
+                filter.doFilter(batchRequest(), nestedBatch, new MockFilterChain());
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/exchange-rates/chart/USD"), nestedQuery, new MockFilterChain());
+            }
+        });
+
+        // When
+        filter.doFilter(batchRequest(), new MockHttpServletResponse(), chain);
+
+        // Then: 다른 배치 요청은 거절되고, QUERY 요청은 처리된다
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), nestedBatch.getStatus());
+        assertEquals(HttpStatus.OK.value(), nestedQuery.getStatus());
+        assertEquals(1, limit(EndpointClass.BULK).limit());
+        assertEquals(0, limit(EndpointClass.BULK).inflight());
+    }
+
+    @Test
+    void doFilter_ShouldNotSampleLatencyOfStreamedResponses() throws Exception {
+        // Given
+        MockFilterChain streamed = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse res) {
+                ConcurrencyLimitFilter.excludeFromSampling(req);
+            }
+        });
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/exchange-rates/chart/USD"),
+                new MockHttpServletResponse(), streamed);
+            streamed.reset();
+        }
+        int afterStreamed = limit(EndpointClass.QUERY).limit();
+        for (int i = 0; i < 20; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/exchange-rates/chart/USD"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        // Then: 스트리밍 응답은 한도를 바꾸지 않고, 일반 응답만 한도 갱신에 반영된다
+        assertEquals(1, afterStreamed);
+        assertTrue(limit(EndpointClass.QUERY).limit() > 1);
+        assertEquals(0, limit(EndpointClass.QUERY).inflight());
+    }
+
+    private static MockHttpServletRequest batchRequest() {
+        return new MockHttpServletRequest("POST", "/api/exchange-rates/convert/batch");
+    }
+
+    @SuppressWarnings("unchecked")
+    private GradientConcurrencyLimit limit(EndpointClass endpointClass) {
+        return ((Map<EndpointClass, GradientConcurrencyLimit>) ReflectionTestUtils.getField(filter, "limits")).get(endpointClass);
+    }
+}
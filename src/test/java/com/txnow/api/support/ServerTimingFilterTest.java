@@ -0,0 +1,66 @@
+package com.txnow.api.support;
+
+import com.txnow.domain.support.RequestTiming;
+import com.txnow.domain.support.RequestTiming.Stage;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    @Test
+    void doFilter_ShouldWriteRecordedStagesBeforeBodyIsCommitted() throws Exception {
+        // Given: Redis 미스 후 DB 조회, 차트 변환, 본문 기록 후 추가 기록
+        ServerTimingFilter filter = new ServerTimingFilter(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/exchange-rates/chart/USD");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                RequestTiming.record(Stage.REDIS, TimeUnit.MICROSECONDS.toNanos(800));
+                RequestTiming.record(Stage.DB, TimeUnit.MILLISECONDS.toNanos(12));
+                RequestTiming.served(Stage.DB);
+                RequestTiming.time(Stage.MAPPER, () -> "chart");
+                res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+                res.flushBuffer();
+                RequestTiming.record(Stage.BOK, TimeUnit.MILLISECONDS.toNanos(100));
+            }
+        });
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then: commit 이전 기록만 헤더에 포함
+        String header = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("redis;dur=0.8, db;dur=12.0, mapper;dur="), header);
+        assertTrue(header.contains(", total;dur="), header);
+        assertFalse(header.contains("bok"), header);
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldSkipWhenDisabled() throws Exception {
+        // Given
+        ServerTimingFilter filter = new ServerTimingFilter(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/exchange-rates/dashboard");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+}
@@ -0,0 +1,125 @@
+package com.txnow.application.alert;
+
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.alert.model.RateAlertNotification;
+import com.txnow.domain.alert.notifier.RateAlertNotifier;
+import com.txnow.domain.alert.repository.RateAlertIndex;
+import com.txnow.domain.alert.repository.RateAlertRepository;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RateAlertEngineTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 15);
+    private static final BigDecimal RATE = new BigDecimal("1350.0000");
+
+    private final RateAlertRepository repository = mock(RateAlertRepository.class);
+    private final RateAlertIndex index = mock(RateAlertIndex.class);
+    private final RateAlertNotifier notifier = mock(RateAlertNotifier.class);
+    private final RateRangeIndexRegistry rangeIndexRegistry = mock(RateRangeIndexRegistry.class);
+    private final RateAlertEngine engine = new RateAlertEngine(
+        repository, index, notifier, rangeIndexRegistry, Runnable::run, 2);
+
+    @Test
+    void onExchangeRateUpdated_ShouldPollCrossedAlertsInBatchesAndNotifyActiveOnly() {
+        // Given
+        when(rangeIndexRegistry.find(Currency.USD)).thenReturn(Optional.empty());
+        when(index.pollTriggered(eq(Currency.USD), eq(AlertDirection.ABOVE), eq(RATE), eq(2)))
+            .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(index.pollTriggered(eq(Currency.USD), eq(AlertDirection.BELOW), eq(RATE), eq(2)))
+            .thenReturn(List.of());
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(alert(1L, null), alert(2L, LocalDateTime.now())));
+        when(repository.findAllById(List.of(3L))).thenReturn(List.of(alert(3L, null)));
+
+        // When
+        engine.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(Currency.USD, DATE, RATE));
+
+        // Then
+        verify(index, times(2)).pollTriggered(Currency.USD, AlertDirection.ABOVE, RATE, 2);
+        verify(repository).markTriggered(eq(List.of(1L)), eq(RATE), any());
+        verify(repository).markTriggered(eq(List.of(3L)), eq(RATE), any());
+        verify(notifier).notify(List.of(RateAlertNotification.of(alert(1L, null), RATE, DATE)));
+        verify(notifier).notify(List.of(RateAlertNotification.of(alert(3L, null), RATE, DATE)));
+    }
+
+    @Test
+    void onExchangeRateUpdated_ShouldIgnoreCorrectionOfPastDate() {
+        // Given
+        when(rangeIndexRegistry.find(Currency.USD)).thenReturn(Optional.of(
+            RateRangeIndex.of(List.of(new DailyRate(DATE, RATE)))));
+
+        // When
+        engine.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(Currency.USD, DATE.minusDays(1), RATE));
+
+        // Then
+        verifyNoInteractions(index, notifier);
+    }
+
+    @Test
+    void dispatch_ShouldRestoreAlertsToIndex_WhenMarkTriggeredFails() {
+        // Given
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(alert(1L, null), alert(2L, LocalDateTime.now())));
+        when(repository.markTriggered(any(), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        // When
+        engine.dispatch(List.of(1L, 2L), RATE, DATE);
+
+        // Then
+        verify(index).addAll(argThat(alerts -> ids(alerts).equals(List.of(1L))));
+        verifyNoInteractions(notifier);
+    }
+
+    @Test
+    void onExchangeRateUpdated_ShouldRestoreAlertsAndStopPolling_WhenDispatchRejected() {
+        // Given
+        RateAlertEngine saturatedEngine = new RateAlertEngine(repository, index, notifier, rangeIndexRegistry, command -> {
+            throw new RejectedExecutionException("saturated");
+        }, 2);
+        when(rangeIndexRegistry.find(Currency.USD)).thenReturn(Optional.empty());
+        when(index.pollTriggered(eq(Currency.USD), eq(AlertDirection.ABOVE), eq(RATE), eq(2)))
+            .thenReturn(List.of(1L, 2L));
+        when(index.pollTriggered(eq(Currency.USD), eq(AlertDirection.BELOW), eq(RATE), eq(2)))
+            .thenReturn(List.of());
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(alert(1L, null), alert(2L, null)));
+
+        // When
+        saturatedEngine.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(Currency.USD, DATE, RATE));
+
+        // Then
+        verify(index, times(1)).pollTriggered(Currency.USD, AlertDirection.ABOVE, RATE, 2);
+        verify(index).addAll(argThat(alerts -> ids(alerts).equals(List.of(1L, 2L))));
+        verifyNoInteractions(notifier);
+    }
+
+    private static List<Long> ids(Collection<RateAlert> alerts) {
+        return alerts.stream().map(RateAlert::getId).toList();
+    }
+
+    private static RateAlert alert(long id, LocalDateTime triggeredAt) {
+        return RateAlert.builder()
+            .id(id)
+            .clientId("client-" + id)
+            .currency(Currency.USD)
+            .direction(AlertDirection.ABOVE)
+            .thresholdRate(new BigDecimal("1340.0000"))
+            .createdAt(LocalDateTime.of(2024, 3, 1, 9, 0))
+            .triggeredAt(triggeredAt)
+            .build();
+    }
+}
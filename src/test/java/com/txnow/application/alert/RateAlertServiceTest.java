@@ -0,0 +1,97 @@
+package com.txnow.application.alert;
+
+import com.txnow.application.alert.dto.RateAlertCommand.RateAlertCreateCommand;
+import com.txnow.application.alert.dto.RateAlertCommand.RateAlertDeleteCommand;
+import com.txnow.application.alert.dto.RateAlertResult.RateAlertCreateResult;
+import com.txnow.domain.alert.exception.RateAlertNotFoundException;
+import com.txnow.domain.alert.model.AlertClientToken;
+import com.txnow.domain.alert.model.AlertDirection;
+import com.txnow.domain.alert.model.RateAlert;
+import com.txnow.domain.alert.repository.RateAlertIndex;
+import com.txnow.domain.alert.repository.RateAlertRepository;
+import com.txnow.domain.exchange.model.Currency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RateAlertServiceTest {
+
+    private static final BigDecimal THRESHOLD = new BigDecimal("1350.00");
+
+    private final RateAlertRepository repository = mock(RateAlertRepository.class);
+    private final RateAlertIndex index = mock(RateAlertIndex.class);
+    private final RateAlertService service = new RateAlertService(repository, index);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxAlertsPerClient", 100);
+        when(repository.save(any())).thenAnswer(invocation -> {
+            RateAlert alert = invocation.getArgument(0);
+            return alert(1L, alert.getClientId());
+        });
+    }
+
+    @Test
+    void createAlert_ShouldIssueTokenAndStoreOnlyItsHash() {
+        // When
+        RateAlertCreateResult result = service.createAlert(
+            new RateAlertCreateCommand(null, Currency.USD, AlertDirection.ABOVE, THRESHOLD));
+
+        // Then
+        assertNotNull(result.token());
+        verify(repository).save(argThat(alert ->
+            alert.getClientId().equals(AlertClientToken.clientIdOf(result.token()))
+                && !alert.getClientId().equals(result.token())));
+    }
+
+    @Test
+    void createAlert_ShouldRejectTokenThatWasNeverIssued() {
+        // Given
+        String token = AlertClientToken.issue();
+        when(repository.findByClientId(AlertClientToken.clientIdOf(token))).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.createAlert(
+            new RateAlertCreateCommand(token, Currency.USD, AlertDirection.ABOVE, THRESHOLD)));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void deleteAlert_ShouldNotDeleteAlertOwnedByAnotherToken() {
+        // Given
+        String owner = AlertClientToken.issue();
+        String other = AlertClientToken.issue();
+        when(repository.findById(1L)).thenReturn(Optional.of(alert(1L, AlertClientToken.clientIdOf(owner))));
+
+        // When & Then
+        assertThrows(RateAlertNotFoundException.class, () -> service.deleteAlert(new RateAlertDeleteCommand(other, 1L)));
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    void getAlerts_ShouldRejectFreeFormClientId() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.getAlerts("3f2b8c1e-web"));
+        verify(repository, never()).findByClientId(any());
+    }
+
+    private static RateAlert alert(Long id, String clientId) {
+        return RateAlert.builder()
+            .id(id)
+            .clientId(clientId)
+            .currency(Currency.USD)
+            .direction(AlertDirection.ABOVE)
+            .thresholdRate(THRESHOLD)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.txnow.application.exchange;
+
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartRangeResult;
+import com.txnow.domain.exchange.model.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChartRangeValidatorTest {
+
+    @Test
+    void validate_ShouldReturnParsedRange() {
+        // When
+        ExchangeChartRangeResult range = ChartRangeValidator.validate(Currency.KRW, "2024-03-01", "2024-03-15");
+
+        // Then
+        assertEquals(LocalDate.of(2024, 3, 1), range.startDate());
+        assertEquals(LocalDate.of(2024, 3, 15), range.endDate());
+    }
+
+    @Test
+    void validate_ShouldRejectNonKrwTargetAndReversedRange() {
+        // When & Then
+        IllegalArgumentException target = assertThrows(IllegalArgumentException.class,
+            () -> ChartRangeValidator.validate(Currency.USD, "2024-03-01", "2024-03-15"));
+        IllegalArgumentException reversed = assertThrows(IllegalArgumentException.class,
+            () -> ChartRangeValidator.validate(Currency.KRW, "2024-03-15", "2024-03-01"));
+        assertEquals("Target currency must be KRW", target.getMessage());
+        assertEquals("Start date must be before or equal to end date", reversed.getMessage());
+        assertThrows(DateTimeParseException.class,
+            () -> ChartRangeValidator.validate(Currency.KRW, "2024/03/01", "2024-03-15"));
+    }
+
+    @Test
+    void parse_ShouldReturnEmptyForMissingOrMalformedDates() {
+        // When & Then
+        assertTrue(ChartRangeValidator.parse(null, "2024-03-15").isEmpty());
+        assertTrue(ChartRangeValidator.parse("2024-3-1", "2024-03-15").isEmpty());
+        assertTrue(ChartRangeValidator.parse("2024-03-01", "2024-03-15").isPresent());
+    }
+}
@@ -0,0 +1,83 @@
+package com.txnow.application.exchange;
+
+import com.txnow.application.exchange.candle.CandleSeriesRegistry;
+import com.txnow.application.exchange.dto.ExchangeCommand.ExchangeChartCommand;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.application.exchange.indicator.IndicatorSeriesRegistry;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DownsampledChartCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = START.plusDays(59);
+
+    private final ExchangeRateProvider provider = mock(ExchangeRateProvider.class);
+    private final RateRangeIndexRegistry indexRegistry =
+        new RateRangeIndexRegistry(mock(ExchangeRateHistoryRepository.class));
+    private final DownsampledChartCache cache = new DownsampledChartCache(100, 3600);
+
+    private ExchangeRateService exchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        exchangeRateService = new ExchangeRateService(
+            provider,
+            new ExchangeChartMapper(),
+            indexRegistry,
+            cache,
+            mock(CandleSeriesRegistry.class),
+            mock(IndicatorSeriesRegistry.class),
+            mock(ExchangeRateSnapshotRegistry.class),
+            new ExchangeRateHistoryFetcher(provider, indexRegistry, Runnable::run),
+            mock(ExchangeRateHistoryRepository.class)
+        );
+        for (LocalDate date = START; !date.isAfter(END); date = date.plusDays(1)) {
+            publish(date, BigDecimal.valueOf(1300 + date.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    void get_ShouldRebuildDownsampledChartAfterCorrection() {
+        // Given
+        ExchangeChartResult before = downsampledChart();
+        ExchangeChartResult cached = downsampledChart();
+
+        // When: 구간 첫 일자(다운샘플링 시에도 유지되는 포인트) 보정
+        publish(START, new BigDecimal("1250"));
+        ExchangeChartResult after = downsampledChart();
+
+        // Then
+        assertSame(before, cached);
+        assertEquals(0, new BigDecimal("1301").compareTo(before.chartData().getFirst().rate()));
+        assertEquals(0, new BigDecimal("1250").compareTo(after.chartData().getFirst().rate()));
+        assertNotEquals(before.statistics().average(), after.statistics().average());
+        verify(provider, never()).getExchangeRateHistory(any(), any(), any());
+    }
+
+    private ExchangeChartResult downsampledChart() {
+        return exchangeRateService.getExchangeRateChart(new ExchangeChartCommand(
+            Currency.USD, Currency.KRW, START.toString(), END.toString(), 10, null));
+    }
+
+    /**
+     * 환율 저장 후 커밋 리스너 순서대로 반영 (인덱스 → 캐시)
+     */
+    private void publish(LocalDate date, BigDecimal rate) {
+        ExchangeRateUpdatedEvent event = new ExchangeRateUpdatedEvent(Currency.USD, date, rate);
+        indexRegistry.onExchangeRateUpdated(event);
+        cache.onExchangeRateUpdated(event);
+    }
+}
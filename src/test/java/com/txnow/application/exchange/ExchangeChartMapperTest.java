@@ -0,0 +1,163 @@
+package com.txnow.application.exchange;
+
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartColumnsResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeChartResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeMultiChartResult;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeChartMapperTest {
+
+    private final ExchangeChartMapper mapper = new ExchangeChartMapper();
+
+    @Test
+    void toChartResult_ShouldComputePointsStatisticsAndCurrentRateInOnePass() {
+        // Given
+        List<DailyRate> dailyRates = List.of(
+            new DailyRate(LocalDate.of(2024, 1, 2), new BigDecimal("1300.5")),
+            new DailyRate(LocalDate.of(2024, 1, 3), new BigDecimal("1310.25")),
+            new DailyRate(LocalDate.of(2024, 1, 4), new BigDecimal("1310.2500")),
+            new DailyRate(LocalDate.of(2024, 1, 5), new BigDecimal("1295.0"))
+        );
+
+        // When
+        ExchangeChartResult result = mapper.toChartResult(
+            Currency.USD, Currency.KRW, "2024-01-02", "2024-01-05", dailyRates);
+
+        // Then
+        assertEquals("2024-01-02 ~ 2024-01-05", result.period());
+        assertEquals(4, result.chartData().size());
+        assertEquals("2024-01-03", result.chartData().get(1).date());
+        assertEquals(BigDecimal.ZERO, result.chartData().get(0).dayChange());
+        assertEquals(new BigDecimal("0.75"), result.chartData().get(1).dayChange());
+        assertEquals(new BigDecimal("0.00"), result.chartData().get(2).dayChange());
+        assertEquals(new BigDecimal("-1.16"), result.chartData().get(3).dayChange());
+
+        // 동일 최고값은 먼저 나온 데이터의 표현을 유지
+        assertEquals("1310.25", result.statistics().high().toPlainString());
+        assertEquals("1295.0", result.statistics().low().toPlainString());
+        assertEquals(new BigDecimal("1304.0000"), result.statistics().average());
+
+        assertEquals(new BigDecimal("1295.0"), result.currentRate().rate());
+        assertEquals(new BigDecimal("-15.2500"), result.currentRate().change());
+        assertEquals(new BigDecimal("-1.16"), result.currentRate().changePercent());
+    }
+
+    @Test
+    void toChartResult_SinglePointShouldHaveZeroChange() {
+        List<DailyRate> dailyRates = List.of(
+            new DailyRate(LocalDate.of(2024, 1, 2), new BigDecimal("9.1234"))
+        );
+
+        ExchangeChartResult result = mapper.toChartResult(
+            Currency.JPY, Currency.KRW, "2024-01-02", "2024-01-02", dailyRates);
+
+        assertEquals(BigDecimal.ZERO, result.currentRate().change());
+        assertEquals(BigDecimal.ZERO, result.currentRate().changePercent());
+        assertEquals(new BigDecimal("9.1234"), result.statistics().average());
+    }
+
+    @Test
+    void toDownsampledChartResult_ShouldKeepEndpointsExtremesAndFullSeriesStatistics() {
+        // Given
+        Random random = new Random(42);
+        List<DailyRate> dailyRates = new ArrayList<>();
+        LocalDate date = LocalDate.of(2015, 1, 2);
+        long rate = 11_000_000L;
+        for (int i = 0; i < 2_500; i++) {
+            rate += random.nextInt(200_001) - 100_000;
+            dailyRates.add(new DailyRate(date, BigDecimal.valueOf(rate, 4)));
+            date = date.plusDays(1 + random.nextInt(2));
+        }
+
+        // When
+        ExchangeChartResult full = mapper.toChartResult(
+            Currency.USD, Currency.KRW, "2015-01-02", "2025-01-01", dailyRates);
+        ExchangeChartResult downsampled = mapper.toDownsampledChartResult(
+            Currency.USD, Currency.KRW, "2015-01-02", "2025-01-01", dailyRates, null, 200);
+
+        // Then
+        var points = downsampled.chartData();
+        assertTrue(points.size() <= 200);
+        assertEquals(full.chartData().getFirst(), points.getFirst());
+        assertEquals(full.chartData().getLast(), points.getLast());
+        assertTrue(points.stream().anyMatch(p -> p.rate() == full.statistics().high()));
+        assertTrue(points.stream().anyMatch(p -> p.rate() == full.statistics().low()));
+        assertTrue(full.chartData().containsAll(points));
+
+        assertEquals(full.statistics(), downsampled.statistics());
+        assertEquals(full.currentRate(), downsampled.currentRate());
+    }
+
+    @Test
+    void toChartColumnsResult_ShouldMatchPointFormWithoutPointObjects() {
+        // Given
+        List<DailyRate> dailyRates = new ArrayList<>();
+        Random random = new Random(7);
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 300; i++) {
+            date = date.plusDays(1 + random.nextInt(3));
+            dailyRates.add(new DailyRate(date, BigDecimal.valueOf(1300_0000L + random.nextInt(50_0000), 4)));
+        }
+
+        for (Integer maxPoints : Arrays.asList(null, 50)) {
+            // When
+            ExchangeChartResult points = maxPoints == null
+                ? mapper.toChartResult(Currency.USD, Currency.KRW, "2024-01-01", "2024-12-31", dailyRates)
+                : mapper.toDownsampledChartResult(Currency.USD, Currency.KRW, "2024-01-01", "2024-12-31", dailyRates, null, maxPoints);
+            ExchangeChartColumnsResult columns = mapper.toChartColumnsResult(
+                Currency.USD, Currency.KRW, "2024-01-01", "2024-12-31", dailyRates, null, maxPoints);
+
+            // Then
+            assertEquals(points.chartData().size(), columns.epochDays().length);
+            for (int i = 0; i < columns.epochDays().length; i++) {
+                assertEquals(points.chartData().get(i).date(), LocalDate.ofEpochDay(columns.epochDays()[i]).toString());
+                assertEquals(0, points.chartData().get(i).rate().compareTo(BigDecimal.valueOf(columns.scaledRates()[i], 4)));
+                assertEquals(0, points.chartData().get(i).dayChange().compareTo(BigDecimal.valueOf(columns.scaledDayChanges()[i], 2)));
+            }
+            assertEquals(points.statistics(), columns.statistics());
+            assertEquals(points.currentRate(), columns.currentRate());
+        }
+    }
+
+    @Test
+    void toChartResult_ShouldRejectEmptySeries() {
+        assertThrows(IllegalArgumentException.class, () -> mapper.toChartResult(
+            Currency.USD, Currency.KRW, "2024-01-02", "2024-01-05", List.of()));
+    }
+
+    @Test
+    void toMultiChartResult_ShouldAlignSeriesOnUnionOfDates() {
+        // Given
+        Map<Currency, List<DailyRate>> histories = new LinkedHashMap<>();
+        histories.put(Currency.USD, List.of(
+            new DailyRate(LocalDate.of(2024, 1, 2), new BigDecimal("1300")),
+            new DailyRate(LocalDate.of(2024, 1, 4), new BigDecimal("1310"))
+        ));
+        histories.put(Currency.JPY, List.of(
+            new DailyRate(LocalDate.of(2024, 1, 3), new BigDecimal("9.1")),
+            new DailyRate(LocalDate.of(2024, 1, 4), new BigDecimal("9.2"))
+        ));
+
+        // When
+        ExchangeMultiChartResult result = mapper.toMultiChartResult(Currency.KRW, "2024-01-01", "2024-01-05", histories);
+
+        // Then
+        assertEquals(List.of("2024-01-02", "2024-01-03", "2024-01-04"), result.dates());
+        assertEquals(Currency.USD, result.series().get(0).baseCurrency());
+        assertEquals(Arrays.asList(new BigDecimal("1300"), null, new BigDecimal("1310")), result.series().get(0).rates());
+        assertEquals(Arrays.asList(null, new BigDecimal("9.1"), new BigDecimal("9.2")), result.series().get(1).rates());
+    }
+}
@@ -0,0 +1,117 @@
+package com.txnow.application.exchange;
+
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.exception.ExchangeRateNotFoundException;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import com.txnow.domain.exchange.repository.ExchangeRateHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ExchangeRateHistoryFetcherTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 2);
+    private static final List<Currency> CURRENCIES = List.of(Currency.USD, Currency.EUR, Currency.JPY, Currency.CNY);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final RateRangeIndexRegistry indexRegistry =
+        new RateRangeIndexRegistry(mock(ExchangeRateHistoryRepository.class));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fetchAll_ShouldCallProviderConcurrentlyAndKeepRequestOrder() {
+        // Given: 모든 통화 조회가 동시에 진행 중이어야만 통과하는 Provider
+        CountDownLatch allStarted = new CountDownLatch(CURRENCIES.size());
+        ExchangeRateHistoryFetcher fetcher = new ExchangeRateHistoryFetcher(new StubProvider() {
+            @Override
+            public List<DailyRate> getExchangeRateHistory(Currency currency, LocalDate startDate, LocalDate endDate) {
+                allStarted.countDown();
+                try {
+                    assertTrue(allStarted.await(5, TimeUnit.SECONDS), "Provider calls were not concurrent");
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return List.of(new DailyRate(DATE, BigDecimal.valueOf(currency.ordinal() + 1)));
+            }
+        }, indexRegistry, executor);
+
+        // When
+        Map<Currency, List<DailyRate>> histories = fetcher.fetchAll(CURRENCIES, DATE, DATE);
+
+        // Then
+        assertEquals(CURRENCIES, List.copyOf(histories.keySet()));
+        assertEquals(BigDecimal.valueOf(Currency.EUR.ordinal() + 1), histories.get(Currency.EUR).getFirst().rate());
+    }
+
+    @Test
+    void fetchAll_ShouldRethrowProviderException() {
+        // Given
+        ExchangeRateHistoryFetcher fetcher = new ExchangeRateHistoryFetcher(new StubProvider() {
+            @Override
+            public List<DailyRate> getExchangeRateHistory(Currency currency, LocalDate startDate, LocalDate endDate) {
+                if (currency == Currency.JPY) {
+                    throw new ExchangeRateNotFoundException(currency);
+                }
+                return List.of(new DailyRate(DATE, BigDecimal.ONE));
+            }
+        }, indexRegistry, executor);
+
+        // When & Then
+        assertThrows(ExchangeRateNotFoundException.class, () -> fetcher.fetchAll(CURRENCIES, DATE, DATE));
+    }
+
+    @Test
+    void fetch_ShouldReadCoveredRangeFromIndexInsteadOfProvider() {
+        // Given: 인덱스에 보정 환율이 반영되었고 Provider(캐시)에는 보정 전 이력이 남아 있음
+        indexRegistry.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(Currency.USD, DATE, new BigDecimal("1300")));
+        indexRegistry.onExchangeRateUpdated(
+            new ExchangeRateUpdatedEvent(Currency.USD, DATE.plusDays(1), new BigDecimal("1310")));
+        indexRegistry.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(Currency.USD, DATE, new BigDecimal("1305")));
+        ExchangeRateHistoryFetcher fetcher = new ExchangeRateHistoryFetcher(new StubProvider() {
+            @Override
+            public List<DailyRate> getExchangeRateHistory(Currency currency, LocalDate startDate, LocalDate endDate) {
+                return List.of(
+                    new DailyRate(DATE.minusDays(1), new BigDecimal("1290")),
+                    new DailyRate(DATE, new BigDecimal("1300"))
+                );
+            }
+        }, indexRegistry, executor);
+
+        // When
+        List<DailyRate> covered = fetcher.fetch(Currency.USD, DATE, DATE.plusDays(1));
+        List<DailyRate> uncovered = fetcher.fetch(Currency.USD, DATE.minusDays(1), DATE);
+
+        // Then: 적재 범위 밖 구간만 Provider 조회
+        assertEquals(List.of(
+            new DailyRate(DATE, new BigDecimal("1305")),
+            new DailyRate(DATE.plusDays(1), new BigDecimal("1310"))
+        ), covered);
+        assertEquals(2, uncovered.size());
+        assertEquals(new BigDecimal("1300"), uncovered.getLast().rate());
+    }
+
+    private abstract static class StubProvider implements ExchangeRateProvider {
+        @Override
+        public BigDecimal getCurrentExchangeRate(Currency currency) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.txnow.application.exchange;
+
+import com.txnow.domain.exchange.event.ExchangeRateSnapshotPublishedEvent;
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExchangeRateSnapshotRegistryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 15);
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ExchangeRateSnapshotRegistry registry =
+        new ExchangeRateSnapshotRegistry(mock(ExchangeRateProvider.class), eventPublisher);
+
+    @Test
+    void onExchangeRateUpdated_ShouldIncreaseVersionForEveryChangedRate() {
+        // Given
+        ExchangeRateSnapshot initial = registry.current();
+
+        // When: 새 일자, 다른 통화, 같은 일자 일중 보정
+        update(Currency.USD, DATE, "1320.5000");
+        ExchangeRateSnapshot first = registry.current();
+        update(Currency.EUR, DATE, "1440.2500");
+        update(Currency.USD, DATE, "1322.0000");
+        ExchangeRateSnapshot corrected = registry.current();
+
+        // Then
+        assertEquals(initial.version() + 1, first.version());
+        assertEquals(first.version() + 2, corrected.version());
+        assertEquals(new BigDecimal("1322.0000"), corrected.rate(Currency.USD, Currency.KRW).orElseThrow());
+        assertEquals(new BigDecimal("1320.5000"), first.rate(Currency.USD, Currency.KRW).orElseThrow());
+        verify(eventPublisher, times(3)).publishEvent(any(ExchangeRateSnapshotPublishedEvent.class));
+    }
+
+    @Test
+    void onExchangeRateUpdated_ShouldSkipRateOlderThanSnapshotDate() {
+        // Given
+        update(Currency.USD, DATE, "1320.5000");
+        ExchangeRateSnapshot current = registry.current();
+
+        // When
+        update(Currency.USD, DATE.minusDays(1), "1310.0000");
+
+        // Then
+        assertSame(current, registry.current());
+        verify(eventPublisher, times(1)).publishEvent(any(ExchangeRateSnapshotPublishedEvent.class));
+    }
+
+    @Test
+    void onExchangeRateUpdated_ShouldSkipUnchangedRate() {
+        // Given
+        update(Currency.USD, DATE, "1320.5000");
+        ExchangeRateSnapshot current = registry.current();
+
+        // When: 같은 환율 재수집 (scale 만 다름, 다음 일자 포함)
+        update(Currency.USD, DATE, "1320.50");
+        update(Currency.USD, DATE.plusDays(1), "1320.5000");
+
+        // Then
+        assertSame(current, registry.current());
+        verify(eventPublisher, times(1)).publishEvent(any(ExchangeRateSnapshotPublishedEvent.class));
+    }
+
+    private void update(Currency currency, LocalDate date, String rate) {
+        registry.onExchangeRateUpdated(new ExchangeRateUpdatedEvent(currency, date, new BigDecimal(rate)));
+    }
+}
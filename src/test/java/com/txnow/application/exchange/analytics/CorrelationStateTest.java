@@ -0,0 +1,141 @@
+package com.txnow.application.exchange.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.txnow.domain.exchange.model.Currency;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CorrelationStateTest {
+
+    private static final Currency[] CURRENCIES = {Currency.USD, Currency.EUR, Currency.JPY};
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void append_ShouldMatchFullRebuild() {
+        // Given
+        int days = 120;
+        int window = 30;
+        long[][] rates = randomRates(days, 42L);
+        CorrelationState incremental = CorrelationState.build(CURRENCIES, window, dates(50), slice(rates, 50));
+
+        // When
+        for (int k = 50; k < days; k++) {
+            incremental.append(START.plusDays(k), column(rates, k));
+        }
+        CorrelationState rebuilt = CorrelationState.build(CURRENCIES, window, dates(days), rates);
+
+        // Then
+        CorrelationMatrix expected = rebuilt.matrix();
+        CorrelationMatrix actual = incremental.matrix();
+        assertEquals(expected.asOf(), actual.asOf());
+        assertEquals(window, actual.observations());
+        assertMatrixEquals(expected.covariance(), actual.covariance(), 1e-12);
+        assertMatrixEquals(expected.correlation(), actual.correlation(), 1e-9);
+        assertMatrixEquals(expected.beta(), actual.beta(), 1e-9);
+    }
+
+    @Test
+    void build_ShouldComputeCorrelationAndBetaByDefinition() {
+        // Given
+        int days = 40;
+        long[][] rates = randomRates(days, 7L);
+
+        // When
+        CorrelationMatrix matrix = CorrelationState.build(CURRENCIES, 60, dates(days), rates).matrix();
+
+        // Then
+        double[][] returns = new double[CURRENCIES.length][days - 1];
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            for (int k = 1; k < days; k++) {
+                returns[i][k - 1] = Math.log((double) rates[i][k] / rates[i][k - 1]);
+            }
+        }
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            for (int j = 0; j < CURRENCIES.length; j++) {
+                double covariance = covariance(returns[i], returns[j]);
+                double correlation = covariance / Math.sqrt(covariance(returns[i], returns[i]) * covariance(returns[j], returns[j]));
+                assertEquals(covariance, matrix.covariance()[i][j], 1e-12);
+                assertEquals(correlation, matrix.correlation()[i][j], 1e-9);
+                assertEquals(covariance / covariance(returns[j], returns[j]), matrix.beta()[i][j], 1e-9);
+            }
+        }
+        assertEquals(days - 1, matrix.observations());
+    }
+
+    @Test
+    void build_ShouldReturnEmptyMatrixWhenOnlyOneRate() {
+        // Given
+        long[][] rates = {{13_000_000L}, {14_000_000L}, {90_000L}};
+
+        // When
+        CorrelationMatrix matrix = CorrelationState.build(CURRENCIES, 20, dates(1), rates).matrix();
+
+        // Then
+        assertEquals(0, matrix.observations());
+        assertEquals(1, matrix.correlation()[0][0]);
+        assertEquals(0, matrix.correlation()[0][1]);
+    }
+
+    private static double covariance(double[] x, double[] y) {
+        double meanX = 0;
+        double meanY = 0;
+        for (int k = 0; k < x.length; k++) {
+            meanX += x[k] / x.length;
+            meanY += y[k] / y.length;
+        }
+        double sum = 0;
+        for (int k = 0; k < x.length; k++) {
+            sum += (x[k] - meanX) * (y[k] - meanY);
+        }
+        return sum / (x.length - 1);
+    }
+
+    private static long[][] randomRates(int days, long seed) {
+        Random random = new Random(seed);
+        long[][] rates = new long[CURRENCIES.length][days];
+        long[] base = {13_000_000L, 14_500_000L, 90_000L};
+        for (int k = 0; k < days; k++) {
+            double common = random.nextGaussian() * 0.005;
+            for (int i = 0; i < CURRENCIES.length; i++) {
+                double previous = k == 0 ? base[i] : rates[i][k - 1];
+                rates[i][k] = Math.round(previous * Math.exp(common * (i + 1) + random.nextGaussian() * 0.003));
+            }
+        }
+        return rates;
+    }
+
+    private static List<LocalDate> dates(int days) {
+        List<LocalDate> dates = new ArrayList<>(days);
+        for (int k = 0; k < days; k++) {
+            dates.add(START.plusDays(k));
+        }
+        return dates;
+    }
+
+    private static long[][] slice(long[][] rates, int days) {
+        long[][] sliced = new long[rates.length][];
+        for (int i = 0; i < rates.length; i++) {
+            sliced[i] = Arrays.copyOf(rates[i], days);
+        }
+        return sliced;
+    }
+
+    private static long[] column(long[][] rates, int k) {
+        long[] column = new long[rates.length];
+        for (int i = 0; i < rates.length; i++) {
+            column[i] = rates[i][k];
+        }
+        return column;
+    }
+
+    private static void assertMatrixEquals(double[][] expected, double[][] actual, double delta) {
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual[i], delta);
+        }
+    }
+}
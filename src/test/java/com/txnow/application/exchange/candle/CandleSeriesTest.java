@@ -0,0 +1,104 @@
+package com.txnow.application.exchange.candle;
+
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.domain.exchange.model.CandleInterval;
+import com.txnow.domain.exchange.model.DailyRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleSeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2015, 1, 1);
+
+    @Test
+    void slice_ShouldMatchCalendarGroupingOfClippedRange() {
+        // Given
+        List<DailyRate> dailyRates = randomDailyRates(new Random(11), 1_500);
+        RateRangeIndex index = RateRangeIndex.of(dailyRates);
+        LocalDate from = LocalDate.of(2016, 3, 17);
+        LocalDate to = LocalDate.of(2019, 8, 14);
+
+        for (CandleInterval interval : CandleInterval.values()) {
+            // When
+            List<Candle> candles = CandleSeries.build(index, interval).slice(index, from, to);
+
+            // Then
+            List<Candle> expected = bruteForce(dailyRates, interval, from, to);
+            assertEquals(expected, candles, interval.name());
+        }
+    }
+
+    @Test
+    void withBucketOf_ShouldMatchRebuiltSeriesAfterAppend() {
+        // Given
+        List<DailyRate> dailyRates = randomDailyRates(new Random(3), 400);
+        RateRangeIndex index = RateRangeIndex.of(dailyRates);
+        CandleSeries series = CandleSeries.build(index, CandleInterval.WEEK);
+        LocalDate to = dailyRates.getLast().date().plusDays(30);
+
+        // When: 같은 주 추가, 새 주 시작
+        LocalDate nextDate = dailyRates.getLast().date();
+        for (int i = 0; i < 10; i++) {
+            nextDate = nextDate.plusDays(1);
+            BigDecimal rate = BigDecimal.valueOf(1200 + i * 7 % 13);
+            dailyRates.add(new DailyRate(nextDate, rate));
+            index = RateRangeIndex.of(dailyRates);
+            series = series.withBucketOf(index, nextDate);
+        }
+
+        // Then
+        assertEquals(
+            CandleSeries.build(index, CandleInterval.WEEK).slice(index, START, to),
+            series.slice(index, START, to)
+        );
+        assertEquals(bruteForce(dailyRates, CandleInterval.WEEK, START, to), series.slice(index, START, to));
+    }
+
+    private static List<DailyRate> randomDailyRates(Random random, int count) {
+        List<DailyRate> dailyRates = new ArrayList<>();
+        LocalDate date = START;
+        for (int i = 0; i < count; i++) {
+            date = date.plusDays(1 + random.nextInt(3));
+            dailyRates.add(new DailyRate(date, BigDecimal.valueOf(11_000_000L + random.nextInt(3_000) * 1000L, 4)));
+        }
+        return dailyRates;
+    }
+
+    private static List<Candle> bruteForce(
+        List<DailyRate> dailyRates,
+        CandleInterval interval,
+        LocalDate from,
+        LocalDate to
+    ) {
+        Map<LocalDate, List<DailyRate>> buckets = new LinkedHashMap<>();
+        for (DailyRate dailyRate : dailyRates) {
+            if (dailyRate.date().isBefore(from) || dailyRate.date().isAfter(to)) {
+                continue;
+            }
+            buckets.computeIfAbsent(interval.bucketStart(dailyRate.date()), key -> new ArrayList<>()).add(dailyRate);
+        }
+
+        List<Candle> candles = new ArrayList<>();
+        buckets.forEach((periodStart, rates) -> candles.add(new Candle(
+            periodStart,
+            rates.getFirst().date(),
+            rates.getLast().date(),
+            rates.getFirst().rate(),
+            rates.stream().map(DailyRate::rate).max(Comparator.naturalOrder()).orElseThrow(),
+            rates.stream().map(DailyRate::rate).min(Comparator.naturalOrder()).orElseThrow(),
+            rates.getLast().rate(),
+            rates.size()
+        )));
+        return candles;
+    }
+}
@@ -0,0 +1,88 @@
+package com.txnow.application.exchange.dashboard;
+
+import com.txnow.application.exchange.ExchangeRateSnapshotRegistry;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult.ExchangeDashboardPoint;
+import com.txnow.application.exchange.dto.ExchangeResult.ExchangeDashboardResult.ExchangeDashboardRate;
+import com.txnow.application.exchange.index.RateRangeIndex;
+import com.txnow.application.exchange.index.RateRangeIndexRegistry;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.model.DailyRate;
+import com.txnow.domain.exchange.model.ExchangeRateSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExchangeDashboardRegistryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 15);
+
+    private final ExchangeRateSnapshotRegistry snapshotRegistry = mock(ExchangeRateSnapshotRegistry.class);
+    private final RateRangeIndexRegistry rangeIndexRegistry = mock(RateRangeIndexRegistry.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ExchangeDashboardRegistry registry =
+        new ExchangeDashboardRegistry(snapshotRegistry, rangeIndexRegistry, eventPublisher);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registry, "sparklineDays", 2L);
+        when(rangeIndexRegistry.find(any())).thenReturn(Optional.empty());
+        when(rangeIndexRegistry.findModifiedAt(any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void rebuild_ShouldUseSnapshotRateAndIndexedHistoryForChangeAndSparkline() {
+        // Given
+        when(snapshotRegistry.current()).thenReturn(ExchangeRateSnapshot.initial()
+            .withKrwRate(Currency.USD, new BigDecimal("1320.0000"), DATE));
+        when(rangeIndexRegistry.find(Currency.USD)).thenReturn(Optional.of(RateRangeIndex.of(List.of(
+            new DailyRate(DATE.minusDays(3), new BigDecimal("1290.0000")),
+            new DailyRate(DATE.minusDays(2), new BigDecimal("1300.0000")),
+            new DailyRate(DATE.minusDays(1), new BigDecimal("1310.0000"))
+        ))));
+
+        // When
+        registry.rebuild();
+
+        // Then
+        ExchangeDashboardResult dashboard = registry.current().orElseThrow();
+        assertEquals(1, dashboard.version());
+        assertEquals(1, dashboard.rates().size());
+
+        ExchangeDashboardRate usd = dashboard.rates().getFirst();
+        assertEquals(Currency.USD, usd.baseCurrency());
+        assertEquals(new BigDecimal("1320.0000"), usd.rate());
+        assertEquals(new BigDecimal("10.0000"), usd.change());
+        assertEquals(new BigDecimal("0.76"), usd.changePercent());
+        assertEquals(List.of(
+            new ExchangeDashboardPoint("2024-03-14", new BigDecimal("1310.0000")),
+            new ExchangeDashboardPoint("2024-03-15", new BigDecimal("1320.0000"))
+        ), usd.sparkline());
+        verify(eventPublisher).publishEvent(new ExchangeDashboardUpdatedEvent(dashboard));
+    }
+
+    @Test
+    void rebuild_ShouldSkipWhenSourceVersionUnchanged() {
+        // Given
+        when(snapshotRegistry.current()).thenReturn(ExchangeRateSnapshot.initial()
+            .withKrwRate(Currency.USD, new BigDecimal("1320.0000"), DATE));
+
+        // When
+        registry.rebuild();
+        registry.rebuild();
+
+        // Then
+        assertEquals(1, registry.current().orElseThrow().version());
+        verify(eventPublisher, times(1)).publishEvent(any(ExchangeDashboardUpdatedEvent.class));
+    }
+}
@@ -0,0 +1,125 @@
+package com.txnow.application.exchange.index;
+
+import com.txnow.domain.exchange.model.DailyRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateRangeIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void statistics_ShouldMatchBruteForceForArbitraryWindows() {
+        // Given: 주말 등 빠진 날짜가 있는 시계열, 일부는 증분 추가
+        Random random = new Random(7);
+        List<DailyRate> dailyRates = new ArrayList<>();
+        LocalDate date = START;
+        for (int i = 0; i < 700; i++) {
+            date = date.plusDays(1 + random.nextInt(3));
+            // 좁은 범위 값으로 동일 최고/최저값이 자주 나오도록 구성
+            dailyRates.add(new DailyRate(date, BigDecimal.valueOf(13_000_000L + random.nextInt(50) * 1000L, 4)));
+        }
+
+        RateRangeIndex index = RateRangeIndex.of(dailyRates.subList(0, 300));
+        for (DailyRate dailyRate : dailyRates.subList(300, dailyRates.size())) {
+            index.append(dailyRate.date(), dailyRate.rate());
+        }
+
+        // When & Then
+        LocalDate lastDate = dailyRates.getLast().date();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate from = START.plusDays(random.nextInt((int) (lastDate.toEpochDay() - START.toEpochDay()) + 10));
+            LocalDate to = from.plusDays(random.nextInt(400));
+
+            List<DailyRate> window = dailyRates.stream()
+                .filter(r -> !r.date().isBefore(from) && !r.date().isAfter(to))
+                .toList();
+
+            var statistics = index.statistics(from, to);
+            if (window.isEmpty()) {
+                assertTrue(statistics.isEmpty());
+                continue;
+            }
+
+            BigDecimal sum = window.stream().map(DailyRate::rate).reduce(BigDecimal.ZERO, BigDecimal::add);
+            var actual = statistics.orElseThrow();
+            assertEquals(window.size(), actual.count());
+            assertEquals(window.getFirst().date(), actual.firstDate());
+            assertEquals(window.getLast().date(), actual.lastDate());
+            assertSame(window.stream().map(DailyRate::rate).max(Comparator.naturalOrder()).orElseThrow(), actual.high());
+            assertSame(window.stream().map(DailyRate::rate).min(Comparator.naturalOrder()).orElseThrow(), actual.low());
+            assertEquals(sum.divide(BigDecimal.valueOf(window.size()), 4, RoundingMode.HALF_UP), actual.average());
+        }
+    }
+
+    @Test
+    void withRate_ShouldReplaceExistingDateAndInsertMissingDate() {
+        RateRangeIndex index = RateRangeIndex.of(List.of(
+            new DailyRate(START, new BigDecimal("1300")),
+            new DailyRate(START.plusDays(2), new BigDecimal("1320"))
+        ));
+
+        RateRangeIndex replaced = index
+            .withRate(START.plusDays(2), new BigDecimal("1340"))
+            .withRate(START.plusDays(1), new BigDecimal("1290"));
+
+        var statistics = replaced.statistics(START, START.plusDays(2)).orElseThrow();
+        assertEquals(3, statistics.count());
+        assertEquals(new BigDecimal("1340"), statistics.high());
+        assertEquals(new BigDecimal("1290"), statistics.low());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void withRate_ShouldNotWidenCoverageOverMissingDays() {
+        RateRangeIndex index = RateRangeIndex.of(List.of(new DailyRate(START, new BigDecimal("1300"))));
+
+        // 적재 시작일보다 한참 이전 일자: 사이 일자가 없으므로 적재 범위 유지
+        RateRangeIndex earlier = index.withRate(START.minusDays(10), new BigDecimal("1280"));
+        assertFalse(earlier.covers(START.minusDays(10)));
+        assertTrue(earlier.covers(START));
+        assertEquals(2, earlier.size());
+
+        // 적재 시작일 바로 전날: 빈 구간이 없으므로 그 일자부터 적재
+        RateRangeIndex previousDay = index.withRate(START.minusDays(1), new BigDecimal("1290"));
+        assertTrue(previousDay.covers(START.minusDays(1)));
+    }
+
+    @Test
+    void append_ShouldRejectDateNotAfterLastDate() {
+        RateRangeIndex index = RateRangeIndex.of(List.of(new DailyRate(START, new BigDecimal("1300"))));
+
+        assertThrows(IllegalArgumentException.class, () -> index.append(START, new BigDecimal("1310")));
+    }
+
+    @Test
+    void fingerprint_ShouldChangeOnlyWhenRangeDataChanges() {
+        RateRangeIndex index = RateRangeIndex.of(List.of(
+            new DailyRate(START, new BigDecimal("1300")),
+            new DailyRate(START.plusDays(1), new BigDecimal("1310"))
+        ));
+        long closedRange = index.fingerprint(START, START.plusDays(1));
+        long openRange = index.fingerprint(START, START.plusDays(30));
+
+        // 구간 밖 일자 추가는 닫힌 구간에 영향 없음
+        index.append(START.plusDays(2), new BigDecimal("1320"));
+        assertEquals(closedRange, index.fingerprint(START, START.plusDays(1)));
+        assertNotEquals(openRange, index.fingerprint(START, START.plusDays(30)));
+
+        // 같은 데이터로 만든 인덱스는 같은 값, 구간 내 보정은 다른 값
+        RateRangeIndex rebuilt = RateRangeIndex.of(index.toDailyRates());
+        assertEquals(index.fingerprint(START, START.plusDays(30)), rebuilt.fingerprint(START, START.plusDays(30)));
+        RateRangeIndex corrected = index.withRate(START.plusDays(1), new BigDecimal("1311"));
+        assertNotEquals(closedRange, corrected.fingerprint(START, START.plusDays(1)));
+        assertEquals(0, index.fingerprint(START.minusDays(10), START.minusDays(1)));
+    }
+}
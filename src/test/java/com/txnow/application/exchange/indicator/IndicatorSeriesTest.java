@@ -0,0 +1,126 @@
+package com.txnow.application.exchange.indicator;
+
+import com.txnow.domain.exchange.model.DailyRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndicatorSeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void sma_ShouldMatchWindowAverageAndIncrementalAppend() {
+        // Given
+        List<DailyRate> dailyRates = randomDailyRates(500);
+        IndicatorSpec spec = IndicatorSpec.parse("sma:20");
+
+        // When: 일부는 생성 시, 나머지는 증분 반영
+        IndicatorSeries series = IndicatorSeries.of(spec, dailyRates.subList(0, 100));
+        for (DailyRate dailyRate : dailyRates.subList(100, dailyRates.size())) {
+            series.add(dailyRate.date(), dailyRate.rate());
+        }
+
+        // Then
+        List<IndicatorPoint> points = series.slice(START, dailyRates.getLast().date());
+        assertEquals(dailyRates.size() - 19, points.size());
+        for (int i = 0; i < points.size(); i++) {
+            BigDecimal sum = dailyRates.subList(i, i + 20).stream()
+                .map(DailyRate::rate)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertEquals(dailyRates.get(i + 19).date(), points.get(i).date());
+            assertEquals(sum.divide(BigDecimal.valueOf(20), 4, RoundingMode.HALF_UP), points.get(i).value());
+            assertNull(points.get(i).upper());
+        }
+    }
+
+    @Test
+    void bollingerAndEma_ShouldMatchRecomputation() {
+        // Given
+        List<DailyRate> dailyRates = randomDailyRates(300);
+
+        // When
+        List<IndicatorPoint> bands = IndicatorSeries.of(IndicatorSpec.parse("bollinger:20:2"), dailyRates)
+            .slice(START, dailyRates.getLast().date());
+        List<IndicatorPoint> ema = IndicatorSeries.of(IndicatorSpec.parse("ema:10"), dailyRates)
+            .slice(START, dailyRates.getLast().date());
+
+        // Then
+        for (int i = 0; i < bands.size(); i++) {
+            double[] window = dailyRates.subList(i, i + 20).stream().mapToDouble(r -> r.rate().doubleValue()).toArray();
+            double mean = Arrays.stream(window).average().orElseThrow();
+            double deviation = Math.sqrt(Arrays.stream(window).map(v -> (v - mean) * (v - mean)).sum() / 20);
+            assertEquals(mean + 2 * deviation, bands.get(i).upper().doubleValue(), 0.0002);
+            assertEquals(mean - 2 * deviation, bands.get(i).lower().doubleValue(), 0.0002);
+        }
+
+        double expected = dailyRates.subList(0, 10).stream().mapToDouble(r -> r.rate().doubleValue()).average().orElseThrow();
+        assertEquals(expected, ema.getFirst().value().doubleValue(), 0.0001);
+        for (int i = 1; i < ema.size(); i++) {
+            expected += 2.0 / 11 * (dailyRates.get(i + 9).rate().doubleValue() - expected);
+            assertEquals(expected, ema.get(i).value().doubleValue(), 0.0001);
+        }
+    }
+
+    @Test
+    void volatility_ShouldBeZeroForConstantGrowthRate() {
+        // Given: 매일 같은 비율로 상승하면 로그 수익률 분산이 0
+        List<DailyRate> dailyRates = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            dailyRates.add(new DailyRate(START.plusDays(i), BigDecimal.valueOf(1000).multiply(BigDecimal.valueOf(2).pow(i))));
+        }
+
+        // When
+        List<IndicatorPoint> points = IndicatorSeries.of(IndicatorSpec.parse("volatility:20"), dailyRates)
+            .slice(START, START.plusDays(40));
+
+        // Then
+        assertEquals(40 - 20, points.size());
+        points.forEach(point -> assertEquals(0, point.value().signum()));
+    }
+
+    @Test
+    void rollingWindow_ShouldRejectOverflowWithoutChangingState() {
+        // Given
+        RollingWindow window = new RollingWindow(2);
+        window.add(10);
+        window.add(20);
+
+        // When: 제곱합 overflow
+        assertThrows(ArithmeticException.class, () -> window.add(4_000_000_000L));
+
+        // Then: 실패한 값은 반영되지 않고 다음 값은 가장 오래된 값을 밀어냄
+        assertEquals(30, window.sum());
+        window.add(30);
+        assertEquals(50, window.sum());
+        assertEquals(25, window.variance(), 1e-9);
+    }
+
+    @Test
+    void parse_ShouldRejectInvalidSpecs() {
+        assertEquals(new IndicatorSpec(IndicatorType.BOLLINGER, 20, 2.0), IndicatorSpec.parse("BOLLINGER:20"));
+        assertThrows(IllegalArgumentException.class, () -> IndicatorSpec.parse("sma"));
+        assertThrows(IllegalArgumentException.class, () -> IndicatorSpec.parse("sma:1"));
+        assertThrows(IllegalArgumentException.class, () -> IndicatorSpec.parse("ema:20:2"));
+        assertThrows(IllegalArgumentException.class, () -> IndicatorSpec.parse("macd:12"));
+    }
+
+    private static List<DailyRate> randomDailyRates(int count) {
+        Random random = new Random(5);
+        List<DailyRate> dailyRates = new ArrayList<>();
+        LocalDate date = START;
+        for (int i = 0; i < count; i++) {
+            date = date.plusDays(1 + random.nextInt(3));
+            dailyRates.add(new DailyRate(date, BigDecimal.valueOf(12_000_000L + random.nextInt(2_000_000), 4)));
+        }
+        return dailyRates;
+    }
+}
@@ -0,0 +1,46 @@
+package com.txnow.domain.exchange.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrossRateMatrixTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 15);
+
+    @Test
+    void rate_ShouldTriangulateThroughKrw() {
+        // Given
+        CrossRateMatrix matrix = CrossRateMatrix.empty()
+            .withKrwRate(Currency.USD, new BigDecimal("1320.5000"), DATE)
+            .withKrwRate(Currency.EUR, new BigDecimal("1440.2500"), DATE);
+
+        // When & Then
+        assertEquals(new BigDecimal("1320.5000"), matrix.rate(Currency.USD, Currency.KRW).orElseThrow());
+        assertEquals(new BigDecimal("0.9168547127"), matrix.rate(Currency.USD, Currency.EUR).orElseThrow());
+        assertEquals(new BigDecimal("1.0906853465"), matrix.rate(Currency.EUR, Currency.USD).orElseThrow());
+        assertEquals(new BigDecimal("0.0007572889"), matrix.rate(Currency.KRW, Currency.USD).orElseThrow());
+        assertEquals(BigDecimal.ONE, matrix.rate(Currency.EUR, Currency.EUR).orElseThrow());
+        assertTrue(matrix.rate(Currency.USD, Currency.JPY).isEmpty());
+    }
+
+    @Test
+    void withKrwRate_ShouldNotModifyExistingMatrix() {
+        // Given
+        CrossRateMatrix matrix = CrossRateMatrix.empty()
+            .withKrwRate(Currency.USD, new BigDecimal("1300"), DATE);
+
+        // When
+        CrossRateMatrix updated = matrix.withKrwRate(Currency.USD, new BigDecimal("1400"), DATE.plusDays(1));
+
+        // Then
+        assertEquals(new BigDecimal("1300"), matrix.rate(Currency.USD, Currency.KRW).orElseThrow());
+        assertEquals(new BigDecimal("1400"), updated.rate(Currency.USD, Currency.KRW).orElseThrow());
+        assertEquals(DATE.plusDays(1), updated.rateDate(Currency.USD).orElseThrow());
+        assertThrows(IllegalArgumentException.class,
+            () -> matrix.withKrwRate(Currency.KRW, BigDecimal.ONE, DATE));
+    }
+}
@@ -0,0 +1,85 @@
+package com.txnow.domain.exchange.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeRateCalculatorTest {
+
+    private static final long SEED = 20240101L;
+
+    @Test
+    void calculateChangePercentage_FixedPointShouldMatchBigDecimal() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < 100_000; i++) {
+            long current = 1 + random.nextInt(20_000_000);
+            long previous = 1 + random.nextInt(20_000_000);
+
+            BigDecimal expected = ExchangeRateCalculator.calculateChangePercentage(
+                BigDecimal.valueOf(current, FixedPoint.RATE_SCALE),
+                BigDecimal.valueOf(previous, FixedPoint.RATE_SCALE)
+            );
+            long actual = ExchangeRateCalculator.calculateChangePercentage(current, previous);
+
+            assertEquals(expected, FixedPoint.toBigDecimal(actual, FixedPoint.PERCENT_SCALE),
+                () -> "current=" + current + ", previous=" + previous);
+        }
+    }
+
+    @Test
+    void calculateChangePercentage_ShouldRoundHalfUpAwayFromZero() {
+        // 비율 ±0.00005 는 소수점 4자리에서 ±0.0001 로 반올림 → ±0.01%
+        assertEquals(1, ExchangeRateCalculator.calculateChangePercentage(1_000_050L, 1_000_000L));
+        assertEquals(-1, ExchangeRateCalculator.calculateChangePercentage(999_950L, 1_000_000L));
+        assertEquals(0, ExchangeRateCalculator.calculateChangePercentage(1_000_000L, 0L));
+    }
+
+    @Test
+    void calculateConvertedAmount_FixedPointShouldMatchBigDecimal() {
+        Random random = new Random(SEED);
+
+        for (Currency currency : Currency.values()) {
+            for (int i = 0; i < 20_000; i++) {
+                BigDecimal amount = BigDecimal.valueOf(1 + random.nextInt(100_000_000), currency.getDecimalPlaces());
+                BigDecimal rate = BigDecimal.valueOf(1 + random.nextInt(20_000_000), random.nextInt(5));
+
+                BigDecimal expected = ExchangeRateCalculator.calculateConvertedAmount(amount, rate);
+                BigDecimal actual = ExchangeRateCalculator.calculateConvertedAmount(amount, currency, rate);
+
+                assertEquals(expected, actual, () -> "amount=" + amount + ", rate=" + rate);
+            }
+        }
+    }
+
+    @Test
+    void calculateConvertedAmount_ShouldFallBackWhenNotRepresentable() {
+        BigDecimal amount = new BigDecimal("100.555");
+        BigDecimal rate = new BigDecimal("1320.123456");
+
+        assertEquals(
+            ExchangeRateCalculator.calculateConvertedAmount(amount, rate),
+            ExchangeRateCalculator.calculateConvertedAmount(amount, Currency.USD, rate)
+        );
+
+        BigDecimal hugeAmount = new BigDecimal("900000000000000.00");
+        assertEquals(
+            ExchangeRateCalculator.calculateConvertedAmount(hugeAmount, new BigDecimal("1320.50")),
+            ExchangeRateCalculator.calculateConvertedAmount(hugeAmount, Currency.USD, new BigDecimal("1320.50"))
+        );
+    }
+
+    @Test
+    void calculateAverage_ShouldMatchBigDecimalDivide() {
+        long sum = 13_205_005L + 13_210_000L + 13_199_999L;
+        BigDecimal expected = BigDecimal.valueOf(sum, FixedPoint.RATE_SCALE)
+            .divide(BigDecimal.valueOf(3), FixedPoint.RATE_SCALE, RoundingMode.HALF_UP);
+
+        assertEquals(expected, FixedPoint.toBigDecimal(
+            ExchangeRateCalculator.calculateAverage(sum, 3), FixedPoint.RATE_SCALE));
+    }
+}
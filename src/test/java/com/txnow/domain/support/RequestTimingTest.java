@@ -0,0 +1,46 @@
+package com.txnow.domain.support;
+
+import com.txnow.domain.support.RequestTiming.Stage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.end();
+    }
+
+    @Test
+    void time_ShouldExcludeNestedStageFromOuterStage() {
+        // Given
+        RequestTiming timing = RequestTiming.begin();
+
+        // When: 차트 변환 중 DB 묶음 조회
+        RequestTiming.time(Stage.MAPPER, () -> {
+            sleep(20);
+            RequestTiming.time(Stage.DB, () -> sleep(50));
+            return null;
+        });
+
+        // Then: 바깥 단계에는 안쪽 단계 시간이 포함되지 않는다
+        long mapperMillis = TimeUnit.NANOSECONDS.toMillis(timing.nanos(Stage.MAPPER));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(timing.nanos(Stage.DB)) >= 50);
+        assertTrue(mapperMillis >= 20 && mapperMillis < 50, "mapper=" + mapperMillis);
+        assertEquals(1, timing.count(Stage.MAPPER));
+        assertEquals(1, timing.count(Stage.DB));
+    }
+
+    private static Object sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.txnow.infrastructure.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRedisSerializerTest {
+
+    @Test
+    void serializeAndDeserialize_ShouldRecordEventsWithSizeAndType(@TempDir Path directory) throws Exception {
+        // Given
+        JfrRedisSerializer<String> serializer = new JfrRedisSerializer<>(new StringRedisSerializer());
+        Path file = directory.resolve("redis.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(RedisSerializationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            byte[] bytes = serializer.serialize("1390.5");
+            assertEquals("1390.5", serializer.deserialize(bytes));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.txnow.RedisSerialization"))
+            .toList();
+        assertEquals(2, events.size());
+        assertEquals("serialize", events.get(0).getString("operation"));
+        assertEquals("deserialize", events.get(1).getString("operation"));
+        assertEquals("java.lang.String", events.get(1).getString("valueType"));
+        assertEquals(6, events.get(0).getLong("bytes"));
+    }
+}
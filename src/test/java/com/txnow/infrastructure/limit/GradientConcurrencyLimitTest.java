@@ -0,0 +1,102 @@
+package com.txnow.infrastructure.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void tryAcquire_ShouldRejectWhenInflightReachesLimit() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(3, 1, 10);
+
+        // When & Then
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        limit.release(FAST, false);
+        assertTrue(limit.tryAcquire());
+        assertEquals(3, limit.inflight());
+    }
+
+    @Test
+    void release_ShouldShrinkLimitWhenLatencyGrowsAndRecoverAfterward() {
+        // Given: 안정 지연 시간에서 한도를 채워 사용
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 100);
+        saturate(limit, FAST, 200);
+        int steady = limit.limit();
+        assertTrue(steady > 20);
+
+        // When: upstream 지연으로 처리 시간 증가
+        saturate(limit, SLOW, 50);
+
+        // Then: 한도가 최소값 근처까지 줄어들고
+        int degraded = limit.limit();
+        assertTrue(degraded < steady / 2, "degraded=" + degraded + ", steady=" + steady);
+        assertTrue(degraded >= 4);
+
+        // 지연 해소 후 다시 증가
+        saturate(limit, FAST, 200);
+        assertTrue(limit.limit() > degraded);
+    }
+
+    @Test
+    void release_ShouldBackOffOnDroppedAndIgnoreUnderusedSamples() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 100);
+
+        // When: 한도 절반 미만 사용 중 샘플은 무시
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW, false);
+        }
+        assertEquals(20, limit.limit());
+
+        // Then: 실패 응답은 한도 감소
+        limit.tryAcquire();
+        limit.release(FAST, true);
+        assertEquals(18, limit.limit());
+    }
+
+    @Test
+    void releaseUnsampled_ShouldReturnSlotWithoutChangingLimit() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 100);
+        fill(limit);
+
+        // When: 한도를 채운 상태에서 느린 요청 반환
+        for (int i = 0; i < 50; i++) {
+            limit.releaseUnsampled();
+            fill(limit);
+        }
+
+        // Then
+        assertEquals(20, limit.limit());
+        assertEquals(20, limit.inflight());
+    }
+
+    /**
+     * 한도까지 채운 상태를 유지하며 rounds 회 반환/재획득
+     */
+    private static void saturate(GradientConcurrencyLimit limit, long rttNanos, int rounds) {
+        fill(limit);
+        for (int i = 0; i < rounds; i++) {
+            limit.release(rttNanos, false);
+            fill(limit);
+        }
+    }
+
+    private static void fill(GradientConcurrencyLimit limit) {
+        while (limit.tryAcquire()) {
+            // 한도까지 획득
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.txnow.infrastructure.provider;
+
+import com.txnow.domain.exchange.event.ExchangeRateUpdatedEvent;
+import com.txnow.domain.exchange.model.Currency;
+import com.txnow.domain.exchange.provider.ExchangeRateProvider;
+import com.txnow.infrastructure.cache.CacheKeyGenerator;
+import com.txnow.infrastructure.metrics.ProviderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CachedExchangeRateProviderTest {
+
+    private final ExchangeRateProvider delegate = mock(ExchangeRateProvider.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private CachedExchangeRateProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        provider = new CachedExchangeRateProvider(delegate, redisTemplate, new CacheKeyGenerator(),
+            new ProviderMetrics(registry));
+    }
+
+    @Test
+    void getCurrentExchangeRate_ShouldRecordRedisHitAndMissPerCurrency() {
+        // Given: USD 는 Redis 에 있고 JPY 는 없음
+        when(valueOperations.get(contains(":USD:"))).thenReturn(new BigDecimal("1390.5"));
+        when(delegate.getCurrentExchangeRate(Currency.JPY)).thenReturn(new BigDecimal("9.31"));
+
+        // When
+        provider.getCurrentExchangeRate(Currency.USD);
+        provider.getCurrentExchangeRate(Currency.USD);
+        provider.getCurrentExchangeRate(Currency.JPY);
+
+        // Then
+        assertEquals(2, requests("hit", Currency.USD));
+        assertEquals(0, requests("miss", Currency.USD));
+        assertEquals(1, requests("miss", Currency.JPY));
+        assertEquals(3, registry.get("fxnow.provider.latency")
+            .tags("tier", "redis", "operation", "current").timer().count());
+        verify(delegate, never()).getCurrentExchangeRate(Currency.USD);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onExchangeRateUpdated_ShouldDeleteHistoryKeysContainingCorrectedDate() {
+        // Given: 보정 일자를 포함하는 구간, 이후 구간, 프리셋 키
+        Cursor<String> keys = mock(Cursor.class);
+        when(keys.hasNext()).thenReturn(true, true, true, false);
+        when(keys.next()).thenReturn(
+            "fxnow:chart:USD:2024-01-01_2024-03-31",
+            "fxnow:chart:USD:2024-03-01_2024-03-31",
+            "fxnow:chart:USD:1m");
+        doCallRealMethod().when(keys).forEachRemaining(any());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(keys);
+
+        // When
+        provider.onExchangeRateUpdated(
+            new ExchangeRateUpdatedEvent(Currency.USD, LocalDate.of(2024, 2, 15), new BigDecimal("1330.5")));
+
+        // Then
+        verify(redisTemplate).delete(List.of("fxnow:chart:USD:2024-01-01_2024-03-31"));
+        verify(keys).close();
+    }
+
+    private double requests(String result, Currency currency) {
+        return registry.get("fxnow.provider.requests")
+            .tags("tier", "redis", "operation", "current", "result", result, "currency", currency.name())
+            .counter().count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.txnow.infrastructure.quota;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long WINDOW = 100;
+
+    @Test
+    void tryConsume_ShouldAllowBurstThenRefillAtLimitRate() {
+        // Given: burst 5, 분당 60 (1초에 1개)
+        TokenBucket bucket = new TokenBucket(5, 60, WINDOW_NANOS, 0);
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryConsume(0, WINDOW));
+        }
+        assertFalse(bucket.tryConsume(0, WINDOW));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), bucket.nanosUntilAvailable(0, WINDOW_NANOS), 1);
+
+        assertTrue(bucket.tryConsume(TimeUnit.SECONDS.toNanos(1), WINDOW));
+        assertFalse(bucket.tryConsume(TimeUnit.SECONDS.toNanos(1), WINDOW));
+    }
+
+    @Test
+    void applyClusterUsage_ShouldLimitByClusterRemainingWithinWindow() {
+        // Given: 로컬 토큰은 충분하지만 다른 노드가 window 한도 대부분을 사용
+        TokenBucket bucket = new TokenBucket(50, 10, WINDOW_NANOS, 0);
+        assertTrue(bucket.tryConsume(0, WINDOW));
+        assertTrue(bucket.tryConsume(0, WINDOW));
+        assertEquals(2, bucket.drainUnsynced(WINDOW));
+
+        // 동기화 직후 사용한 1건은 다음 동기화 대상
+        assertTrue(bucket.tryConsume(0, WINDOW));
+
+        // When: Redis 합산 결과 클러스터 사용량 8 (이 노드 2 + 다른 노드 6)
+        bucket.applyClusterUsage(WINDOW, 8);
+
+        // Then: 10 - 8 - 미반영 1 = 1건만 더 허용
+        assertTrue(bucket.tryConsume(0, WINDOW));
+        assertFalse(bucket.tryConsume(0, WINDOW));
+        assertEquals(WINDOW_NANOS, bucket.nanosUntilAvailable(0, WINDOW_NANOS));
+        assertEquals(2, bucket.drainUnsynced(WINDOW));
+
+        // 다음 window 에서는 클러스터 사용량 초기화
+        assertTrue(bucket.tryConsume(0, WINDOW + 1));
+        assertEquals(0, bucket.drainUnsynced(WINDOW));
+    }
+}